@@ -0,0 +1,175 @@
+package parser;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.duke.BenchmarkLedger;
+import seedu.duke.FinancialGoal;
+import seedu.duke.Storage;
+import seedu.duke.TransactionManager;
+import ui.Ui;
+
+/**
+ * Per-command parse cost of {@link Parser}. The {@code legacy} benchmarks repeat the earlier approach of
+ * lower-casing and splitting the input and compiling one regex per field on every call, as a baseline for
+ * the prefix tokenizer and dispatch table. The {@code dispatch} benchmarks run whole commands against ledgers of
+ * growing size, with saving deferred so that only parsing and execution are measured, against a temporary data
+ * folder so that the {@code data} folder of the working directory is neither read nor written.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class ParserBenchmark {
+    private static final String ADD_INPUT = "add d/Iced latte with oat milk a/6.80 c/food t/2025-04-01";
+    private static final String NOTIFY_INPUT = "notify d/Pay rent c/housing t/2025-05-01";
+    private static final String[] ADD_PATTERNS = {
+        "d/(.*?)(?:\\s+[act]/|$)",
+        "a/(.*?)(?:\\s+[dct]/|$)",
+        "c/(.*?)(?:\\s+[dat]/|$)",
+        "t/(.*?)(?:\\s+[dac]/|$)",
+    };
+    private static final String[] NOTIFY_PATTERNS = {
+        "d/(.*?)(?:\\s+[ac]/|$)",
+        "c/(.*?)(?:\\s+[at]/|$)",
+        "t/(.*?)(?:\\s+[da]/|$)",
+    };
+
+    private PrintStream originalOut;
+    private Ui ui;
+    private FinancialGoal goal;
+    private Path dataFolder;
+    private Storage storage;
+
+    /**
+     * The ledger the dispatched commands act on.
+     */
+    @State(Scope.Thread)
+    public static class Ledger {
+        @Param({BenchmarkLedger.SIZE_1K, BenchmarkLedger.SIZE_100K, BenchmarkLedger.SIZE_1M})
+        private int ledgerSize;
+
+        private TransactionManager transactions;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            transactions = BenchmarkLedger.manager(ledgerSize);
+        }
+    }
+
+    /**
+     * A ledger that {@link #dispatchAdd(Growing)} adds to, rebuilt before every iteration of a fixed batch of
+     * commands so that its size stays close to the parameter.
+     */
+    @State(Scope.Thread)
+    public static class Growing {
+        /** Commands run per iteration. */
+        static final int BATCH = 10_000;
+
+        private TransactionManager transactions;
+
+        @Setup(Level.Iteration)
+        public void setUp(Ledger ledger) {
+            transactions = BenchmarkLedger.manager(ledger.ledgerSize);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        ui = new Ui();
+        goal = new FinancialGoal();
+        dataFolder = Files.createTempDirectory("duke-jmh");
+        storage = BenchmarkLedger.storage(dataFolder);
+        storage.setSavingDeferred(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        System.setOut(originalOut);
+        BenchmarkLedger.deleteDataFolder(dataFolder);
+    }
+
+    @Benchmark
+    public String[] legacyAdd() {
+        return legacyTokenize(ADD_INPUT, ADD_PATTERNS);
+    }
+
+    @Benchmark
+    public String[] add() throws Exception {
+        return Parser.tokenizeAdd(arguments(ADD_INPUT));
+    }
+
+    @Benchmark
+    public String[] legacyNotify() {
+        return legacyTokenize(NOTIFY_INPUT, NOTIFY_PATTERNS);
+    }
+
+    @Benchmark
+    public String[] notifyCommand() throws Exception {
+        return Parser.tokenizeNotify(arguments(NOTIFY_INPUT));
+    }
+
+    @Benchmark
+    public void dispatchBalance(Ledger ledger) {
+        Parser.parser("balance", ui, ledger.transactions, goal, storage);
+    }
+
+    @Benchmark
+    public void dispatchSearch(Ledger ledger) {
+        Parser.parser("search rent", ui, ledger.transactions, goal, storage);
+    }
+
+    @Benchmark
+    public void dispatchListPage(Ledger ledger) {
+        Parser.parser("list page/1", ui, ledger.transactions, goal, storage);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 3, batchSize = Growing.BATCH)
+    @Measurement(iterations = 5, batchSize = Growing.BATCH)
+    public void dispatchAdd(Growing ledger) {
+        Parser.parser(ADD_INPUT, ui, ledger.transactions, goal, storage);
+    }
+
+    private static String arguments(String userInput) {
+        String input = userInput.toLowerCase();
+        return input.substring(input.indexOf(' ') + 1);
+    }
+
+    private static String[] legacyTokenize(String userInput, String[] patterns) {
+        String[] parts = userInput.toLowerCase().split(" ", 2);
+        String[] results = new String[patterns.length];
+        for (int i = 0; i < patterns.length; i++) {
+            Matcher matcher = Pattern.compile(patterns[i]).matcher(parts[1]);
+            if (matcher.find()) {
+                results[i] = matcher.group(1).trim();
+            }
+        }
+        return results;
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.duke;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import enums.Category;
+import seedu.duke.budget.Budget;
+import seedu.duke.budget.BudgetList;
+
+/**
+ * Builds the ledgers the benchmarks run against, using {@link LedgerGenerator} with a fixed seed. The same size
+ * always yields the same transactions, so results of different runs and releases stay comparable.
+ */
+public final class BenchmarkLedger {
+    /** Ledger sizes every benchmark is run at; JMH needs them as strings. */
+    public static final String SIZE_1K = "1000";
+    public static final String SIZE_100K = "100000";
+    public static final String SIZE_1M = "1000000";
+
+    private static final long SEED = 2113L;
+
+    private BenchmarkLedger() {
+    }
+
+    /**
+     * Returns {@code size} generated transactions with ids {@code 1..size}.
+     *
+     * @param size Number of transactions.
+     * @return The transactions, in id order.
+     */
+    public static List<Transaction> transactions(int size) {
+        List<Transaction> transactions = new ArrayList<>(size);
+        new LedgerGenerator(SEED).forEachTransaction(size, transactions::add);
+        return transactions;
+    }
+
+    /**
+     * Returns a manager holding {@link #transactions(int)} and one budget per category.
+     *
+     * @param size Number of transactions.
+     * @return The populated manager.
+     */
+    public static TransactionManager manager(int size) {
+        TransactionManager manager = new TransactionManager();
+        manager.addTransactions(transactions(size));
+        manager.setBudgetList(budgets());
+        return manager;
+    }
+
+    /**
+     * Returns one budget per category, running until the last transaction date.
+     *
+     * @return The budgets.
+     */
+    public static BudgetList budgets() {
+        BudgetList budgets = new BudgetList();
+        for (Category category : Category.values()) {
+            budgets.add(new Budget(category.name(), 1_000_000, LedgerGenerator.DEFAULT_LAST_DATE, category));
+        }
+        return budgets;
+    }
+
+    /**
+     * Returns a storage handler whose data files live in the given folder, so that a benchmark never touches
+     * the {@code data} folder of the working directory.
+     *
+     * @param dataFolder The data folder, usually a temporary one.
+     * @return The storage handler.
+     */
+    public static Storage storage(Path dataFolder) {
+        return new Storage(dataFolder.toString());
+    }
+
+    /**
+     * Deletes a data folder created for a benchmark, with everything in it.
+     *
+     * @param dataFolder The folder to delete.
+     * @throws IOException If a file cannot be deleted.
+     */
+    public static void deleteDataFolder(Path dataFolder) throws IOException {
+        if (!Files.exists(dataFolder)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dataFolder)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.duke;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of writing and reading the whole transaction snapshot, in both snapshot formats.
+ *
+ * <p>Each trial works on its own temporary data folder, so the {@code data} folder of the working directory
+ * is never touched.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class StorageBenchmark {
+    @Param({BenchmarkLedger.SIZE_1K, BenchmarkLedger.SIZE_100K, BenchmarkLedger.SIZE_1M})
+    private int ledgerSize;
+
+    @Param({"csv", "binary"})
+    private String format;
+
+    private Path dataFolder;
+    private Storage storage;
+    private List<Transaction> transactions;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dataFolder = Files.createTempDirectory("duke-jmh");
+        Files.writeString(dataFolder.resolve("settings.csv"), "transaction_format=" + format
+                + System.lineSeparator());
+
+        storage = BenchmarkLedger.storage(dataFolder);
+        transactions = BenchmarkLedger.transactions(ledgerSize);
+        storage.saveTransactions(transactions);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        BenchmarkLedger.deleteDataFolder(dataFolder);
+    }
+
+    @Benchmark
+    public void saveTransactions() {
+        storage.saveTransactions(transactions);
+    }
+
+    @Benchmark
+    public ArrayList<Transaction> loadTransactions() {
+        return storage.loadTransactions();
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.duke;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import enums.Category;
+import enums.Currency;
+import enums.Status;
+
+/**
+ * Cost of the {@link TransactionManager} operations behind the most frequent commands, at growing ledger sizes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class TransactionManagerBenchmark {
+    /** Number of distinct ids and budget probes cycled through, so lookups do not always hit the same entry. */
+    private static final int PROBES = 1024;
+
+    @Param({BenchmarkLedger.SIZE_1K, BenchmarkLedger.SIZE_100K, BenchmarkLedger.SIZE_1M})
+    private int ledgerSize;
+
+    private TransactionManager transactions;
+    private int[] ids;
+    private Transaction[] expenses;
+    private int next;
+
+    /**
+     * A ledger that {@link #addTransaction(Growing)} adds to. It is rebuilt before every iteration, and each
+     * iteration adds a fixed batch, so the size stays close to the parameter.
+     */
+    @State(Scope.Thread)
+    public static class Growing {
+        /** Transactions added per iteration. */
+        static final int BATCH = 10_000;
+
+        private TransactionManager transactions;
+        private int nextId;
+
+        @Setup(Level.Iteration)
+        public void setUp(TransactionManagerBenchmark benchmark) {
+            transactions = BenchmarkLedger.manager(benchmark.ledgerSize);
+            nextId = benchmark.ledgerSize + 1;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        transactions = BenchmarkLedger.manager(ledgerSize);
+        ids = new int[PROBES];
+        expenses = new Transaction[PROBES];
+        Category[] categories = Category.values();
+        for (int i = 0; i < PROBES; i++) {
+            ids[i] = 1 + (int) ((long) i * 7919 % ledgerSize);
+            // Expenses entered as negative amounts are the ones checked against the category budget.
+            Transaction expense = new Transaction(0, "Probe", 1, Currency.SGD, categories[i % categories.length],
+                    LocalDate.of(2024, 6, 1).plusDays(i % 180), Status.PENDING);
+            expense.setAmount(-(1 + i % 100));
+            expenses[i] = expense;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 3, batchSize = Growing.BATCH)
+    @Measurement(iterations = 5, batchSize = Growing.BATCH)
+    public void addTransaction(Growing ledger) {
+        ledger.transactions.addTransaction(new Transaction(ledger.nextId, "Coffee", 4.5, Currency.SGD, Category.FOOD,
+                LocalDate.of(2025, 4, 1), Status.PENDING));
+        ledger.nextId++;
+    }
+
+    @Benchmark
+    public Transaction searchTransaction() {
+        next = (next + 1) & (PROBES - 1);
+        return transactions.searchTransaction(ids[next]);
+    }
+
+    @Benchmark
+    public ArrayList<Transaction> getTransactions() {
+        return transactions.getTransactions();
+    }
+
+    @Benchmark
+    public Map<Category, Double> getCompletedAmountPerCategory() {
+        return transactions.getCompletedAmountPerCategory();
+    }
+
+    @Benchmark
+    public boolean isTransactionAllowedByBudget() {
+        next = (next + 1) & (PROBES - 1);
+        return transactions.isTransactionAllowedByBudget(expenses[next]);
+    }
+}
@@ -10,7 +10,6 @@ import enums.Status;
 import ui.Ui;
 
 import java.time.LocalDate;
-import java.util.Scanner;
 
 import static ui.ConsoleFormatter.*;
 
@@ -23,7 +22,6 @@ public class AddWizardCommand extends Command {
 
 
     public void execute(TransactionManager transactions, Ui ui, Storage storage) {
-        Scanner scanner = new Scanner(System.in);
         printCenteredTitle("Add Wizard");
         printCenteredLine("Create a new transaction step by step");
         printCenteredLine("Type 'cancel' at any time to abort.");
@@ -31,13 +29,13 @@ public class AddWizardCommand extends Command {
 
         try {
             System.out.print("Transaction/Add> Description: ");
-            String description = scanner.nextLine().trim();
+            String description = ui.readLine().trim();
             if (description.equalsIgnoreCase("cancel")) return;
 
             double amount;
             while (true) {
                 System.out.print("Transaction/Add> Amount (use negative for expense): ");
-                String input = scanner.nextLine().trim();
+                String input = ui.readLine().trim();
                 if (input.equalsIgnoreCase("cancel")) return;
                 try {
                     amount = Double.parseDouble(input);
@@ -52,7 +50,7 @@ public class AddWizardCommand extends Command {
             Currency currency;
             while (true) {
                 System.out.print("Transaction/Add> Currency (SGD, USD, EUR): ");
-                String input = scanner.nextLine().trim();
+                String input = ui.readLine().trim();
                 if (input.equalsIgnoreCase("cancel")) return;
                 try {
                     currency = Currency.valueOf(input.toUpperCase());
@@ -72,7 +70,7 @@ public class AddWizardCommand extends Command {
                     System.out.println((i + 1) + ". " + categories[i]);
                 }
                 System.out.print("Transaction/Add> Enter number: ");
-                String input = scanner.nextLine().trim();
+                String input = ui.readLine().trim();
                 if (input.equalsIgnoreCase("cancel")) return;
                 try {
                     int index = Integer.parseInt(input);
@@ -93,7 +91,7 @@ public class AddWizardCommand extends Command {
             LocalDate date;
             while (true) {
                 System.out.print("Transaction/Add> Date (yyyy-mm-dd) or leave blank for today: ");
-                String input = scanner.nextLine().trim();
+                String input = ui.readLine().trim();
                 if (input.equalsIgnoreCase("cancel")) return;
                 if (input.isEmpty()) {
                     date = LocalDate.now();
@@ -112,7 +110,7 @@ public class AddWizardCommand extends Command {
             Priority priority;
             while (true) {
                 System.out.print("Transaction/Add> Priority (LOW, MEDIUM, HIGH) or leave blank for LOW: ");
-                String input = scanner.nextLine().trim();
+                String input = ui.readLine().trim();
                 if (input.equalsIgnoreCase("cancel")) return;
                 if (input.isEmpty()) {
                     priority = Priority.LOW;
@@ -134,7 +132,7 @@ public class AddWizardCommand extends Command {
 
             while (true) {
                 System.out.print("Transaction/Add> Mark as completed? (YES/no): ");
-                String completedInput = scanner.nextLine().trim().toLowerCase();
+                String completedInput = ui.readLine().trim().toLowerCase();
 
                 if (completedInput.equals("cancel")) return;
 
@@ -14,9 +14,9 @@ public class AlertCommand extends Command{
 
         try {
             transactions.checkBudgetLimit(transactions.getBudgetLimit());
-            ui.listNotifications(transactions.getTransactions());
+            ui.listNotifications(transactions.getTransactionView());
             printLine();
-            ui.listPriorities(transactions.getTransactions());
+            ui.listPriorities(transactions.getTransactionView());
             ui.printRecurringTransactions(transactions.getRecurringTransactions());
         } catch (Exception e) {
             System.out.println(e.getMessage());
@@ -24,7 +24,7 @@ public class ConvertCommand extends Command {
      * @throws IndexOutOfBoundsException if the transactionId is invalid (e.g., out of bounds).
      */
     public ConvertCommand(int transactionId, Currency targetCurrency, TransactionManager transactions, Ui ui) {
-        Transaction transaction = transactions.getTransactions().get(transactionId - 1);
+        Transaction transaction = transactions.getTransactionView().get(transactionId - 1);
 
         Currency originalCurrency = transaction.getCurrency();
         double originalAmount = transaction.getAmount();
@@ -9,7 +9,6 @@ import enums.Priority;
 import ui.Ui;
 
 import java.time.LocalDate;
-import java.util.Scanner;
 
 import static ui.ConsoleFormatter.*;
 
@@ -22,7 +21,6 @@ public class EditWizardCommand extends Command {
 
 
     public void execute(TransactionManager transactions, Ui ui, Storage storage) {
-        Scanner scanner = new Scanner(System.in);
 
         printCenteredTitle("Edit Wizard");
         printCenteredLine("Modify a transaction step by step");
@@ -32,7 +30,7 @@ public class EditWizardCommand extends Command {
         Transaction target = null;
         while (target == null) {
             System.out.print("Transaction/Edit> Enter Transaction ID: ");
-            String input = scanner.nextLine().trim();
+            String input = ui.readLine().trim();
             if (input.equalsIgnoreCase("cancel")) return;
             try {
                 int id = Integer.parseInt(input);
@@ -56,7 +54,7 @@ public class EditWizardCommand extends Command {
         }
 
         System.out.print("Transaction/Edit> Enter number: ");
-        String choice = scanner.nextLine().trim();
+        String choice = ui.readLine().trim();
         if (choice.equalsIgnoreCase("cancel")) return;
 
         try {
@@ -64,14 +62,14 @@ public class EditWizardCommand extends Command {
             switch (field) {
                 case 1 -> {
                     System.out.print("Transaction/Edit> New description: ");
-                    String desc = scanner.nextLine();
+                    String desc = ui.readLine();
                     if (desc.equalsIgnoreCase("cancel")) return;
                     target.setDescription(desc);
                     ui.printEdited(desc, 0);
                 }
                 case 2 -> {
                     System.out.print("Transaction/Edit> New amount: ");
-                    String amtStr = scanner.nextLine();
+                    String amtStr = ui.readLine();
                     if (amtStr.equalsIgnoreCase("cancel")) return;
                     double amount = Double.parseDouble(amtStr);
                     target.setAmount(amount);
@@ -79,21 +77,21 @@ public class EditWizardCommand extends Command {
                 }
                 case 3 -> {
                     System.out.print("Transaction/Edit> New currency: ");
-                    String currency = scanner.nextLine();
+                    String currency = ui.readLine();
                     if (currency.equalsIgnoreCase("cancel")) return;
                     target.setCurrency(Currency.valueOf(currency.toUpperCase()));
                     ui.printEdited(currency, 3);
                 }
                 case 4 -> {
                     System.out.print("Transaction/Edit> New category: ");
-                    String category = scanner.nextLine();
+                    String category = ui.readLine();
                     if (category.equalsIgnoreCase("cancel")) return;
                     target.setCategory(Category.valueOf(category.toUpperCase()));
                     ui.printEdited(category, 1);
                 }
                 case 5 -> {
                     System.out.print("Transaction/Edit> New date (yyyy-mm-dd): ");
-                    String date = scanner.nextLine();
+                    String date = ui.readLine();
                     if (date.equalsIgnoreCase("cancel")) return;
                     target.setDate(LocalDate.parse(date));
                     printCenteredTitle("OK: Edit Wizard");
@@ -102,7 +100,7 @@ public class EditWizardCommand extends Command {
                 }
                 case 6 -> {
                     System.out.print("Transaction/Edit> New priority (LOW, MEDIUM, HIGH): ");
-                    String p = scanner.nextLine();
+                    String p = ui.readLine();
                     if (p.equalsIgnoreCase("cancel")) return;
                     target.setPriority(Priority.valueOf(p.toUpperCase()));
                     ui.printEdited(p, 99);
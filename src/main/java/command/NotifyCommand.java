@@ -16,7 +16,7 @@ public class NotifyCommand extends Command {
             ui.showError(e.getMessage());
             // Display the all notifications
         }
-        ui.listNotification(transactions.getTransactions(), description);
+        ui.listNotification(transactions.getTransactionView(), description);
     }
 
     @Override
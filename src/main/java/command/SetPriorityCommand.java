@@ -17,11 +17,11 @@ public class SetPriorityCommand extends Command {
         Priority priority = Priority.valueOf(priorityStr.toUpperCase());
 
         try {
-            transactions.getTransactions().get(index).setPriority(priority);
+            transactions.getTransactionView().get(index).setPriority(priority);
         } catch (Exception e) {
             System.out.println(e.getMessage());
         }
-        ui.printPriority(transactions.getTransactions(), index);
+        ui.printPriority(transactions.getTransactionView(), index);
     }
 
     /**
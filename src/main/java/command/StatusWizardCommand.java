@@ -6,8 +6,6 @@ import seedu.duke.Storage;
 import ui.ConsoleFormatter;
 import ui.Ui;
 
-import java.util.Scanner;
-
 import static ui.ConsoleFormatter.*;
 
 public class StatusWizardCommand extends Command {
@@ -18,7 +16,6 @@ public class StatusWizardCommand extends Command {
     }
 
     public void execute(TransactionManager transactions, Ui ui, Storage storage) {
-        Scanner scanner = new Scanner(System.in);
 
         printCenteredTitle("Status Wizard");
         printCenteredLine("Status Wizard - Complete or undo a transaction");
@@ -28,7 +25,7 @@ public class StatusWizardCommand extends Command {
         Transaction target = null;
         while (target == null) {
             ConsoleFormatter.printLeftAlignedLine("Transaction/Status> Enter Transaction ID: ");
-            String input = scanner.nextLine().trim();
+            String input = ui.readLine().trim();
             if (input.equalsIgnoreCase("cancel")) return;
             try {
                 int id = Integer.parseInt(input);
@@ -49,7 +46,7 @@ public class StatusWizardCommand extends Command {
         ConsoleFormatter.printLeftAlignedLine("1. Mark as Completed");
         ConsoleFormatter.printLeftAlignedLine("2. Mark as Not Completed");
         ConsoleFormatter.printLeftAlignedLine("Transaction/Status> Enter choice: ");
-        String choice = scanner.nextLine().trim();
+        String choice = ui.readLine().trim();
         if (choice.equalsIgnoreCase("cancel")) return;
 
         switch (choice) {
@@ -22,6 +22,11 @@ public class Constant {
      */
     public static final String COMMAND_SEARCH = "search";
 
+    /**
+     * Prefix of a search term that makes the search tolerate typos
+     */
+    public static final String FUZZY_SEARCH_PREFIX = "~";
+
     /**
      * Command keyword for setting a spending budget limit
      */
@@ -147,6 +152,16 @@ public class Constant {
      */
     public static final String COMMAND_CURRENCY = "currency";
 
+    /**
+     * Command keyword for showing how long each command took
+     */
+    public static final String COMMAND_PERF = "perf";
+
+    /**
+     * Name under which commands with an unknown command word are timed
+     */
+    public static final String UNKNOWN_COMMAND = "unknown";
+
 
     /**
      * Represents an invalid input exception
@@ -178,5 +193,20 @@ public class Constant {
      */
     public static final String IDENTIFIER_DATE = " t/";
 
+    /**
+     * Identifier for specifying the page to list
+     */
+    public static final String IDENTIFIER_PAGE = "page/";
+
+    /**
+     * Identifier for specifying the number of transactions per listed page
+     */
+    public static final String IDENTIFIER_PAGE_SIZE = "size/";
+
+    /**
+     * Number of transactions per listed page when no size is given
+     */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
 
 }
@@ -1,8 +1,9 @@
 package enums;
 
 /**
- * Represents supported currencies with their full names and exchange rates relative to SGD.
- * Provides methods for currency conversion and lookup by full name.
+ * Represents supported currencies with their full names and built-in exchange rates relative to SGD.
+ * The rates in use, which may be loaded from a file, are kept by {@code seedu.duke.RateTable}.
+ * Provides methods for currency conversion at the built-in rates and lookup by full name.
  */
 public enum Currency {
     USD("USD", 0.74),
@@ -19,7 +20,7 @@ public enum Currency {
      * Constructs a Currency enum with full name and exchange rate to SGD.
      *
      * @param fullName Full name of the currency.
-     * @param rate     Conversion rate to Singapore Dollar (SGD).
+     * @param rate     Built-in conversion rate to Singapore Dollar (SGD).
      */
     Currency(String fullName, double rate) {
         this.fullName = fullName;
@@ -36,7 +37,7 @@ public enum Currency {
     }
 
     /**
-     * Returns the exchange rate to SGD.
+     * Returns the built-in exchange rate to SGD.
      *
      * @return Exchange rate of this currency to SGD.
      */
@@ -45,7 +46,7 @@ public enum Currency {
     }
 
     /**
-     * Converts a monetary amount from this currency to the target currency.
+     * Converts a monetary amount from this currency to the target currency at the built-in rates.
      *
      * @param money  Amount in this currency.
      * @param target Target currency to convert to.
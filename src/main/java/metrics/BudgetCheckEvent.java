@@ -0,0 +1,63 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for checking a transaction against a budget, either the budget of its category or
+ * the overall budget limit.
+ */
+@Name("seedu.duke.BudgetCheck")
+@Label("Budget Check")
+@Category({"Duke", "Budgets"})
+@Description("Checking whether a transaction fits within a budget")
+public class BudgetCheckEvent extends Event {
+    public static final String CATEGORY_BUDGET = "category";
+    public static final String BUDGET_LIMIT = "limit";
+
+    @Label("Budget")
+    @Description("Which budget was checked: the category budget or the overall limit")
+    private String budget;
+
+    @Label("Category")
+    private String category;
+
+    @Label("Amount")
+    private double amount;
+
+    @Label("Allowed")
+    private boolean isAllowed;
+
+    /**
+     * Starts timing a budget check.
+     *
+     * @return The started event.
+     */
+    public static BudgetCheckEvent start() {
+        BudgetCheckEvent event = new BudgetCheckEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops timing the check and commits the event if it is being recorded.
+     *
+     * @param budget    {@link #CATEGORY_BUDGET} or {@link #BUDGET_LIMIT}.
+     * @param category  The category of the transaction checked.
+     * @param amount    The amount of the transaction checked.
+     * @param isAllowed Whether the transaction fits within the budget.
+     */
+    public void finish(String budget, enums.Category category, double amount, boolean isAllowed) {
+        end();
+        if (shouldCommit()) {
+            this.budget = budget;
+            this.category = category == null ? null : category.name();
+            this.amount = amount;
+            this.isAllowed = isAllowed;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for running the handler of a command, including the storage writes it makes.
+ */
+@Name("seedu.duke.CommandExecute")
+@Label("Command Execute")
+@Category({"Duke", "Commands"})
+@Description("Running a command, from its handler being called to it returning or failing")
+public class CommandExecuteEvent extends Event {
+    @Label("Command")
+    private String command;
+
+    @Label("Failed")
+    @Description("Whether the command ended with an error shown to the user")
+    private boolean isFailed;
+
+    /**
+     * Starts timing a command.
+     *
+     * @return The started event.
+     */
+    public static CommandExecuteEvent start() {
+        CommandExecuteEvent event = new CommandExecuteEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops timing the command and commits the event if it is being recorded.
+     *
+     * @param command  The command name, e.g. {@code add} or {@code budget set}.
+     * @param isFailed Whether the command failed.
+     */
+    public void finish(String command, boolean isFailed) {
+        end();
+        if (shouldCommit()) {
+            this.command = command;
+            this.isFailed = isFailed;
+            commit();
+        }
+    }
+}
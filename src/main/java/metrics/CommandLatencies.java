@@ -0,0 +1,124 @@
+package metrics;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency of every command run, kept in one {@link LatencyHistogram} per command name.
+ * Time spent waiting for the user to type, e.g. in a wizard or in budget mode, is left out, so the
+ * latency of a command is the time the application itself took to run it.
+ *
+ * <p>A command is timed by taking a mark from {@link #start()} before running it and passing the mark to
+ * {@link #record(String, long)} afterwards.</p>
+ */
+public final class CommandLatencies {
+    private static final String DUMP_HEADER = "command,calls,p50_ns,p90_ns,p99_ns,max_ns,buckets";
+
+    private static final Map<String, LatencyHistogram> HISTOGRAMS = new ConcurrentHashMap<>();
+
+    /** Total time spent waiting for input, subtracted from every command that was waiting. */
+    private static final AtomicLong inputWaitNanos = new AtomicLong();
+
+    private static boolean hasShutdownHook = false;
+
+    private CommandLatencies() {
+    }
+
+    /**
+     * Returns the mark to time a command from.
+     *
+     * @return The mark, only meaningful to {@link #record(String, long)}.
+     */
+    public static long start() {
+        return System.nanoTime() - inputWaitNanos.get();
+    }
+
+    /**
+     * Records the latency of a command started at the given mark.
+     *
+     * @param command The command name, e.g. {@code add} or {@code budget set}.
+     * @param start   The mark returned by {@link #start()} before the command ran.
+     */
+    public static void record(String command, long start) {
+        HISTOGRAMS.computeIfAbsent(command, name -> new LatencyHistogram()).record(start() - start);
+    }
+
+    /**
+     * Adds time spent blocked on user input, which is not counted towards the running commands.
+     *
+     * @param nanos The time waited, in nanoseconds.
+     */
+    public static void addInputWait(long nanos) {
+        inputWaitNanos.addAndGet(nanos);
+    }
+
+    /**
+     * Returns the current latencies of every command that has run.
+     *
+     * @return Snapshots keyed by command name, in name order.
+     */
+    public static SortedMap<String, LatencyHistogram.Snapshot> snapshot() {
+        SortedMap<String, LatencyHistogram.Snapshot> snapshots = new TreeMap<>();
+        HISTOGRAMS.forEach((command, histogram) -> snapshots.put(command, histogram.snapshot()));
+        return snapshots;
+    }
+
+    /**
+     * Forgets all recorded latencies.
+     */
+    public static void reset() {
+        HISTOGRAMS.clear();
+    }
+
+    /**
+     * Writes the latencies of every command to a CSV file, one line per command with its call count,
+     * percentiles and maximum in nanoseconds, and its non-empty histogram buckets.
+     *
+     * @param file The file to write; replaced if it exists.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void dump(Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(DUMP_HEADER);
+            writer.newLine();
+            for (Map.Entry<String, LatencyHistogram.Snapshot> entry : snapshot().entrySet()) {
+                LatencyHistogram.Snapshot latencies = entry.getValue();
+                writer.write(String.join(",", entry.getKey(),
+                        String.valueOf(latencies.getCount()),
+                        String.valueOf(latencies.getValueAtPercentile(50)),
+                        String.valueOf(latencies.getValueAtPercentile(90)),
+                        String.valueOf(latencies.getValueAtPercentile(99)),
+                        String.valueOf(latencies.getMax()),
+                        latencies.formatBuckets()));
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Writes the latencies to the given file when the application exits.
+     *
+     * @param file The file to write.
+     */
+    public static synchronized void dumpOnExit(Path file) {
+        if (hasShutdownHook) {
+            return;
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                dump(file);
+            } catch (IOException e) {
+                System.out.println("Error saving command latencies: " + e.getMessage());
+            }
+        }));
+        hasShutdownHook = true;
+    }
+}
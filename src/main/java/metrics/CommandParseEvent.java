@@ -0,0 +1,50 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for reading the command word of a line of input and looking up its handler.
+ * Like the other events of this package, it costs next to nothing unless a recording is running.
+ */
+@Name("seedu.duke.CommandParse")
+@Label("Command Parse")
+@Category({"Duke", "Commands"})
+@Description("Splitting a line of input into its command word and arguments")
+public class CommandParseEvent extends Event {
+    @Label("Command")
+    private String command;
+
+    @Label("Known")
+    @Description("Whether a handler exists for the command word")
+    private boolean isKnown;
+
+    /**
+     * Starts timing a parse.
+     *
+     * @return The started event.
+     */
+    public static CommandParseEvent start() {
+        CommandParseEvent event = new CommandParseEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops timing the parse and commits the event if it is being recorded.
+     *
+     * @param command The command word.
+     * @param isKnown Whether a handler exists for it.
+     */
+    public void finish(String command, boolean isKnown) {
+        end();
+        if (shouldCommit()) {
+            this.command = command;
+            this.isKnown = isKnown;
+            commit();
+        }
+    }
+}
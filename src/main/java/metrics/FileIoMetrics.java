@@ -0,0 +1,74 @@
+package metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * I/O counters of one data file: how often it was opened, how many bytes were read from and written to it,
+ * how long that took, and how many bytes of the written data actually changed.
+ * All counters can be updated from any thread.
+ */
+public class FileIoMetrics {
+    private final LongAdder opens = new LongAdder();
+    private final LongAdder bytesRead = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+    private final LongAdder bytesChanged = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+
+    /**
+     * Records one read of the file.
+     *
+     * @param bytes Number of bytes read.
+     * @param nanos Time taken, in nanoseconds.
+     */
+    public void recordRead(long bytes, long nanos) {
+        opens.increment();
+        bytesRead.add(bytes);
+        this.nanos.add(nanos);
+    }
+
+    /**
+     * Records one write to the file.
+     *
+     * @param bytes        Number of bytes written.
+     * @param changedBytes Number of bytes of data that changed, e.g. the rows of the edited transactions, as
+     *                     opposed to the rows rewritten unchanged along with them.
+     * @param nanos        Time taken, in nanoseconds.
+     */
+    public void recordWrite(long bytes, long changedBytes, long nanos) {
+        opens.increment();
+        bytesWritten.add(bytes);
+        bytesChanged.add(changedBytes);
+        this.nanos.add(nanos);
+    }
+
+    public long getOpens() {
+        return opens.sum();
+    }
+
+    public long getBytesRead() {
+        return bytesRead.sum();
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten.sum();
+    }
+
+    public long getBytesChanged() {
+        return bytesChanged.sum();
+    }
+
+    public long getNanos() {
+        return nanos.sum();
+    }
+
+    /**
+     * Returns how many bytes were written per byte of data that changed. A file rewritten in full for a one-row
+     * change has a high amplification, while an append-only journal stays close to 1.
+     *
+     * @return The write amplification, or {@link Double#NaN} if no changed data has been written.
+     */
+    public double getWriteAmplification() {
+        long changed = getBytesChanged();
+        return changed == 0 ? Double.NaN : (double) getBytesWritten() / changed;
+    }
+}
@@ -0,0 +1,132 @@
+package metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of latencies in nanoseconds that any thread can record into without locking.
+ * Values are grouped by their highest set bit, and each group is split into {@value #SUB_BUCKETS} buckets
+ * of equal width, so a value read back is off by at most 1/32 of itself whatever its magnitude.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /** Values of up to this many bits (about 18 minutes) are told apart; longer ones share the last bucket. */
+    private static final int MAX_BITS = 40;
+    private static final long MAX_VALUE = (1L << MAX_BITS) - 1;
+    private static final int BUCKETS = (MAX_BITS - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Counts of a histogram at one point in time.
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long max;
+
+        private Snapshot(long[] counts, long max) {
+            long total = 0;
+            for (long bucketCount : counts) {
+                total += bucketCount;
+            }
+            this.counts = counts;
+            this.count = total;
+            this.max = max;
+        }
+
+        /** @return Number of recorded values. */
+        public long getCount() {
+            return count;
+        }
+
+        /** @return Largest recorded value, exactly, or 0 if none has been recorded. */
+        public long getMax() {
+            return max;
+        }
+
+        /**
+         * Returns the value below or at which the given share of the recorded values lie.
+         *
+         * @param percentile Share of values, from 0 to 100.
+         * @return The highest value of the bucket holding that value, at most {@link #getMax()};
+         *     0 if no value has been recorded.
+         */
+        public long getValueAtPercentile(double percentile) {
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(highestValueOf(i), max);
+                }
+            }
+            return max;
+        }
+
+        /**
+         * Returns the non-empty buckets as {@code lowest:count} pairs separated by spaces, lowest values first.
+         *
+         * @return The buckets, or an empty string if no value has been recorded.
+         */
+        public String formatBuckets() {
+            StringBuilder buckets = new StringBuilder();
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) {
+                    if (buckets.length() > 0) {
+                        buckets.append(' ');
+                    }
+                    buckets.append(lowestValueOf(i)).append(':').append(counts[i]);
+                }
+            }
+            return buckets.toString();
+        }
+    }
+
+    /**
+     * Records one latency.
+     *
+     * @param nanos The latency in nanoseconds; negative values are recorded as 0.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(indexOf(Math.min(value, MAX_VALUE)));
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Returns the current counts. Values recorded while the snapshot is taken may or may not be included.
+     *
+     * @return The snapshot.
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+        }
+        return new Snapshot(copy, max.get());
+    }
+
+    /**
+     * Returns the bucket of a value. Values below {@code 2 * SUB_BUCKETS} get a bucket each; above that, the
+     * top {@code SUB_BUCKET_BITS + 1} bits of a value select its bucket within the group of its highest bit.
+     */
+    static int indexOf(long value) {
+        int shift = Math.max(0, 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS - 1);
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    static long lowestValueOf(int index) {
+        int shift = Math.max(0, (index >> SUB_BUCKET_BITS) - 1);
+        long top = shift == 0 ? index : SUB_BUCKETS + (index & (SUB_BUCKETS - 1));
+        return top << shift;
+    }
+
+    static long highestValueOf(int index) {
+        int shift = Math.max(0, (index >> SUB_BUCKET_BITS) - 1);
+        return lowestValueOf(index) + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,64 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for saving or loading one data file.
+ */
+@Name("seedu.duke.Storage")
+@Label("Storage Save/Load")
+@Category({"Duke", "Storage"})
+@Description("Saving or loading one data file")
+public class StorageEvent extends Event {
+    public static final String SAVE = "save";
+    public static final String LOAD = "load";
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("File")
+    private String file;
+
+    @Label("Rows")
+    @Description("Number of transactions, journal records or budgets saved or loaded")
+    private int rows;
+
+    @Label("Bytes")
+    @DataAmount
+    private long bytes;
+
+    /**
+     * Starts timing a save or load.
+     *
+     * @return The started event.
+     */
+    public static StorageEvent start() {
+        StorageEvent event = new StorageEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops timing and commits the event if it is being recorded.
+     *
+     * @param operation {@link #SAVE} or {@link #LOAD}.
+     * @param file      The name of the file saved or loaded.
+     * @param rows      Number of rows saved or loaded.
+     * @param bytes     Number of bytes written or read.
+     */
+    public void finish(String operation, String file, int rows, long bytes) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.file = file;
+            this.rows = rows;
+            this.bytes = bytes;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package metrics;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the {@link FileIoMetrics} of every data file, keyed by file name.
+ * Reads and writes are recorded either by opening the file through {@link #newReader(File)} and
+ * {@link #newWriter(File, long)}, which record when the stream is closed, or directly through
+ * {@link #file(String)} for files read or written by other means.
+ */
+public final class StorageMetrics {
+    private static final Map<String, FileIoMetrics> FILES = new ConcurrentHashMap<>();
+
+    private StorageMetrics() {
+    }
+
+    /**
+     * Returns the counters of the file with the given name, creating them on first use.
+     *
+     * @param name The file name, without its folder.
+     * @return The counters.
+     */
+    public static FileIoMetrics file(String name) {
+        return FILES.computeIfAbsent(name, key -> new FileIoMetrics());
+    }
+
+    /**
+     * Returns the counters of every file that has been read or written.
+     *
+     * @return The live counters keyed by file name, in name order.
+     */
+    public static SortedMap<String, FileIoMetrics> snapshot() {
+        return new TreeMap<>(FILES);
+    }
+
+    /**
+     * Forgets all recorded counters.
+     */
+    public static void reset() {
+        FILES.clear();
+    }
+
+    /**
+     * Opens a file for reading. Closing the reader records a read of the bytes taken from the file, which
+     * include the read-ahead of the buffer but not the rest of a file the caller stopped reading early.
+     *
+     * @param file The file to read.
+     * @return A buffered reader of the file.
+     * @throws FileNotFoundException If the file cannot be opened.
+     */
+    public static BufferedReader newReader(File file) throws FileNotFoundException {
+        long start = System.nanoTime();
+        long[] bytesRead = new long[1];
+        FileInputStream in = new FileInputStream(file) {
+            @Override
+            public int read() throws IOException {
+                int b = super.read();
+                bytesRead[0] += b < 0 ? 0 : 1;
+                return b;
+            }
+
+            @Override
+            public int read(byte[] buffer) throws IOException {
+                return read(buffer, 0, buffer.length);
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                int read = super.read(buffer, offset, length);
+                bytesRead[0] += Math.max(0, read);
+                return read;
+            }
+        };
+        return new BufferedReader(new InputStreamReader(in)) {
+            private boolean isClosed = false;
+
+            @Override
+            public void close() throws IOException {
+                super.close();
+                if (!isClosed) {
+                    isClosed = true;
+                    file(file.getName()).recordRead(bytesRead[0], System.nanoTime() - start);
+                }
+            }
+        };
+    }
+
+    /**
+     * Opens a file to be rewritten. Closing the writer records a write of the whole file.
+     *
+     * @param file         The file to write; replaced if it exists.
+     * @param changedBytes Number of bytes of the new content that differ from the old content.
+     * @return A buffered writer of the file.
+     * @throws IOException If the file cannot be opened.
+     */
+    public static BufferedWriter newWriter(File file, long changedBytes) throws IOException {
+        long start = System.nanoTime();
+        return new BufferedWriter(new FileWriter(file)) {
+            private boolean isClosed = false;
+
+            @Override
+            public void close() throws IOException {
+                super.close();
+                if (!isClosed) {
+                    isClosed = true;
+                    file(file.getName()).recordWrite(file.length(), changedBytes, System.nanoTime() - start);
+                }
+            }
+        };
+    }
+}
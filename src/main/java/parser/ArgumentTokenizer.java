@@ -0,0 +1,73 @@
+package parser;
+
+/**
+ * Splits command arguments such as {@code d/Lunch a/12.50 c/food} into the values of their prefixes in one pass.
+ * A prefix is recognised at the start of the arguments or after whitespace, and its value runs up to the next
+ * recognised prefix, trimmed. If a prefix appears more than once, its first value is kept.
+ *
+ * <p>A tokenizer is built once per command with its set of prefixes and can be reused for every input.</p>
+ */
+public final class ArgumentTokenizer {
+    private static final int ASCII = 128;
+
+    private final String[] prefixes;
+
+    /** Whether any prefix starts with a given ASCII character, to skip most positions with one lookup. */
+    private final boolean[] isPrefixStart = new boolean[ASCII];
+
+    /**
+     * Creates a tokenizer for the given prefixes.
+     *
+     * @param prefixes The prefixes, e.g. {@code "d/"}, each starting with an ASCII character.
+     */
+    public ArgumentTokenizer(String... prefixes) {
+        this.prefixes = prefixes.clone();
+        for (String prefix : prefixes) {
+            assert !prefix.isEmpty() && prefix.charAt(0) < ASCII : "Prefix must start with an ASCII character";
+            isPrefixStart[prefix.charAt(0)] = true;
+        }
+    }
+
+    /**
+     * Returns the value of each prefix in the arguments.
+     *
+     * @param arguments The arguments to split.
+     * @return The values in the order the prefixes were given to the constructor,
+     *         with {@code null} for a prefix that does not appear.
+     */
+    public String[] tokenize(String arguments) {
+        String[] values = new String[prefixes.length];
+        int current = -1;
+        int valueStart = 0;
+        int length = arguments.length();
+        for (int i = 0; i < length; i++) {
+            char c = arguments.charAt(i);
+            if (c >= ASCII || !isPrefixStart[c] || (i > 0 && !Character.isWhitespace(arguments.charAt(i - 1)))) {
+                continue;
+            }
+            int found = prefixAt(arguments, i);
+            if (found < 0) {
+                continue;
+            }
+            if (current >= 0 && values[current] == null) {
+                values[current] = arguments.substring(valueStart, i).trim();
+            }
+            current = found;
+            valueStart = i + prefixes[found].length();
+            i = valueStart - 1;
+        }
+        if (current >= 0 && values[current] == null) {
+            values[current] = arguments.substring(valueStart).trim();
+        }
+        return values;
+    }
+
+    private int prefixAt(String arguments, int index) {
+        for (int p = 0; p < prefixes.length; p++) {
+            if (arguments.startsWith(prefixes[p], index)) {
+                return p;
+            }
+        }
+        return -1;
+    }
+}
@@ -5,13 +5,18 @@ import command.*;
 import enums.Currency;
 import exceptions.NullException;
 import exceptions.InvalidCommand;
+import metrics.CommandExecuteEvent;
+import metrics.CommandLatencies;
+import metrics.CommandParseEvent;
+import metrics.StorageMetrics;
 import seedu.duke.*;
 import seedu.duke.budget.BudgetMode;
 import enums.Category;
 import ui.ConsoleFormatter;
 import ui.Ui;
 
-import java.util.Scanner;
+import java.util.HashMap;
+import java.util.Map;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -21,325 +26,457 @@ import java.util.regex.Pattern;
 import static constant.Constant.*;
 
 public class Parser {
+    /** Splits the arguments of {@code add} into description, amount, category and date. */
+    private static final ArgumentTokenizer ADD_ARGUMENTS = new ArgumentTokenizer("d/", "a/", "c/", "t/");
+    private static final String[] ADD_FIELDS = {"description", "amount", "category", "date"};
+
+    /** Splits the arguments of {@code notify} into description, category and date. */
+    private static final ArgumentTokenizer NOTIFY_ARGUMENTS = new ArgumentTokenizer("d/", "c/", "t/");
+    private static final String[] NOTIFY_FIELDS = {"description", "category", "date"};
+
+    /** Splits the arguments of {@code list} into page number and page size. */
+    private static final ArgumentTokenizer LIST_ARGUMENTS =
+            new ArgumentTokenizer(IDENTIFIER_PAGE, IDENTIFIER_PAGE_SIZE);
+
+    private static final Pattern SUMMARY_PATTERN =
+            Pattern.compile("from/(\\d{4}-\\d{2}-\\d{2})\\s+to/(\\d{4}-\\d{2}-\\d{2})");
+    private static final Pattern CONVERT_PATTERN = Pattern.compile("id/(\\d+)\\s+to/(\\w+)", Pattern.CASE_INSENSITIVE);
+
+    private static final DateTimeFormatter[] DATE_FORMATS = {
+        DateTimeFormatter.ofPattern("yyyy-MM-dd"),
+        DateTimeFormatter.ofPattern("dd/MM/yyyy"),
+        DateTimeFormatter.ofPattern("dd-MM-yyyy"),
+        DateTimeFormatter.ofPattern("yyyy/MM/dd")
+    };
+
     /**
-     * Parses the user input and returns the corresponding command.
+     * Runs one command, given the text after the command word, or {@code null} if there is none.
+     */
+    @FunctionalInterface
+    private interface CommandHandler {
+        void handle(String arguments, Ui ui, TransactionManager transactions,
+                    FinancialGoal goal, Storage storage) throws Exception;
+    }
+
+    /** Handler of each command word. */
+    private static final Map<String, CommandHandler> HANDLERS = new HashMap<>();
+
+    static {
+        HANDLERS.put(COMMAND_HELP, (arguments, ui, transactions, goal, storage) -> ui.help());
+        HANDLERS.put(COMMAND_ADD, Parser::handleAdd);
+        HANDLERS.put(COMMAND_LIST, Parser::handleList);
+        HANDLERS.put(COMMAND_TICK, Parser::handleTick);
+        HANDLERS.put(COMMAND_UNTICK, Parser::handleUntick);
+        HANDLERS.put(COMMAND_STATUS, Parser::handleStatus);
+        HANDLERS.put(COMMAND_SEARCH, Parser::handleSearch);
+        HANDLERS.put(COMMAND_EDIT, Parser::handleEdit);
+        HANDLERS.put(COMMAND_DELETE, Parser::handleDelete);
+        HANDLERS.put(COMMAND_CLEAR, Parser::handleClear);
+        HANDLERS.put(COMMAND_SET_BUDGET, Parser::handleSetBudget);
+        HANDLERS.put(FIND_DATE, (arguments, ui, transactions, goal, storage) ->
+                transactions.getUpcomingTransactions(requireArguments(arguments)));
+        HANDLERS.put(COMMAND_CURRENCY, Parser::handleCurrency);
+        HANDLERS.put(COMMAND_NOTIFY, Parser::handleNotify);
+        HANDLERS.put(COMMAND_ALERT, Parser::handleAlert);
+        HANDLERS.put(COMMAND_SET_PRIORITY, Parser::handleSetPriority);
+        HANDLERS.put(COMMAND_SUMMARY, Parser::handleSummary);
+        HANDLERS.put(COMMAND_CONVERT, Parser::handleConvert);
+        HANDLERS.put(COMMAND_RECUR, Parser::handleRecur);
+        HANDLERS.put(COMMAND_EXIT, Parser::handleExit);
+        HANDLERS.put("saving", (arguments, ui, transactions, goal, storage) ->
+                SavingMode.enter(ui, goal, transactions, storage));
+        HANDLERS.put("budget", (arguments, ui, transactions, goal, storage) ->
+                BudgetMode.enter(ui, transactions.getBudgetList(), transactions, storage));
+        HANDLERS.put("balance", (arguments, ui, transactions, goal, storage) ->
+                ui.printBalanceOverview(transactions.getCurrentBalanceInSGD()));
+        HANDLERS.put("stats", (arguments, ui, transactions, goal, storage) ->
+                ui.printStatisticsOverview(transactions));
+        HANDLERS.put(COMMAND_GOAL, Parser::handleGoal);
+        HANDLERS.put(COMMAND_PERF, (arguments, ui, transactions, goal, storage) -> {
+            ui.printLatencies(CommandLatencies.snapshot());
+            ui.printStorageMetrics(StorageMetrics.snapshot());
+            ui.printLoadReport(storage.getLastLoadReport());
+        });
+    }
+
+    /**
+     * Parses the user input and runs the corresponding command.
+     * The command word is looked up in a table of handlers, and each handler splits its own arguments.
+     * The time the command takes is recorded in {@link CommandLatencies} under its command word,
+     * and the parse and the run are reported to Flight Recorder when a recording is running.
      *
      * @param userInput The raw user input string.
      */
     public static void parser(String userInput, Ui ui, TransactionManager transactions,
                               FinancialGoal goal, Storage storage) {
-        String[] parts = userInput.toLowerCase().split(" ", 2);
-        String commandType = parts[0];
-        String[] details;
-        double amount;
-        int index;
-        int id;
-        LocalDate date;
-        String[] fields;
-
-        //@@author HalFentise
+        CommandParseEvent parseEvent = CommandParseEvent.start();
+        String input = userInput.toLowerCase();
+        int space = input.indexOf(' ');
+        String commandType = space < 0 ? input : input.substring(0, space);
+        String arguments = space < 0 ? null : input.substring(space + 1);
+
+        CommandHandler handler = HANDLERS.get(commandType);
+        parseEvent.finish(commandType, handler != null);
+
+        long start = CommandLatencies.start();
+        CommandExecuteEvent executeEvent = CommandExecuteEvent.start();
+        boolean isFailed = false;
         try {
-            switch (commandType) {
-                case COMMAND_HELP:
-                    ui.help();
-                    break;
-                case COMMAND_ADD:
-                    if (parts.length == 1 || parts[1].isBlank()) {
-
-                        Command addWizard = new AddWizardCommand();
-                        addWizard.execute(transactions, ui, storage);
-                        break;
-                    }
-
-                    fields = new String[]{"description", "amount", "category", "date"};
-                    String[] patterns = {
-                            "d/(.*?)(?:\\s+[act]/|$)", // description
-                            "a/(.*?)(?:\\s+[dct]/|$)", // amount
-                            "c/(.*?)(?:\\s+[dat]/|$)", // category
-                            "t/(.*?)(?:\\s+[dac]/|$)", // date (optional)
-                    };
-
-                    String[] results = new String[fields.length];
-
-                    for (int i = 0; i < fields.length; i++) {
-                        Pattern pattern = Pattern.compile(patterns[i]);
-                        Matcher matcher = pattern.matcher(parts[1]);
-
-                        if (matcher.find()) {
-                            results[i] = matcher.group(1).trim();
-                        } else if (!fields[i].equals("date")) {
-                            throw new InvalidCommand("No " + fields[i] + " found");
-                        } else {
-                            results[i] = null; // date is optional
-                        }
-                    }
-
-                    amount = Double.parseDouble(results[1]);
-                    Category category = parseCategory(results[2], ui);
-                    date = parseToLocalDate(results[3]);
-
-                    boolean success = transactions.addTransaction(results[0], amount, category, date);
-
-                    if (success) {
-                        ui.add(transactions.searchTransaction(transactions.getNum()));
-                        storage.saveTransactions(transactions.getTransactions());
-                    } else {
-                        throw new InvalidCommand("Cannot add new transaction! Budget limit exceeded!");
-                    }
-                    break;
-
-                case COMMAND_LIST:
-                    if (parts.length > 1) {
-                        throw new InvalidCommand("Invalid command");
-                    }
-                    ui.printTransactions(transactions.getTransactions());
-                    break;
-                case COMMAND_TICK:
-                    id = Integer.parseInt(parts[1]);
-                    transactions.tickTransaction(id);
-                    ui.tickTransaction(transactions.searchTransaction(id));
-                    storage.saveTransactions(transactions.getTransactions());
-                    break;
-                case COMMAND_UNTICK:
-                    id = Integer.parseInt(parts[1]);
-                    transactions.unTickTransaction(id);
-                    ui.unTickTransaction(transactions.searchTransaction(id));
-                    storage.saveTransactions(transactions.getTransactions());
-                    break;
-                    //@@ author
-                case COMMAND_STATUS:
-                    try {
-                        if (parts.length == 1 || parts[1].isBlank()) {
-                            Command statusWizard = new StatusWizardCommand();
-                            statusWizard.execute(transactions, ui, storage);
-                        } else {
-                            id = Integer.parseInt(parts[1]);
-                            Transaction t = transactions.searchTransaction(id);
-                            if (t == null) {
-                                throw new InvalidCommand("Transaction not found.");
-                            }
-
-                            if (t.isCompleted()) {
-                                t.notComplete();
-                                ui.unTickTransaction(t);
-                            } else {
-                                t.complete();
-                                ui.tickTransaction(t);
-                            }
-
-                            storage.saveTransactions(transactions.getTransactions());
-                        }
-                    } catch (NumberFormatException e) {
-                        throw new InvalidCommand("Invalid transaction ID format.");
-                    } catch (Exception e) {
-                        throw new InvalidCommand("Failed to update status: " + e.getMessage());
-                    }
-                    break;
-
-                //@@author yangyi-zhu
-                case COMMAND_SEARCH:
-                    boolean isIndex = parts[1].startsWith("id-");
-                    String keyWord = isIndex ? parts[1].substring(3) : parts[1];
-                    ui.search(isIndex);
-                    ui.printTransactions(transactions.searchTransactionList(isIndex, keyWord));
-                    break;
-                case COMMAND_EDIT:
-                    try {
-                        if (parts.length == 1 || parts[1].isBlank()) {
-                            Command editWizard = new EditWizardCommand();
-                            editWizard.execute(transactions, ui, storage);
-                        } else {
-                            parseEditCommands(parts[1], ui, transactions);
-                        }
-                        storage.saveTransactions(transactions.getTransactions());
-                    } catch (InvalidCommand ic) {
-                        throw new InvalidCommand(ic.getMessage());
-                    } catch (Exception e) {
-                        throw new InvalidCommand("Format invalid, try again! (edit [attribute] [id] [value])");
-                    }
-                    break;
-
-                //@@author
-
-                //@@author Lukapeng77
-                case COMMAND_DELETE:
-                    id = Integer.parseInt(parts[1]);
-                    new DeleteCommand(id, transactions);
-                    storage.saveTransactions(transactions.getTransactions());
-                    break;
-                case COMMAND_CLEAR:
-                    transactions.clear();
-                    storage.saveTransactions(transactions.getTransactions());
-                    ui.printClear();
-                    break;
-                case COMMAND_SET_BUDGET:
-                    details = parts[1].split(IDENTIFIER_AMOUNT, 2);
-                    amount = Double.parseDouble(details[1]);
-                    //@@author
-
-                    if (Double.isInfinite(amount) || Double.isNaN(amount)) {
-                        System.out.println("Invalid input: amount is too large, too small, or not a number.");
-                    }
-
-                    new SetBudgetCommand(amount, transactions);
-                    storage.saveTransactions(transactions.getTransactions());
-                    break;
-                case FIND_DATE:
-                    String time = parts[1];
-                    transactions.getUpcomingTransactions(time);
-                    break;
-                    //@@author HalFentise
-                case COMMAND_CURRENCY:
-                    Currency currency = parseCurrency(ui);
-                    transactions.setDefaultCurrency(currency);
-                    storage.saveDefaultCurrency(currency);
-                    break;
-                    //@@author
-                //@@author Lukapeng77
-                case COMMAND_NOTIFY:
-                    String[] detail = {"description", "category", "date"};
-                    String[] notifyPatterns = {
-                            "d/(.*?)(?:\\s+[ac]/|$)", // d/
-                            "c/(.*?)(?:\\s+[at]/|$)",  // c/
-                            "t/(.*?)(?:\\s+[da]/|$)"  // t/
-                    };
-
-                    String[] result = new String[detail.length];
-                    //match pattern
-                    for (int i = 0; i < detail.length; i++) {
-                        Pattern pattern = Pattern.compile(notifyPatterns[i]);
-                        Matcher matcher = pattern.matcher(parts[1]);
-
-                        if (matcher.find()) {
-                            result[i] = matcher.group(1).trim();
-                        } else {
-                            throw new InvalidCommand("No " + detail[i] + " found");
-                        }
-                    }
-
-                    String categoryString = result[1].toUpperCase();
-                    date = parseToLocalDate(result[2]);
-
-                    new NotifyCommand(result[0], categoryString, date, transactions, ui);
-                    storage.saveTransactions(transactions.getTransactions());
-                    break;
-                case COMMAND_ALERT:
-                    if (parts.length > 1 && !parts[1].trim().isEmpty()) {
-                        throw new InvalidCommand("Invalid command");
-                    }
-                    new AlertCommand(transactions, ui);
-                    storage.saveTransactions(transactions.getTransactions());
-                    break;
-
-                case COMMAND_SET_PRIORITY:
-                    try {
-                        details = parts[1].split(" ", 2);
-                        index = Integer.parseInt(details[0]);
-
-                        new SetPriorityCommand(index - 1, details[1], transactions, ui);
-                    } catch (NullException e) {
-                        throw new InvalidCommand("Invalid input format, should be (priority [id] [priority_level])");
-                    }
-                    storage.saveTransactions(transactions.getTransactions());
-                    break;
-                case COMMAND_SUMMARY:
-                    try {
-                        if (parts.length < 2) {
-                            throw new InvalidCommand("Missing date range. Use: summary from/YYYY-MM-DD to/YYYY-MM-DD");
-                        }
-
-                        Pattern pattern = Pattern.compile("from/(\\d{4}-\\d{2}-\\d{2})\\s+to/(\\d{4}-\\d{2}-\\d{2})");
-                        Matcher matcher = pattern.matcher(parts[1]);
-
-                        if (matcher.matches()) {
-                            LocalDate start = LocalDate.parse(matcher.group(1));
-                            LocalDate end = LocalDate.parse(matcher.group(2));
-                            new SummaryCommand(start, end, transactions, ui);
-                        } else {
-                            throw new InvalidCommand("Invalid summary command format. " +
-                                    "Follow this input format: summary from/YYYY-MM-DD to/YYYY-MM-DD");
-                        }
-                    } catch (DateTimeParseException e) {
-                        throw new InvalidCommand("Invalid date format. Follow this format: YYYY-MM-DD.");
-                    }
-                    break;
-                //@@author Lukapeng77
-                case COMMAND_CONVERT:
-                    try {
-                        Pattern pattern = Pattern.compile("id/(\\d+)\\s+to/(\\w+)", Pattern.CASE_INSENSITIVE);
-                        Matcher matcher = pattern.matcher(parts[1]);
-
-                        if (!matcher.find()) {
-                            throw new InvalidCommand("Invalid convert format. Use: convert id/TRANSACTION_ID to/CURRENCY");
-                        }
-
-                        int transactionId = Integer.parseInt(matcher.group(1).trim());
-                        Currency targetCurrency = Currency.valueOf(matcher.group(2).trim().toUpperCase());
-
-                        new ConvertCommand(transactionId, targetCurrency, transactions, ui);
-                        storage.saveTransactions(transactions.getTransactions());
-
-                    } catch (IllegalArgumentException e) {
-                        throw new InvalidCommand("Invalid currency code provided.");
-                    } catch (Exception e) {
-                        throw new InvalidCommand("Error processing convert command.");
-                    }
-                    break;
-
-                //@@author yangyi-zhu
-                case COMMAND_RECUR:
-                    int slashIndex = parts[1].indexOf("/");
-                    try {
-                        int transactionId = Integer.parseInt(parts[1].substring(0, slashIndex).trim());
-                        int recurringPeriod = Integer.parseInt(parts[1].substring(slashIndex + 1).trim());
-                        transactions.setRecur(transactionId, recurringPeriod);
-                        ui.setPeriod(transactions.searchTransaction(transactionId), recurringPeriod);
-                    } catch (StringIndexOutOfBoundsException | NumberFormatException fe) {
-                        throw new InvalidCommand("Format invalid, try again! (recur [id]/[period])");
-                    } catch (Exception e) {
-                        throw new InvalidCommand("Transaction not found!");
-                    }
-                    storage.saveTransactions(transactions.getTransactions());
-                    break;
-                //@@author
-                case COMMAND_EXIT:
-                    ui.printExit();
-                    storage.saveTransactions(transactions.getTransactions());
-                    System.exit(0);
-                    break;
-                case "saving":
-                    SavingMode.enter(ui, goal, transactions, storage);
-                    break;
-                case "budget":
-                    BudgetMode.enter(ui, transactions.getBudgetList(), transactions, storage);
-                    break;
-                case "balance":
-                    double bal = transactions.getCurrentBalanceInSGD();
-                    ui.printBalanceOverview(bal);
-                    break;
-
-                case "stats":
-                    ui.printStatisticsOverview(transactions);
-                    break;
-                //@@author yangyi-zhu
-                case COMMAND_GOAL:
-                    goal.updateExpenses(transactions);
-                    try {
-                        String goalTag = parts.length < 2 ? "placeholder" : parts[1];
-                        parseGoalCommands(goalTag, ui, goal);
-                    } catch (Exception e) {
-                        throw new InvalidCommand("Format invalid, try again!");
-                    }
-                    break;
-                //@@author
-                default:
-                    throw new InvalidCommand(INVALID_INPUT);
+            if (handler == null) {
+                throw new InvalidCommand(INVALID_INPUT);
             }
+            handler.handle(arguments, ui, transactions, goal, storage);
         } catch (Exception e) {
+            isFailed = true;
             ui.showError(e.getMessage());
+        } finally {
+            String name = handler == null ? UNKNOWN_COMMAND : commandType;
+            CommandLatencies.record(name, start);
+            executeEvent.finish(name, isFailed);
+        }
+    }
+
+    /**
+     * Splits the arguments of an {@code add} command into description, amount, category and date.
+     *
+     * @param arguments The text after the command word.
+     * @return The four values, with {@code null} for a missing date.
+     * @throws InvalidCommand If the description, amount or category is missing.
+     */
+    static String[] tokenizeAdd(String arguments) throws InvalidCommand {
+        return requireFields(ADD_ARGUMENTS.tokenize(arguments), ADD_FIELDS, ADD_FIELDS.length - 1);
+    }
+
+    /**
+     * Splits the arguments of a {@code notify} command into description, category and date.
+     *
+     * @param arguments The text after the command word.
+     * @return The three values.
+     * @throws InvalidCommand If any value is missing.
+     */
+    static String[] tokenizeNotify(String arguments) throws InvalidCommand {
+        return requireFields(NOTIFY_ARGUMENTS.tokenize(arguments), NOTIFY_FIELDS, NOTIFY_FIELDS.length);
+    }
+
+    private static String[] requireFields(String[] values, String[] fields, int requiredCount)
+            throws InvalidCommand {
+        for (int i = 0; i < requiredCount; i++) {
+            if (values[i] == null) {
+                throw new InvalidCommand("No " + fields[i] + " found");
+            }
+        }
+        return values;
+    }
+
+    private static String requireArguments(String arguments) throws InvalidCommand {
+        if (arguments == null) {
+            throw new InvalidCommand("Missing arguments for this command.");
+        }
+        return arguments;
+    }
+
+    //@@author HalFentise
+    private static void handleAdd(String arguments, Ui ui, TransactionManager transactions,
+                                  FinancialGoal goal, Storage storage) throws Exception {
+        if (arguments == null || arguments.isBlank()) {
+            Command addWizard = new AddWizardCommand();
+            addWizard.execute(transactions, ui, storage);
+            return;
+        }
+
+        String[] results = tokenizeAdd(arguments);
+        double amount = parseAmount(results[1]);
+        Category category = parseCategory(results[2], ui);
+        LocalDate date = parseToLocalDate(results[3]);
+
+        boolean success = transactions.addTransaction(results[0], amount, category, date);
+
+        if (success) {
+            ui.add(transactions.searchTransaction(transactions.getNum()));
+            storage.saveTransactions(transactions);
+        } else {
+            throw new InvalidCommand("Cannot add new transaction! Budget limit exceeded!");
+        }
+    }
+
+    private static void handleList(String arguments, Ui ui, TransactionManager transactions,
+                                   FinancialGoal goal, Storage storage) throws Exception {
+        if (arguments == null) {
+            ui.printTransactions(transactions.getTransactionView());
+            return;
+        }
+
+        String[] paging = LIST_ARGUMENTS.tokenize(arguments);
+        if (paging[0] == null) {
+            throw new InvalidCommand("Invalid command");
+        }
+        int page = parsePositive(paging[0], "page");
+        int size = paging[1] == null ? DEFAULT_PAGE_SIZE : parsePositive(paging[1], "page size");
+        ui.printTransactionPage(transactions.getTransactionPage(page, size), page, size, transactions.getSize());
+    }
+
+    /**
+     * Parses an amount of money, rejecting anything that cannot be stored in cents.
+     *
+     * @throws InvalidCommand If the value is not a number or is too large to store.
+     */
+    private static double parseAmount(String value) throws InvalidCommand {
+        try {
+            double amount = Double.parseDouble(value.trim());
+            Money.toCents(amount);
+            return amount;
+        } catch (NumberFormatException e) {
+            throw new InvalidCommand("Invalid amount: " + value.trim()
+                    + ". It should be a number small enough to store in cents.");
+        }
+    }
+
+    private static int parsePositive(String value, String name) throws InvalidCommand {
+        try {
+            int number = Integer.parseInt(value);
+            if (number > 0) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below, like a number that is not positive.
+        }
+        throw new InvalidCommand("The " + name + " should be a positive whole number.");
+    }
+
+    private static void handleTick(String arguments, Ui ui, TransactionManager transactions,
+                                   FinancialGoal goal, Storage storage) throws Exception {
+        int id = Integer.parseInt(requireArguments(arguments));
+        transactions.tickTransaction(id);
+        ui.tickTransaction(transactions.searchTransaction(id));
+        storage.saveTransactions(transactions);
+    }
+
+    private static void handleUntick(String arguments, Ui ui, TransactionManager transactions,
+                                     FinancialGoal goal, Storage storage) throws Exception {
+        int id = Integer.parseInt(requireArguments(arguments));
+        transactions.unTickTransaction(id);
+        ui.unTickTransaction(transactions.searchTransaction(id));
+        storage.saveTransactions(transactions);
+    }
+    //@@ author
+
+    private static void handleStatus(String arguments, Ui ui, TransactionManager transactions,
+                                     FinancialGoal goal, Storage storage) throws Exception {
+        try {
+            if (arguments == null || arguments.isBlank()) {
+                Command statusWizard = new StatusWizardCommand();
+                statusWizard.execute(transactions, ui, storage);
+            } else {
+                int id = Integer.parseInt(arguments);
+                Transaction t = transactions.searchTransaction(id);
+                if (t == null) {
+                    throw new InvalidCommand("Transaction not found.");
+                }
+
+                if (t.isCompleted()) {
+                    t.notComplete();
+                    ui.unTickTransaction(t);
+                } else {
+                    t.complete();
+                    ui.tickTransaction(t);
+                }
+
+                storage.saveTransactions(transactions);
+            }
+        } catch (NumberFormatException e) {
+            throw new InvalidCommand("Invalid transaction ID format.");
+        } catch (Exception e) {
+            throw new InvalidCommand("Failed to update status: " + e.getMessage());
         }
     }
 
+    //@@author yangyi-zhu
+    private static void handleSearch(String arguments, Ui ui, TransactionManager transactions,
+                                     FinancialGoal goal, Storage storage) throws Exception {
+        requireArguments(arguments);
+        boolean isIndex = arguments.startsWith("id-");
+        boolean isFuzzy = arguments.startsWith(FUZZY_SEARCH_PREFIX);
+        ui.search(isIndex);
+        if (isFuzzy) {
+            String fuzzyTerm = arguments.substring(FUZZY_SEARCH_PREFIX.length());
+            ui.printTransactions(transactions.fuzzySearchTransactionList(fuzzyTerm));
+            return;
+        }
+        String keyWord = isIndex ? arguments.substring(3) : arguments;
+        ui.printTransactions(transactions.searchTransactionList(isIndex, keyWord));
+    }
+
+    private static void handleEdit(String arguments, Ui ui, TransactionManager transactions,
+                                   FinancialGoal goal, Storage storage) throws Exception {
+        try {
+            if (arguments == null || arguments.isBlank()) {
+                Command editWizard = new EditWizardCommand();
+                editWizard.execute(transactions, ui, storage);
+            } else {
+                parseEditCommands(arguments, ui, transactions);
+            }
+            storage.saveTransactions(transactions);
+        } catch (InvalidCommand ic) {
+            throw new InvalidCommand(ic.getMessage());
+        } catch (Exception e) {
+            throw new InvalidCommand("Format invalid, try again! (edit [attribute] [id] [value])");
+        }
+    }
+    //@@author
+
+    //@@author Lukapeng77
+    private static void handleDelete(String arguments, Ui ui, TransactionManager transactions,
+                                     FinancialGoal goal, Storage storage) throws Exception {
+        int id = Integer.parseInt(requireArguments(arguments));
+        new DeleteCommand(id, transactions);
+        storage.saveTransactions(transactions);
+    }
+
+    private static void handleClear(String arguments, Ui ui, TransactionManager transactions,
+                                    FinancialGoal goal, Storage storage) throws Exception {
+        transactions.clear();
+        storage.saveTransactions(transactions);
+        ui.printClear();
+    }
+
+    private static void handleSetBudget(String arguments, Ui ui, TransactionManager transactions,
+                                        FinancialGoal goal, Storage storage) throws Exception {
+        String[] details = requireArguments(arguments).split(IDENTIFIER_AMOUNT, 2);
+        double amount = parseAmount(details[1]);
+        //@@author
+
+        new SetBudgetCommand(amount, transactions);
+        storage.saveTransactions(transactions);
+    }
+
+    //@@author HalFentise
+    private static void handleCurrency(String arguments, Ui ui, TransactionManager transactions,
+                                       FinancialGoal goal, Storage storage) throws Exception {
+        Currency currency = parseCurrency(ui);
+        transactions.setDefaultCurrency(currency);
+        storage.saveDefaultCurrency(currency);
+    }
+    //@@author
+
+    //@@author Lukapeng77
+    private static void handleNotify(String arguments, Ui ui, TransactionManager transactions,
+                                     FinancialGoal goal, Storage storage) throws Exception {
+        String[] result = tokenizeNotify(requireArguments(arguments));
+
+        String categoryString = result[1].toUpperCase();
+        LocalDate date = parseToLocalDate(result[2]);
+
+        new NotifyCommand(result[0], categoryString, date, transactions, ui);
+        storage.saveTransactions(transactions);
+    }
+
+    private static void handleAlert(String arguments, Ui ui, TransactionManager transactions,
+                                    FinancialGoal goal, Storage storage) throws Exception {
+        if (arguments != null && !arguments.trim().isEmpty()) {
+            throw new InvalidCommand("Invalid command");
+        }
+        new AlertCommand(transactions, ui);
+        storage.saveTransactions(transactions);
+    }
+
+    private static void handleSetPriority(String arguments, Ui ui, TransactionManager transactions,
+                                          FinancialGoal goal, Storage storage) throws Exception {
+        try {
+            String[] details = requireArguments(arguments).split(" ", 2);
+            int index = Integer.parseInt(details[0]);
+
+            new SetPriorityCommand(index - 1, details[1], transactions, ui);
+        } catch (NullException e) {
+            throw new InvalidCommand("Invalid input format, should be (priority [id] [priority_level])");
+        }
+        storage.saveTransactions(transactions);
+    }
+
+    private static void handleSummary(String arguments, Ui ui, TransactionManager transactions,
+                                      FinancialGoal goal, Storage storage) throws Exception {
+        try {
+            if (arguments == null) {
+                throw new InvalidCommand("Missing date range. Use: summary from/YYYY-MM-DD to/YYYY-MM-DD");
+            }
+
+            Matcher matcher = SUMMARY_PATTERN.matcher(arguments);
+
+            if (matcher.matches()) {
+                LocalDate start = LocalDate.parse(matcher.group(1));
+                LocalDate end = LocalDate.parse(matcher.group(2));
+                new SummaryCommand(start, end, transactions, ui);
+            } else {
+                throw new InvalidCommand("Invalid summary command format. " +
+                        "Follow this input format: summary from/YYYY-MM-DD to/YYYY-MM-DD");
+            }
+        } catch (DateTimeParseException e) {
+            throw new InvalidCommand("Invalid date format. Follow this format: YYYY-MM-DD.");
+        }
+    }
+
+    //@@author Lukapeng77
+    private static void handleConvert(String arguments, Ui ui, TransactionManager transactions,
+                                      FinancialGoal goal, Storage storage) throws Exception {
+        try {
+            Matcher matcher = CONVERT_PATTERN.matcher(requireArguments(arguments));
+
+            if (!matcher.find()) {
+                throw new InvalidCommand("Invalid convert format. Use: convert id/TRANSACTION_ID to/CURRENCY");
+            }
+
+            int transactionId = Integer.parseInt(matcher.group(1).trim());
+            Currency targetCurrency = Currency.valueOf(matcher.group(2).trim().toUpperCase());
+
+            new ConvertCommand(transactionId, targetCurrency, transactions, ui);
+            storage.saveTransactions(transactions);
+
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCommand("Invalid currency code provided.");
+        } catch (Exception e) {
+            throw new InvalidCommand("Error processing convert command.");
+        }
+    }
+
+    //@@author yangyi-zhu
+    private static void handleRecur(String arguments, Ui ui, TransactionManager transactions,
+                                    FinancialGoal goal, Storage storage) throws Exception {
+        String details = requireArguments(arguments);
+        int slashIndex = details.indexOf("/");
+        try {
+            int transactionId = Integer.parseInt(details.substring(0, slashIndex).trim());
+            int recurringPeriod = Integer.parseInt(details.substring(slashIndex + 1).trim());
+            transactions.setRecur(transactionId, recurringPeriod);
+            ui.setPeriod(transactions.searchTransaction(transactionId), recurringPeriod);
+        } catch (StringIndexOutOfBoundsException | NumberFormatException fe) {
+            throw new InvalidCommand("Format invalid, try again! (recur [id]/[period])");
+        } catch (Exception e) {
+            throw new InvalidCommand("Transaction not found!");
+        }
+        storage.saveTransactions(transactions);
+    }
+    //@@author
+
+    private static void handleExit(String arguments, Ui ui, TransactionManager transactions,
+                                   FinancialGoal goal, Storage storage) throws Exception {
+        ui.printExit();
+        storage.flushTransactions(transactions);
+        transactions.releaseReservedIds();
+        System.exit(0);
+    }
+
+    //@@author yangyi-zhu
+    private static void handleGoal(String arguments, Ui ui, TransactionManager transactions,
+                                   FinancialGoal goal, Storage storage) throws Exception {
+        goal.updateExpenses(transactions);
+        try {
+            String goalTag = arguments == null ? "placeholder" : arguments;
+            parseGoalCommands(goalTag, ui, goal);
+        } catch (Exception e) {
+            throw new InvalidCommand("Format invalid, try again!");
+        }
+    }
+    //@@author
+
     //@@author yangyi-zhu
     /**
      * Attempts to parse user commands pertaining to financial goal.
@@ -455,10 +592,9 @@ public class Parser {
         ui.showError("Invalid category: \"" + userInput + "\"");
         ui.printCategoryChoice();
 
-        Scanner scanner = new Scanner(System.in);
         while (true) {
             ui.printCategoryHint();
-            String choice = scanner.nextLine();
+            String choice = ui.readLine();
             if (choice.equals("exit")) {
                 return Category.OTHER;
             }
@@ -477,10 +613,9 @@ public class Parser {
 
     public static Currency parseCurrency(Ui ui) {
         ui.printCurrencyChoice();
-        Scanner scanner = new Scanner(System.in);
         while (true) {
             ui.printCurrencyHint();
-            String choice = scanner.nextLine();
+            String choice = ui.readLine();
             if (choice.equals("exit")) {
                 return Currency.SGD;
             }
@@ -503,14 +638,7 @@ public class Parser {
             return null;
         }
 
-        DateTimeFormatter[] formats = new DateTimeFormatter[]{
-                DateTimeFormatter.ofPattern("yyyy-MM-dd"),
-                DateTimeFormatter.ofPattern("dd/MM/yyyy"),
-                DateTimeFormatter.ofPattern("dd-MM-yyyy"),
-                DateTimeFormatter.ofPattern("yyyy/MM/dd")
-        };
-
-        for (DateTimeFormatter format : formats) {
+        for (DateTimeFormatter format : DATE_FORMATS) {
             try {
                 return LocalDate.parse(input.trim(), format);
             } catch (DateTimeParseException ignored) {
@@ -0,0 +1,73 @@
+package seedu.duke;
+
+import constant.Constant;
+import parser.Parser;
+import ui.Ui;
+
+/**
+ * Runs commands read from a script without prompting, e.g. for bulk imports.
+ * Transaction tables are left out of the output, and changes are saved once at the end and optionally
+ * every given number of commands, instead of after every command.
+ */
+public class BatchRunner {
+    /** Flush interval that only saves once, at the end of the script. */
+    public static final int FLUSH_AT_END = 0;
+
+    private final Ui ui;
+    private final TransactionManager transactions;
+    private final FinancialGoal goal;
+    private final Storage storage;
+    private final int flushInterval;
+
+    /**
+     * Creates a runner for the commands readable from the given UI.
+     *
+     * @param ui            The UI to read commands from and report errors to.
+     * @param transactions  The transactions the commands act on.
+     * @param goal          The financial goal the commands act on.
+     * @param storage       The storage to save changes to.
+     * @param flushInterval Number of commands between saves, or {@link #FLUSH_AT_END}.
+     */
+    public BatchRunner(Ui ui, TransactionManager transactions, FinancialGoal goal, Storage storage,
+            int flushInterval) {
+        assert flushInterval >= 0 : "Flush interval should be non-negative";
+        this.ui = ui;
+        this.transactions = transactions;
+        this.goal = goal;
+        this.storage = storage;
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * Runs every command up to the end of the input or an {@code exit} command, then saves all changes.
+     * Blank lines and lines starting with {@code #} are skipped.
+     *
+     * @return The number of commands run.
+     */
+    public int run() {
+        ui.setQuiet(true);
+        storage.setSavingDeferred(true);
+        int count = 0;
+        try {
+            while (ui.hasNextLine()) {
+                String command = ui.readLine().trim();
+                if (command.isEmpty() || command.startsWith("#")) {
+                    continue;
+                }
+                if (command.equalsIgnoreCase(Constant.COMMAND_EXIT)) {
+                    break;
+                }
+                Parser.parser(command, ui, transactions, goal, storage);
+                count++;
+                if (flushInterval > 0 && count % flushInterval == 0) {
+                    storage.flushTransactions(transactions);
+                }
+            }
+        } finally {
+            storage.flushTransactions(transactions);
+            storage.setSavingDeferred(false);
+            ui.setQuiet(false);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,256 @@
+package seedu.duke;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+
+import enums.Category;
+import enums.Currency;
+import enums.Priority;
+import enums.Status;
+import exceptions.StorageParseException;
+
+/**
+ * Reads and writes transaction snapshots in a compact binary format.
+ *
+ * <p>The file starts with a header of the magic number, the format version and the row count.
+ * Each row then stores the id, the amount as a long in cents, the currency,
+ * category, status and priority as ordinals, the date as an epoch day, the recurring period,
+ * a flag byte for the deleted and completed states, and the description as length-prefixed UTF-8.
+ * Enum ordinals are tied to the format version, so reordering an enum requires a version bump.</p>
+ *
+ * <p>Version 1 stored the amount as a fixed-point long in millionths instead, which does not fit every
+ * amount in cents. Such snapshots are still read and are rewritten as version 2 on the next save.</p>
+ */
+public final class BinarySnapshot {
+    /** Magic number at the start of every binary snapshot, {@code "DUKE"} in ASCII. */
+    public static final int MAGIC = 0x44554B45;
+
+    /** Version of the row layout written by this class. */
+    public static final short VERSION = 2;
+
+    /** Version whose rows store amounts in fixed-point millionths. */
+    public static final short FIXED_POINT_VERSION = 1;
+
+    /** Number of fixed-point units per unit of currency in {@link #FIXED_POINT_VERSION} rows. */
+    public static final long AMOUNT_SCALE = 1_000_000L;
+
+    private static final long FIXED_POINT_UNITS_PER_CENT = AMOUNT_SCALE / Money.CENTS_PER_UNIT;
+
+    private static final byte NO_ORDINAL = -1;
+    private static final int NO_DATE = Integer.MIN_VALUE;
+    private static final int DELETED_FLAG = 1;
+    private static final int COMPLETED_FLAG = 2;
+
+    /** Size of the magic number, version and row count. */
+    private static final int HEADER_BYTES = 4 + 2 + 4;
+
+    /** Size of a row with an empty description. */
+    private static final int MIN_ROW_BYTES = 4 + 8 + 4 + 4 + 4 + 1 + 4;
+
+    private static final Currency[] CURRENCIES = Currency.values();
+    private static final Category[] CATEGORIES = Category.values();
+    private static final Status[] STATUSES = Status.values();
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    private BinarySnapshot() {
+    }
+
+    /**
+     * Writes the given transactions to a binary snapshot, replacing the file if it exists.
+     *
+     * @param file         The file to write.
+     * @param transactions The transactions to store, in order.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void write(File file, Collection<Transaction> transactions) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeInt(transactions.size());
+            for (Transaction t : transactions) {
+                writeRow(out, t);
+            }
+        }
+    }
+
+    /**
+     * Reads all transactions from a binary snapshot.
+     *
+     * @param file The file to read.
+     * @return The transactions in file order.
+     * @throws IOException           If the file cannot be read or ends early.
+     * @throws StorageParseException If the header or a row is not valid.
+     */
+    public static ArrayList<Transaction> read(File file) throws IOException {
+        long fileBytes = file.length();
+        CountingInputStream counter = new CountingInputStream(new BufferedInputStream(new FileInputStream(file)));
+        try (DataInputStream in = new DataInputStream(counter)) {
+            if (in.readInt() != MAGIC) {
+                throw new StorageParseException("Not a transaction snapshot: " + file);
+            }
+            short version = in.readShort();
+            if (version != VERSION && version != FIXED_POINT_VERSION) {
+                throw new StorageParseException("Unsupported snapshot version: " + version);
+            }
+            int count = in.readInt();
+            if (count < 0 || count > (fileBytes - HEADER_BYTES) / MIN_ROW_BYTES) {
+                throw new StorageParseException("Invalid row count: " + count);
+            }
+
+            ArrayList<Transaction> transactions = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                transactions.add(readRow(in, version, fileBytes - counter.getCount() - MIN_ROW_BYTES));
+            }
+            return transactions;
+        } catch (EOFException e) {
+            throw new IOException("Snapshot is truncated: " + file, e);
+        }
+    }
+
+    /**
+     * Returns the size of the row of a transaction in a binary snapshot.
+     *
+     * @param t The transaction.
+     * @return The number of bytes its row takes.
+     */
+    public static int rowBytes(Transaction t) {
+        return MIN_ROW_BYTES + t.getDescription().getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * Converts an amount in fixed-point millionths from a {@link #FIXED_POINT_VERSION} row to money,
+     * rounding half up to the nearest cent.
+     *
+     * @param fixedPoint The amount in millionths.
+     * @return The amount.
+     */
+    public static Money fromFixedPoint(long fixedPoint) {
+        return Money.ofCents(Math.floorDiv(fixedPoint + FIXED_POINT_UNITS_PER_CENT / 2, FIXED_POINT_UNITS_PER_CENT));
+    }
+
+    private static void writeRow(DataOutputStream out, Transaction t) throws IOException {
+        out.writeInt(t.getId());
+        out.writeLong(t.getAmountCents());
+        out.writeByte(ordinalOf(t.getCurrency()));
+        out.writeByte(ordinalOf(t.getCategory()));
+        out.writeByte(ordinalOf(t.getStatus()));
+        out.writeByte(ordinalOf(t.getPriority()));
+        out.writeInt(t.getDate() == null ? NO_DATE : (int) t.getDate().toEpochDay());
+        out.writeInt(t.getRecurringPeriod());
+        out.writeByte((t.isDeleted() ? DELETED_FLAG : 0) | (t.isCompleted() ? COMPLETED_FLAG : 0));
+
+        byte[] description = t.getDescription().getBytes(StandardCharsets.UTF_8);
+        out.writeInt(description.length);
+        out.write(description);
+    }
+
+    /**
+     * Reads one row.
+     *
+     * @param version             Format version of the file.
+     * @param maxDescriptionBytes Bytes left in the file after the fixed-size fields of this row.
+     */
+    private static Transaction readRow(DataInputStream in, short version, long maxDescriptionBytes)
+            throws IOException {
+        int id = in.readInt();
+        long storedAmount = in.readLong();
+        Money amount = version == FIXED_POINT_VERSION ? fromFixedPoint(storedAmount) : Money.ofCents(storedAmount);
+        Currency currency = valueAt(CURRENCIES, in.readByte(), "currency");
+        Category category = valueAt(CATEGORIES, in.readByte(), "category");
+        Status status = valueAt(STATUSES, in.readByte(), "status");
+        Priority priority = valueAt(PRIORITIES, in.readByte(), "priority");
+        int epochDay = in.readInt();
+        LocalDate date = epochDay == NO_DATE ? null : LocalDate.ofEpochDay(epochDay);
+        int recurringPeriod = in.readInt();
+        int flags = in.readByte();
+
+        int length = in.readInt();
+        if (length < 0 || length > maxDescriptionBytes) {
+            throw new StorageParseException("Invalid description length: " + length);
+        }
+        byte[] description = new byte[length];
+        in.readFully(description);
+
+        Transaction transaction = new Transaction(id, new String(description, StandardCharsets.UTF_8),
+                amount, currency, category, date, status);
+        transaction.setRecurringPeriod(recurringPeriod);
+        if (priority != null) {
+            transaction.setPriority(priority);
+        }
+        if ((flags & DELETED_FLAG) != 0) {
+            transaction.delete();
+        }
+        if ((flags & COMPLETED_FLAG) != 0) {
+            transaction.complete();
+        }
+        return transaction;
+    }
+
+    private static byte ordinalOf(Enum<?> value) {
+        return value == null ? NO_ORDINAL : (byte) value.ordinal();
+    }
+
+    private static <E> E valueAt(E[] values, byte ordinal, String field) {
+        if (ordinal == NO_ORDINAL) {
+            return null;
+        }
+        if (ordinal < 0 || ordinal >= values.length) {
+            throw new StorageParseException("Invalid " + field + " ordinal: " + ordinal);
+        }
+        return values[ordinal];
+    }
+
+    /**
+     * Stream that counts the bytes read through it, so that lengths read from a file can be checked against
+     * what is left of it.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count = 0;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
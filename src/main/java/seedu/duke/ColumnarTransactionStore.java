@@ -0,0 +1,252 @@
+package seedu.duke;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import enums.Category;
+import enums.Currency;
+import enums.Priority;
+import enums.Status;
+
+/**
+ * Keeps transactions as columns of primitive arrays instead of one object each, which takes a fraction
+ * of the heap for large ledgers. Amounts are stored in cents, enums as ordinals, dates as epoch days,
+ * the deleted and completed states as bit sets, and descriptions as references into a pool of distinct strings.
+ *
+ * <p>{@link #get(int)} builds a {@link Transaction} view of a row on demand. Views are cached weakly,
+ * so a view stays the same object while anyone still refers to it and is dropped once nobody does.
+ * Edits made on a view are copied back into the columns by {@link #update(int, Transaction)}.
+ * Tags are not stored, as they are not persisted either.
+ */
+public class ColumnarTransactionStore implements TransactionStore {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final byte NO_ORDINAL = -1;
+    private static final int NO_DATE = Integer.MIN_VALUE;
+
+    private static final Currency[] CURRENCIES = Currency.values();
+    private static final Category[] CATEGORIES = Category.values();
+    private static final Status[] STATUSES = Status.values();
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    private final TransactionListener listener;
+
+    private int size;
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private long[] amountCents = new long[INITIAL_CAPACITY];
+    private byte[] currencyOrdinals = new byte[INITIAL_CAPACITY];
+    private byte[] categoryOrdinals = new byte[INITIAL_CAPACITY];
+    private byte[] statusOrdinals = new byte[INITIAL_CAPACITY];
+    private byte[] priorityOrdinals = new byte[INITIAL_CAPACITY];
+    private int[] epochDays = new int[INITIAL_CAPACITY];
+    private int[] recurringPeriods = new int[INITIAL_CAPACITY];
+    private int[] descriptionRefs = new int[INITIAL_CAPACITY];
+    private final BitSet deleted = new BitSet();
+    private final BitSet completed = new BitSet();
+
+    /** Distinct descriptions, referenced by position. Descriptions replaced by an edit stay until cleared. */
+    private final ArrayList<String> descriptions = new ArrayList<>();
+    private final Map<String, Integer> descriptionRefsByValue = new HashMap<>();
+
+    /** Views handed out and possibly still in use, by slot; {@code null} where none was handed out. */
+    private ViewReference[] views = new ViewReference[INITIAL_CAPACITY];
+    private final ReferenceQueue<Transaction> collectedViews = new ReferenceQueue<>();
+
+    /**
+     * Creates an empty store.
+     *
+     * @param listener Receives the edits of every view handed out by the store.
+     */
+    public ColumnarTransactionStore(TransactionListener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void add(Transaction transaction) {
+        ensureCapacity(size + 1);
+        int slot = size++;
+        write(slot, transaction);
+        cacheView(slot, transaction);
+    }
+
+    @Override
+    public Transaction get(int slot) {
+        checkSlot(slot);
+        expungeCollectedViews();
+        ViewReference reference = views[slot];
+        Transaction view = reference == null ? null : reference.get();
+        if (view == null) {
+            view = materialize(slot);
+            cacheView(slot, view);
+        }
+        return view;
+    }
+
+    @Override
+    public void update(int slot, Transaction transaction) {
+        checkSlot(slot);
+        write(slot, transaction);
+    }
+
+    @Override
+    public int indexOf(Transaction transaction) {
+        int slot = transaction.getSlot();
+        return slot >= 0 && slot < size && get(slot) == transaction ? slot : -1;
+    }
+
+    @Override
+    public int getId(int slot) {
+        checkSlot(slot);
+        return ids[slot];
+    }
+
+    @Override
+    public boolean isDeleted(int slot) {
+        checkSlot(slot);
+        return deleted.get(slot);
+    }
+
+    @Override
+    public String getDescription(int slot) {
+        checkSlot(slot);
+        return descriptions.get(descriptionRefs[slot]);
+    }
+
+    @Override
+    public Category getCategory(int slot) {
+        checkSlot(slot);
+        return valueAt(CATEGORIES, categoryOrdinals[slot]);
+    }
+
+    @Override
+    public int getRecurringPeriod(int slot) {
+        checkSlot(slot);
+        return recurringPeriods[slot];
+    }
+
+    @Override
+    public void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, ids.length + (ids.length >> 1));
+        ids = Arrays.copyOf(ids, newCapacity);
+        amountCents = Arrays.copyOf(amountCents, newCapacity);
+        currencyOrdinals = Arrays.copyOf(currencyOrdinals, newCapacity);
+        categoryOrdinals = Arrays.copyOf(categoryOrdinals, newCapacity);
+        statusOrdinals = Arrays.copyOf(statusOrdinals, newCapacity);
+        priorityOrdinals = Arrays.copyOf(priorityOrdinals, newCapacity);
+        epochDays = Arrays.copyOf(epochDays, newCapacity);
+        recurringPeriods = Arrays.copyOf(recurringPeriods, newCapacity);
+        descriptionRefs = Arrays.copyOf(descriptionRefs, newCapacity);
+        views = Arrays.copyOf(views, newCapacity);
+    }
+
+    @Override
+    public void clear() {
+        for (int slot = 0; slot < size; slot++) {
+            Transaction view = views[slot] == null ? null : views[slot].get();
+            if (view != null) {
+                view.setListener(null, -1);
+            }
+            views[slot] = null;
+        }
+        while (collectedViews.poll() != null) {
+            // Already cleared from the array above.
+        }
+        size = 0;
+        deleted.clear();
+        completed.clear();
+        descriptions.clear();
+        descriptionRefsByValue.clear();
+    }
+
+    private void write(int slot, Transaction transaction) {
+        ids[slot] = transaction.getId();
+        amountCents[slot] = transaction.getAmountCents();
+        currencyOrdinals[slot] = ordinalOf(transaction.getCurrency());
+        categoryOrdinals[slot] = ordinalOf(transaction.getCategory());
+        statusOrdinals[slot] = ordinalOf(transaction.getStatus());
+        priorityOrdinals[slot] = ordinalOf(transaction.getPriority());
+        epochDays[slot] = transaction.getDate() == null ? NO_DATE : (int) transaction.getDate().toEpochDay();
+        recurringPeriods[slot] = transaction.getRecurringPeriod();
+        descriptionRefs[slot] = descriptionRefOf(transaction.getDescription());
+        deleted.set(slot, transaction.isDeleted());
+        completed.set(slot, transaction.isCompleted());
+    }
+
+    /**
+     * Builds a new view of the given row, without caching it.
+     */
+    Transaction materialize(int slot) {
+        LocalDate date = epochDays[slot] == NO_DATE ? null : LocalDate.ofEpochDay(epochDays[slot]);
+        return new Transaction(ids[slot], descriptions.get(descriptionRefs[slot]), amountCents[slot],
+                valueAt(CURRENCIES, currencyOrdinals[slot]), valueAt(CATEGORIES, categoryOrdinals[slot]), date,
+                valueAt(STATUSES, statusOrdinals[slot]), valueAt(PRIORITIES, priorityOrdinals[slot]),
+                recurringPeriods[slot], deleted.get(slot), completed.get(slot));
+    }
+
+    private void cacheView(int slot, Transaction view) {
+        expungeCollectedViews();
+        view.setListener(listener, slot);
+        views[slot] = new ViewReference(view, slot, collectedViews);
+    }
+
+    /**
+     * Drops the references to views that the garbage collector has reclaimed.
+     */
+    private void expungeCollectedViews() {
+        ViewReference reference;
+        while ((reference = (ViewReference) collectedViews.poll()) != null) {
+            if (reference.slot < views.length && views[reference.slot] == reference) {
+                views[reference.slot] = null;
+            }
+        }
+    }
+
+    private int descriptionRefOf(String description) {
+        Integer ref = descriptionRefsByValue.get(description);
+        if (ref == null) {
+            ref = descriptions.size();
+            descriptions.add(description);
+            descriptionRefsByValue.put(description, ref);
+        }
+        return ref;
+    }
+
+    private void checkSlot(int slot) {
+        if (slot < 0 || slot >= size) {
+            throw new IndexOutOfBoundsException("Slot " + slot + " out of bounds for size " + size);
+        }
+    }
+
+    private static byte ordinalOf(Enum<?> value) {
+        return value == null ? NO_ORDINAL : (byte) value.ordinal();
+    }
+
+    private static <E> E valueAt(E[] values, byte ordinal) {
+        return ordinal == NO_ORDINAL ? null : values[ordinal];
+    }
+
+    /**
+     * Weak reference to a view that remembers the slot it was cached under.
+     */
+    private static final class ViewReference extends WeakReference<Transaction> {
+        private final int slot;
+
+        private ViewReference(Transaction view, int slot, ReferenceQueue<Transaction> queue) {
+            super(view, queue);
+            this.slot = slot;
+        }
+    }
+}
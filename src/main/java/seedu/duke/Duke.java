@@ -1,8 +1,18 @@
 package seedu.duke;
 
+import metrics.CommandLatencies;
+import ui.OutputSink;
 import ui.Ui;
 import parser.Parser;
 
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+
 /**
  * The {@code Duke} class serves as the entry point of the Budget flow application.
  * It initializes all core components including UI, storage, transaction manager,
@@ -10,6 +20,18 @@ import parser.Parser;
  * executing user commands.
  */
 public class Duke {
+    /** Command-line option running the commands of a file, or of standard input for {@code -}, as a batch. */
+    private static final String SCRIPT_OPTION = "--script";
+
+    /** Command-line option setting how many batch commands run between saves. */
+    private static final String FLUSH_EVERY_OPTION = "--flush-every";
+
+    /** Command-line option writing all output to a file instead of the terminal. */
+    private static final String OUTPUT_OPTION = "--output";
+
+    /** Command-line option writing the latency of every command to a file at exit. */
+    private static final String PERF_DUMP_OPTION = "--perf-dump";
+
     /** Manages all transactions and budget logic. */
     private final TransactionManager transactions;
 
@@ -29,7 +51,16 @@ public class Duke {
      * Includes assertions to ensure key components are initialized.
      */
     public Duke() {
-        ui = new Ui();
+        this(new Ui());
+    }
+
+    /**
+     * Constructs a new {@code Duke} instance that interacts through the given UI.
+     *
+     * @param ui The UI to read commands from and print to.
+     */
+    public Duke(Ui ui) {
+        this.ui = ui;
         storage = new Storage();
         transactions = new TransactionManager();
         transactions.setStorage(storage);
@@ -60,16 +91,101 @@ public class Duke {
                 continue;
             }
             Parser.parser(command, ui, transactions, goal, storage);
+            OutputSink.flush();
         }
     }
 
+    /**
+     * Runs all commands readable from the UI as a batch, saving changes once at the end
+     * and every {@code flushInterval} commands if it is positive.
+     *
+     * @param flushInterval Number of commands between saves, or {@link BatchRunner#FLUSH_AT_END}.
+     */
+    public void runScript(int flushInterval) {
+        long start = System.nanoTime();
+        int count = new BatchRunner(ui, transactions, goal, storage, flushInterval).run();
+        transactions.releaseReservedIds();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("Ran " + count + " commands in " + elapsedMillis + " ms.");
+    }
+
     /**
      * The main method. Entry point of the application.
+     * With {@code --script FILE [--flush-every N]}, the commands of the file (or of standard input if
+     * {@code FILE} is {@code -}) are run as a batch instead of interactively.
+     * With {@code --output FILE}, all output is written to the file instead of the terminal.
+     * With {@code --perf-dump FILE}, the latencies shown by the {@code perf} command are written to the file
+     * when the application exits.
      *
-     * @param args Command-line arguments (not used).
+     * @param args Command-line arguments.
      */
     public static void main(String[] args) {
-        new Duke().run();
+        String script = null;
+        String output = null;
+        String perfDump = null;
+        int flushInterval = BatchRunner.FLUSH_AT_END;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals(SCRIPT_OPTION) && i + 1 < args.length) {
+                    script = args[++i];
+                } else if (args[i].equals(FLUSH_EVERY_OPTION) && i + 1 < args.length) {
+                    flushInterval = Math.max(Integer.parseInt(args[++i]), BatchRunner.FLUSH_AT_END);
+                } else if (args[i].equals(OUTPUT_OPTION) && i + 1 < args.length) {
+                    output = args[++i];
+                } else if (args[i].equals(PERF_DUMP_OPTION) && i + 1 < args.length) {
+                    perfDump = args[++i];
+                } else {
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            System.out.println("Usage: [" + SCRIPT_OPTION + " FILE|- [" + FLUSH_EVERY_OPTION + " N]] ["
+                    + OUTPUT_OPTION + " FILE] [" + PERF_DUMP_OPTION + " FILE]");
+            return;
+        }
+        if (perfDump != null) {
+            CommandLatencies.dumpOnExit(Path.of(perfDump));
+        }
+
+        OutputStream outputFile = null;
+        try {
+            if (output == null) {
+                OutputSink.install();
+            } else {
+                outputFile = new FileOutputStream(output);
+                OutputSink.install(outputFile);
+            }
+        } catch (FileNotFoundException e) {
+            System.out.println("Cannot write output to " + output + ": " + e.getMessage());
+            return;
+        }
+
+        if (script == null) {
+            new Duke().run();
+            return;
+        }
+        try (InputStream in = script.equals("-") ? System.in : new FileInputStream(script)) {
+            new Duke(new Ui(in)).runScript(flushInterval);
+        } catch (FileNotFoundException e) {
+            System.out.println("Script not found: " + script);
+        } catch (IOException e) {
+            System.out.println("Error reading script: " + e.getMessage());
+        } finally {
+            OutputSink.uninstall();
+            closeQuietly(outputFile);
+        }
+    }
+
+    private static void closeQuietly(OutputStream stream) {
+        if (stream == null) {
+            return;
+        }
+        try {
+            stream.close();
+        } catch (IOException e) {
+            System.out.println("Error closing output: " + e.getMessage());
+        }
     }
 }
 
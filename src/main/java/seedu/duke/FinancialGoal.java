@@ -3,16 +3,17 @@ package seedu.duke;
 import enums.Currency;
 import ui.Ui;
 
-import java.util.Scanner;
-
 /**
  * Represents a financial goal with a target amount, description, and current savings balance.
  * Allows setting and updating goal properties, tracking savings and expenses, and interacting with the user.
  */
 public class FinancialGoal {
-    private double deposits;
+    /** Target of the default goal, which has no real target. */
+    private static final long NO_TARGET_CENTS = Money.toCents(Integer.MAX_VALUE);
+
+    private long depositCents;
     private String currentGoal;
-    private double targetAmount;
+    private long targetCents;
     private String description;
     private Currency currency;
 
@@ -20,7 +21,7 @@ public class FinancialGoal {
 
     private boolean isAchieved;
     private boolean isBlank;
-    private double expenses;
+    private long expenseCents;
 
     // Constructors
 
@@ -33,7 +34,7 @@ public class FinancialGoal {
      */
     public FinancialGoal(String name, double targetAmount, String description) {
         this.currentGoal = name;
-        this.targetAmount = targetAmount;
+        this.targetCents = Money.toCents(targetAmount);
         this.description = description;
         this.isAchieved = false;
         isBlank = false;
@@ -50,7 +51,7 @@ public class FinancialGoal {
      */
     public FinancialGoal(String name, double targetAmount, String description, Currency currency) {
         this.currentGoal = name;
-        this.targetAmount = targetAmount;
+        this.targetCents = Money.toCents(targetAmount);
         this.description = description;
         this.isAchieved = false;
         isBlank = false;
@@ -62,10 +63,10 @@ public class FinancialGoal {
      */
     public FinancialGoal() {
         this.currentGoal = "--Loose Savings--";
-        this.targetAmount = Integer.MAX_VALUE;
+        this.targetCents = NO_TARGET_CENTS;
         this.description = "General Savings - Use command to add goal";
         this.isAchieved = false;
-        this.deposits = 0;
+        this.depositCents = 0;
         isBlank = true;
     }
 
@@ -95,7 +96,7 @@ public class FinancialGoal {
      * @return The goal's target amount.
      */
     public double getTargetAmount() {
-        return this.targetAmount;
+        return Money.toUnits(this.targetCents);
     }
 
     /**
@@ -122,7 +123,7 @@ public class FinancialGoal {
      * @return The current balance saved toward the goal.
      */
     public double getBalance() {
-        return this.deposits - this.expenses;
+        return Money.toUnits(this.depositCents - this.expenseCents);
     }
 
     /**
@@ -131,7 +132,7 @@ public class FinancialGoal {
      * @return Total sum of deposits made.
      */
     public double getDeposits() {
-        return this.deposits;
+        return Money.toUnits(this.depositCents);
     }
 
     // Set methods
@@ -153,7 +154,7 @@ public class FinancialGoal {
      */
     public void setTargetAmount(double targetAmount) {
         isBlank = false;
-        this.targetAmount = targetAmount;
+        this.targetCents = Money.toCents(targetAmount);
     }
 
     /**
@@ -175,7 +176,7 @@ public class FinancialGoal {
      */
     public void addToSavings(double amount) {
         isBlank = false;
-        deposits += amount;
+        depositCents += Money.toCents(amount);
         checkGoalStatus();
     }
 
@@ -186,7 +187,7 @@ public class FinancialGoal {
      */
     public void subFromSavings(double amount) {
         isBlank = false;
-        deposits -= amount;
+        depositCents -= Money.toCents(amount);
         Ui.subFromSavings(amount, getBalance());
     }
 
@@ -194,7 +195,7 @@ public class FinancialGoal {
      * Checks if the savings have met or exceeded the target amount and updates the achievement status.
      */
     public void checkGoalStatus() {
-        isAchieved = Ui.printGoalStatus(getBalance(), targetAmount);
+        isAchieved = Ui.printGoalStatus(getBalance(), getTargetAmount());
     }
 
     /**
@@ -203,7 +204,7 @@ public class FinancialGoal {
      * @param transactions The transaction manager instance containing expense data.
      */
     public void updateExpenses(TransactionManager transactions) {
-        expenses = transactions.getTotalAmount();
+        expenseCents = Money.toCents(transactions.getTotalAmount());
     }
 
     // Goal setting (uses ui parameter)
@@ -214,22 +215,21 @@ public class FinancialGoal {
      * @param ui The UI instance for interacting with the user.
      */
     public void createNewGoal(Ui ui) {
-        Scanner sc = new Scanner(System.in);
         String goalName;
         double amount;
         Ui.createGoalConfirm();
 
-        if (!sc.nextLine().equalsIgnoreCase("Y")) {
+        if (!ui.readLine().equalsIgnoreCase("Y")) {
             Ui.createGoalAborted();
             return;
         }
 
         Ui.createGoalName();
-        goalName = sc.nextLine();
+        goalName = ui.readLine();
 
         Ui.createGoalTarget();
         try {
-            amount = Double.parseDouble(sc.nextLine());
+            amount = Double.parseDouble(ui.readLine());
             if (amount <= 0) {
                 ui.showError("Target amount must be a positive number.");
                 return;
@@ -240,7 +240,7 @@ public class FinancialGoal {
         }
 
         Ui.createGoalDescription();
-        setDescription(sc.nextLine());
+        setDescription(ui.readLine());
         setGoal(goalName);
         setTargetAmount(amount);
 
@@ -256,14 +256,14 @@ public class FinancialGoal {
      */
     @Override
     public String toString() {
-        if (targetAmount == Integer.MAX_VALUE) {
+        if (targetCents == NO_TARGET_CENTS) {
             return currentGoal + "\n"
                     + description + "\n$"
                     + "balance: " + getBalance() + "\n";
         }
         return currentGoal + "\n"
                 + description + "\n$"
-                + getBalance() + " / $" + targetAmount + " saved \n"
+                + getBalance() + " / $" + getTargetAmount() + " saved \n"
                 + (isAchieved ? "Goal Reached!" : "Keep saving!");
     }
 
@@ -273,7 +273,7 @@ public class FinancialGoal {
      * @param deposits The new deposit amount to set.
      */
     public void forceSetDeposits(double deposits) {
-        this.deposits = deposits;
+        this.depositCents = Money.toCents(deposits);
     }
 
     /**
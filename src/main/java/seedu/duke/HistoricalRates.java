@@ -0,0 +1,212 @@
+package seedu.duke;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import enums.Currency;
+import exceptions.StorageParseException;
+
+/**
+ * An immutable time series of exchange rates per currency, used to convert an amount at the rate of its own date.
+ * Each currency's observations are kept as a sorted array of epoch days with a parallel array of rates, and
+ * the rate on a day is that of the latest observation on or before it, found by binary search. Days before
+ * the first observation use the first one. Currencies without observations use the {@link RateTable#current()}
+ * rate.
+ *
+ * <p>Recent lookups are memoized per currency and day, so converting many amounts of the same few days
+ * costs one array read each rather than a search.</p>
+ */
+public final class HistoricalRates {
+    private static final Currency[] CURRENCIES = Currency.values();
+
+    /** Day used for amounts without a date; such amounts convert at the latest rate. */
+    public static final int LATEST = Integer.MAX_VALUE;
+
+    public static final HistoricalRates EMPTY = new HistoricalRates(new int[0][], new double[0][]);
+
+    private static final int MEMO_SIZE = 1 << 10;
+    private static final long NO_ENTRY = -1;
+
+    private static volatile HistoricalRates current = EMPTY;
+
+    /** Observation days of each currency by ordinal, ascending; empty if the currency has no history. */
+    private final int[][] days;
+
+    /** Units of each currency per Singapore dollar on the matching observation day. */
+    private final double[][] rates;
+
+    /**
+     * Direct-mapped memo of the observation used for a currency on a day, at
+     * {@code ordinal * MEMO_SIZE + (day & (MEMO_SIZE - 1))}, packed as the day in the high half and the
+     * observation index in the low half.
+     */
+    private final AtomicLongArray memo;
+
+    private HistoricalRates(int[][] days, double[][] rates) {
+        this.days = new int[CURRENCIES.length][];
+        this.rates = new double[CURRENCIES.length][];
+        for (int i = 0; i < CURRENCIES.length; i++) {
+            this.days[i] = i < days.length ? days[i] : new int[0];
+            this.rates[i] = i < rates.length ? rates[i] : new double[0];
+        }
+        this.memo = new AtomicLongArray(CURRENCIES.length * MEMO_SIZE);
+        for (int i = 0; i < memo.length(); i++) {
+            memo.setPlain(i, NO_ENTRY);
+        }
+    }
+
+    /**
+     * Returns the rate history currently used for conversions.
+     *
+     * @return The current rate history.
+     */
+    public static HistoricalRates current() {
+        return current;
+    }
+
+    /**
+     * Makes the given history the one used for all later conversions.
+     *
+     * @param history The new rate history.
+     */
+    public static void install(HistoricalRates history) {
+        current = history;
+    }
+
+    /**
+     * Reads a rate history from a file with one {@code YYYY-MM-DD,CURRENCY,rate} line per observation, where
+     * the rate is the number of units per Singapore dollar from that date on. Lines may be in any order; of
+     * several lines for the same currency and date, the last one is kept. Blank lines and lines starting
+     * with {@code #} are ignored.
+     *
+     * @param file The file to read.
+     * @return The rate history.
+     * @throws IOException           If the file cannot be read.
+     * @throws StorageParseException If a line is malformed.
+     */
+    public static HistoricalRates load(File file) throws IOException {
+        int[] counts = new int[CURRENCIES.length];
+        long[][] observations = new long[CURRENCIES.length][16];
+        double[] values = new double[16];
+        int size = 0;
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] parts = line.split(",");
+                if (parts.length != 3) {
+                    throw new StorageParseException("Invalid rate line: " + line);
+                }
+                int day;
+                int ordinal;
+                double rate;
+                try {
+                    day = (int) LocalDate.parse(parts[0].trim()).toEpochDay();
+                    ordinal = Currency.valueOfFullName(parts[1].trim()).ordinal();
+                    rate = Double.parseDouble(parts[2].trim());
+                } catch (DateTimeParseException | IllegalArgumentException e) {
+                    throw new StorageParseException("Invalid rate line: " + line);
+                }
+                if (!(rate > 0) || Double.isInfinite(rate)) {
+                    throw new StorageParseException("Invalid rate line: " + line);
+                }
+                if (size == values.length) {
+                    values = Arrays.copyOf(values, size * 2);
+                }
+                values[size] = rate;
+                if (counts[ordinal] == observations[ordinal].length) {
+                    observations[ordinal] = Arrays.copyOf(observations[ordinal], counts[ordinal] * 2);
+                }
+                // Sorting day then line number keeps the last line of a day at the end of its run.
+                observations[ordinal][counts[ordinal]++] = ((long) day << 32) | size;
+                size++;
+            }
+        }
+
+        int[][] days = new int[CURRENCIES.length][];
+        double[][] rates = new double[CURRENCIES.length][];
+        for (int i = 0; i < CURRENCIES.length; i++) {
+            long[] sorted = Arrays.copyOf(observations[i], counts[i]);
+            Arrays.sort(sorted);
+            int[] currencyDays = new int[sorted.length];
+            double[] currencyRates = new double[sorted.length];
+            int n = 0;
+            for (int j = 0; j < sorted.length; j++) {
+                int day = (int) (sorted[j] >> 32);
+                if (n > 0 && currencyDays[n - 1] == day) {
+                    n--;
+                }
+                currencyDays[n] = day;
+                currencyRates[n] = values[(int) sorted[j]];
+                n++;
+            }
+            days[i] = Arrays.copyOf(currencyDays, n);
+            rates[i] = Arrays.copyOf(currencyRates, n);
+        }
+        return new HistoricalRates(days, rates);
+    }
+
+    /**
+     * Returns whether a currency has any observations, i.e. whether its rate depends on the date.
+     *
+     * @param currency The currency.
+     * @return {@code true} if the currency has a rate history.
+     */
+    public boolean hasHistory(Currency currency) {
+        return days[currency.ordinal()].length > 0;
+    }
+
+    /**
+     * Returns the number of units of a currency per Singapore dollar on a day.
+     *
+     * @param currency The currency.
+     * @param epochDay The day, as counted by {@link LocalDate#toEpochDay()}, or {@link #LATEST}.
+     * @return The rate in effect on that day.
+     */
+    public double getRate(Currency currency, int epochDay) {
+        int ordinal = currency.ordinal();
+        if (days[ordinal].length == 0) {
+            return RateTable.current().getRate(currency);
+        }
+        return rates[ordinal][observationOn(ordinal, epochDay)];
+    }
+
+    /**
+     * Converts an amount in cents to Singapore dollar cents at the rate of the given day,
+     * rounded to the nearest cent.
+     *
+     * @param cents    The amount in cents.
+     * @param from     The currency of the amount.
+     * @param epochDay The day of the amount, or {@link #LATEST}.
+     * @return The converted amount in cents.
+     */
+    public long toSgdCents(long cents, Currency from, int epochDay) {
+        if (from == Currency.SGD || cents == 0) {
+            return cents;
+        }
+        return Math.round(cents * getRate(Currency.SGD, epochDay) / getRate(from, epochDay));
+    }
+
+    private int observationOn(int ordinal, int epochDay) {
+        int memoSlot = ordinal * MEMO_SIZE + (epochDay & (MEMO_SIZE - 1));
+        long entry = memo.getOpaque(memoSlot);
+        if (entry != NO_ENTRY && (int) (entry >> 32) == epochDay) {
+            return (int) entry;
+        }
+        int index = Arrays.binarySearch(days[ordinal], epochDay);
+        if (index < 0) {
+            index = Math.max(-index - 2, 0);
+        }
+        memo.setOpaque(memoSlot, ((long) epochDay << 32) | index);
+        return index;
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.duke;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Hands out transaction ids while persisting as little as possible.
+ * Ids are reserved in blocks: only the last id of the current block, the high-water mark, is written out,
+ * and nothing is written again until an id beyond that mark is needed. After a crash the stored mark is
+ * loaded as the highest id in use, so allocation safely resumes at the start of the next block.
+ * A clean shutdown stores the exact highest id instead, so normal restarts leave no gap.
+ */
+public class IdAllocator {
+    /** Number of ids reserved by each write of the high-water mark. */
+    public static final int BLOCK_SIZE = 1000;
+
+    private final IntConsumer highWaterMarkWriter;
+    private int maxId;
+    private int highWaterMark;
+
+    /**
+     * Creates an allocator that continues after the given persisted id.
+     *
+     * @param persistedMaxId      The id or high-water mark loaded from storage.
+     * @param highWaterMarkWriter Persists a new high-water mark.
+     */
+    public IdAllocator(int persistedMaxId, IntConsumer highWaterMarkWriter) {
+        this.maxId = persistedMaxId;
+        this.highWaterMark = persistedMaxId;
+        this.highWaterMarkWriter = highWaterMarkWriter;
+    }
+
+    /**
+     * Creates an allocator that starts from zero and does not persist anything.
+     */
+    public IdAllocator() {
+        this(0, id -> { });
+    }
+
+    /**
+     * Returns a new id, reserving the next block if the current one is used up.
+     *
+     * @return An id greater than every id allocated or observed so far.
+     */
+    public int next() {
+        maxId++;
+        reserveThrough(maxId);
+        return maxId;
+    }
+
+    /**
+     * Records an id assigned elsewhere, e.g. by a loaded or imported transaction,
+     * so that it is never handed out again.
+     *
+     * @param id The id in use.
+     */
+    public void observe(int id) {
+        if (id > maxId) {
+            maxId = id;
+            reserveThrough(id);
+        }
+    }
+
+    /**
+     * Returns the highest id allocated or observed so far.
+     *
+     * @return The highest id in use.
+     */
+    public int getMaxId() {
+        return maxId;
+    }
+
+    /**
+     * Returns the last id of the reserved block, which is the value that survives a crash.
+     *
+     * @return The persisted high-water mark.
+     */
+    public int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    /**
+     * Persists the exact highest id in use, giving back the unused part of the current block.
+     * Called on a clean shutdown.
+     */
+    public void release() {
+        highWaterMark = maxId;
+        highWaterMarkWriter.accept(highWaterMark);
+    }
+
+    /**
+     * Forgets all ids and persists zero.
+     */
+    public void reset() {
+        maxId = 0;
+        release();
+    }
+
+    private void reserveThrough(int id) {
+        if (id <= highWaterMark) {
+            return;
+        }
+        highWaterMark = id > Integer.MAX_VALUE - BLOCK_SIZE ? Integer.MAX_VALUE : id - 1 + BLOCK_SIZE;
+        highWaterMarkWriter.accept(highWaterMark);
+    }
+}
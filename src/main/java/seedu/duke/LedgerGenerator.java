@@ -0,0 +1,298 @@
+package seedu.duke;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import enums.Category;
+import enums.Currency;
+import enums.Priority;
+import enums.Status;
+import seedu.duke.budget.Budget;
+import seedu.duke.budget.BudgetList;
+
+/**
+ * Generates synthetic ledgers for load and scale testing, in the file formats read by {@link Storage}.
+ * The output depends only on the seed, the number of transactions and the date range, and transactions are
+ * written as they are generated, so ledgers of any size can be produced in constant memory.
+ *
+ * <p>The data is skewed the way a student's spending is: most transactions are small food and transport
+ * expenses in SGD, amounts are log-normally distributed around a typical amount per category, activity grows
+ * towards the end of the date range, a few transactions recur, and only recent transactions are still
+ * pending.</p>
+ */
+public class LedgerGenerator {
+    /** Date range used when none is given. */
+    public static final LocalDate DEFAULT_FIRST_DATE = LocalDate.of(2023, 1, 1);
+    public static final LocalDate DEFAULT_LAST_DATE = LocalDate.of(2025, 12, 31);
+
+    private static final String TRANSACTIONS_FILE = "transactions.csv";
+    private static final String BUDGETS_FILE = "budgets.csv";
+    private static final String GOAL_FILE = "goal.csv";
+    private static final String META_FILE = "meta.txt";
+
+    /** Relative frequency, typical amount in SGD and descriptions of each category. */
+    private static final Map<Category, Profile> PROFILES = new EnumMap<>(Category.class);
+
+    /** Relative frequency of each currency; the rest of the currencies are not used. */
+    private static final Map<Currency, Integer> CURRENCY_WEIGHTS = new EnumMap<>(Currency.class);
+
+    /** Spread of amounts around the typical amount of their category, as the sigma of a log-normal. */
+    private static final double AMOUNT_SPREAD = 0.8;
+    private static final double MAX_AMOUNT = 100_000;
+
+    private static final int RECURRING_PERCENT = 3;
+    private static final int[] RECURRING_PERIODS = {7, 14, 30, 30, 30, 365};
+    private static final int HIGH_PRIORITY_PERCENT = 5;
+    private static final int MEDIUM_PRIORITY_PERCENT = 15;
+
+    /** Transactions older than this many days are completed with {@link #SETTLED_PERCENT} probability. */
+    private static final int SETTLING_DAYS = 30;
+    private static final int SETTLED_PERCENT = 95;
+    private static final int UNSETTLED_PERCENT = 40;
+
+    /** Budgets allow this much more than the average monthly spending of their category. */
+    private static final double BUDGET_HEADROOM = 1.2;
+
+    private static final Category[] CATEGORIES = Category.values();
+    private static final Currency[] CURRENCIES = Currency.values();
+    private static final int[] CATEGORY_CUMULATIVE_WEIGHTS;
+    private static final int[] CURRENCY_CUMULATIVE_WEIGHTS;
+
+    private final long seed;
+    private final LocalDate firstDate;
+    private final int days;
+
+    /**
+     * Typical spending of a category.
+     */
+    private static final class Profile {
+        private final int weight;
+        private final double typicalAmount;
+        private final String[] descriptions;
+
+        private Profile(int weight, double typicalAmount, String... descriptions) {
+            this.weight = weight;
+            this.typicalAmount = typicalAmount;
+            this.descriptions = descriptions;
+        }
+    }
+
+    static {
+        PROFILES.put(Category.FOOD, new Profile(30, 8, "Coffee", "Lunch", "Dinner", "Bubble tea", "Supper"));
+        PROFILES.put(Category.TRANSPORT, new Profile(18, 2.5, "Bus fare", "MRT top-up", "Grab ride", "Taxi"));
+        PROFILES.put(Category.GROCERIES, new Profile(12, 35, "Groceries", "Fruit", "Household supplies"));
+        PROFILES.put(Category.SHOPPING, new Profile(10, 45, "Clothes", "Shoes", "Phone case", "Headphones"));
+        PROFILES.put(Category.ENTERTAINMENT, new Profile(8, 20, "Movie tickets", "Concert", "Game", "Streaming"));
+        PROFILES.put(Category.OTHER, new Profile(6, 15, "Gift", "Laundry", "Haircut", "Printing"));
+        PROFILES.put(Category.EDUCATION, new Profile(4, 60, "Textbook", "Course fee", "Stationery"));
+        PROFILES.put(Category.HOUSING, new Profile(4, 400, "Rent", "Utilities", "Internet"));
+        PROFILES.put(Category.HEALTHCARE, new Profile(3, 40, "Clinic visit", "Dental check-up", "Medicine"));
+        PROFILES.put(Category.SAVING, new Profile(3, 100, "Savings transfer", "Fixed deposit"));
+        PROFILES.put(Category.HEALTH, new Profile(2, 30, "Gym", "Vitamins", "Sports gear"));
+        for (Category category : CATEGORIES) {
+            PROFILES.putIfAbsent(category, new Profile(1, 20, category.name().toLowerCase()));
+        }
+
+        CURRENCY_WEIGHTS.put(Currency.SGD, 85);
+        CURRENCY_WEIGHTS.put(Currency.USD, 6);
+        CURRENCY_WEIGHTS.put(Currency.CNY, 4);
+        CURRENCY_WEIGHTS.put(Currency.EUR, 2);
+        CURRENCY_WEIGHTS.put(Currency.JPY, 2);
+        CURRENCY_WEIGHTS.put(Currency.GBP, 1);
+
+        CATEGORY_CUMULATIVE_WEIGHTS = new int[CATEGORIES.length];
+        int total = 0;
+        for (int i = 0; i < CATEGORIES.length; i++) {
+            total += PROFILES.get(CATEGORIES[i]).weight;
+            CATEGORY_CUMULATIVE_WEIGHTS[i] = total;
+        }
+        CURRENCY_CUMULATIVE_WEIGHTS = new int[CURRENCIES.length];
+        total = 0;
+        for (int i = 0; i < CURRENCIES.length; i++) {
+            total += CURRENCY_WEIGHTS.getOrDefault(CURRENCIES[i], 0);
+            CURRENCY_CUMULATIVE_WEIGHTS[i] = total;
+        }
+    }
+
+    /**
+     * Creates a generator for transactions in the default date range.
+     *
+     * @param seed Seed of the generated data; the same seed always gives the same ledger.
+     */
+    public LedgerGenerator(long seed) {
+        this(seed, DEFAULT_FIRST_DATE, DEFAULT_LAST_DATE);
+    }
+
+    /**
+     * Creates a generator for transactions dated between the given dates.
+     *
+     * @param seed      Seed of the generated data; the same seed always gives the same ledger.
+     * @param firstDate Earliest transaction date.
+     * @param lastDate  Latest transaction date, not before {@code firstDate}.
+     */
+    public LedgerGenerator(long seed, LocalDate firstDate, LocalDate lastDate) {
+        if (lastDate.isBefore(firstDate)) {
+            throw new IllegalArgumentException("Last date " + lastDate + " is before first date " + firstDate);
+        }
+        this.seed = seed;
+        this.firstDate = firstDate;
+        this.days = (int) ChronoUnit.DAYS.between(firstDate, lastDate) + 1;
+    }
+
+    /**
+     * Generates transactions with ids {@code 1..count}, in id order, and hands each to the given consumer
+     * without keeping it.
+     *
+     * @param count    Number of transactions.
+     * @param consumer Receives each transaction.
+     */
+    public void forEachTransaction(int count, Consumer<Transaction> consumer) {
+        Random random = new Random(seed);
+        for (int id = 1; id <= count; id++) {
+            consumer.accept(nextTransaction(id, random));
+        }
+    }
+
+    /**
+     * Writes a ledger of {@code count} transactions into the given folder: {@code transactions.csv},
+     * {@code budgets.csv} with a budget per category sized to its spending, {@code goal.csv} and
+     * {@code meta.txt}. Existing files are replaced.
+     *
+     * @param folder Folder to write to, e.g. the {@code data} folder of the application; created if needed.
+     * @param count  Number of transactions.
+     * @throws IOException If a file cannot be written.
+     */
+    public void writeLedger(Path folder, int count) throws IOException {
+        Files.createDirectories(folder);
+        long[] spentCents = new long[CATEGORIES.length];
+        try (Writer writer = Files.newBufferedWriter(folder.resolve(TRANSACTIONS_FILE), StandardCharsets.UTF_8)) {
+            forEachTransaction(count, t -> {
+                spentCents[t.getCategory().ordinal()] += Math.round(t.getMoney().getCents()
+                        / t.getCurrency().getRate());
+                writeLine(writer, Storage.formatTransaction(t));
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        try (BufferedWriter writer = Files.newBufferedWriter(folder.resolve(BUDGETS_FILE), StandardCharsets.UTF_8)) {
+            for (Budget budget : budgets(spentCents).getAll()) {
+                writer.write(Storage.formatBudget(budget));
+                writer.newLine();
+            }
+        }
+
+        long totalCents = 0;
+        for (long cents : spentCents) {
+            totalCents += cents;
+        }
+        Files.writeString(folder.resolve(GOAL_FILE), Storage.formatGoal(goal(totalCents)), StandardCharsets.UTF_8);
+        Files.writeString(folder.resolve(META_FILE), String.valueOf(count), StandardCharsets.UTF_8);
+    }
+
+    private Transaction nextTransaction(int id, Random random) {
+        Category category = CATEGORIES[pick(CATEGORY_CUMULATIVE_WEIGHTS, random)];
+        Currency currency = CURRENCIES[pick(CURRENCY_CUMULATIVE_WEIGHTS, random)];
+        Profile profile = PROFILES.get(category);
+
+        double amountInSgd = profile.typicalAmount * Math.exp(AMOUNT_SPREAD * random.nextGaussian());
+        double amount = Math.max(0.01, Math.min(MAX_AMOUNT, amountInSgd * currency.getRate()));
+
+        // The square root favours later days: activity grows towards the end of the range.
+        int day = Math.min(days - 1, (int) (Math.sqrt(random.nextDouble()) * days));
+        String description = profile.descriptions[random.nextInt(profile.descriptions.length)];
+
+        Transaction transaction = new Transaction(id, description, Money.of(amount), currency, category,
+                firstDate.plusDays(day), Status.PENDING);
+        if (random.nextInt(100) < RECURRING_PERCENT) {
+            transaction.setRecurringPeriod(RECURRING_PERIODS[random.nextInt(RECURRING_PERIODS.length)]);
+        }
+        int priority = random.nextInt(100);
+        if (priority < HIGH_PRIORITY_PERCENT) {
+            transaction.setPriority(Priority.HIGH);
+        } else if (priority < HIGH_PRIORITY_PERCENT + MEDIUM_PRIORITY_PERCENT) {
+            transaction.setPriority(Priority.MEDIUM);
+        }
+        int settledPercent = days - day > SETTLING_DAYS ? SETTLED_PERCENT : UNSETTLED_PERCENT;
+        if (random.nextInt(100) < settledPercent) {
+            transaction.complete();
+        }
+        return transaction;
+    }
+
+    /**
+     * Returns the index of a weight picked at random, with probability proportional to the weight.
+     */
+    private static int pick(int[] cumulativeWeights, Random random) {
+        int target = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int index = 0;
+        while (cumulativeWeights[index] <= target) {
+            index++;
+        }
+        return index;
+    }
+
+    private BudgetList budgets(long[] spentCents) {
+        BudgetList budgets = new BudgetList();
+        double months = Math.max(1, days / 30.0);
+        LocalDate endDate = firstDate.plusDays(days - 1).plusMonths(1);
+        for (Category category : CATEGORIES) {
+            long cents = spentCents[category.ordinal()];
+            if (cents > 0) {
+                double monthly = Money.toUnits(cents) / months;
+                budgets.add(new Budget("Monthly " + category.name().toLowerCase(), monthly * BUDGET_HEADROOM,
+                        endDate, category));
+            }
+        }
+        return budgets;
+    }
+
+    private FinancialGoal goal(long totalSpentCents) {
+        Random random = new Random(seed);
+        double target = Math.max(100, Math.round(Money.toUnits(totalSpentCents) / 10));
+        FinancialGoal goal = new FinancialGoal("Emergency fund", target, "Three months of expenses");
+        goal.forceSetDeposits(Math.round(target * random.nextDouble()));
+        return goal;
+    }
+
+    private static void writeLine(Writer writer, String line) {
+        try {
+            writer.write(line);
+            writer.write(System.lineSeparator());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes a ledger into a folder, for generating test data from the command line.
+     *
+     * @param args The number of transactions, then optionally the seed and the folder (default {@code data}).
+     * @throws IOException If a file cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 3) {
+            System.out.println("Usage: LedgerGenerator COUNT [SEED] [FOLDER]");
+            return;
+        }
+        int count = Integer.parseInt(args[0]);
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 0;
+        Path folder = Path.of(args.length > 2 ? args[2] : "data");
+
+        long startTime = System.nanoTime();
+        new LedgerGenerator(seed).writeLedger(folder, count);
+        System.out.printf("Wrote %d transactions to %s in %.1f s%n", count, folder,
+                (System.nanoTime() - startTime) / 1e9);
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.duke;
+
+/**
+ * Throughput figures of one transaction load, used to compare the available loaders.
+ */
+public class LoadReport {
+    private final String loader;
+    private final int rows;
+    private final long bytes;
+    private final long elapsedNanos;
+
+    /**
+     * Creates a report for a finished load.
+     *
+     * @param loader       Name of the loader that produced the rows.
+     * @param rows         Number of transactions loaded.
+     * @param bytes        Size of the file that was read.
+     * @param elapsedNanos Time taken to read and parse the file.
+     */
+    public LoadReport(String loader, int rows, long bytes, long elapsedNanos) {
+        this.loader = loader;
+        this.rows = rows;
+        this.bytes = bytes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public String getLoader() {
+        return loader;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the number of rows parsed per second.
+     *
+     * @return Rows per second, or {@code 0} if nothing was timed.
+     */
+    public double getRowsPerSecond() {
+        return elapsedNanos == 0 ? 0 : rows * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * Returns the average size of a row in the file.
+     *
+     * @return Bytes per row, or {@code 0} if no rows were loaded.
+     */
+    public double getBytesPerRow() {
+        return rows == 0 ? 0 : (double) bytes / rows;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s loader: %d rows, %d bytes in %.1f ms (%.0f rows/s, %.1f bytes/row)",
+                loader, rows, bytes, elapsedNanos / 1_000_000.0, getRowsPerSecond(), getBytesPerRow());
+    }
+}
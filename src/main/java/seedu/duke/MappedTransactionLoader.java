@@ -0,0 +1,428 @@
+package seedu.duke;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+
+import enums.Category;
+import enums.Currency;
+import enums.Priority;
+import enums.Status;
+import exceptions.StorageParseException;
+
+/**
+ * Loads the transaction CSV file by memory-mapping it and parsing rows straight from the mapped bytes.
+ * Only the description is decoded into a {@code String}; numbers, enums, dates and flags are read
+ * from the bytes in place. Rows are accepted and rejected exactly like {@code Storage.parseTransaction}.
+ *
+ * <p>A loader keeps per-row scratch state and must not be shared between threads;
+ * {@link #loadInParallel(File)} gives each parsing task its own loader.</p>
+ */
+public class MappedTransactionLoader {
+    /** Largest region of the file mapped at once. */
+    private static final long WINDOW_BYTES = 1L << 28;
+
+    /** Smallest chunk handed to a parallel parsing task. */
+    private static final int MIN_CHUNK_BYTES = 1 << 20;
+
+    /** Number of chunks per worker thread, so that uneven chunks still keep all workers busy. */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private static final int FIELD_COUNT = 11;
+    private static final int MAX_EXACT_DIGITS = 16;
+    private static final long[] POWERS_OF_TEN = new long[MAX_EXACT_DIGITS + 1];
+
+    private static final Currency[] CURRENCIES = Currency.values();
+    private static final Category[] CATEGORIES = Category.values();
+    private static final Status[] STATUSES = Status.values();
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    private static final byte[][] CURRENCY_NAMES = new byte[CURRENCIES.length][];
+    private static final byte[][] CATEGORY_NAMES = new byte[CATEGORIES.length][];
+    private static final byte[][] STATUS_NAMES = new byte[STATUSES.length][];
+    private static final byte[][] PRIORITY_NAMES = new byte[PRIORITIES.length][];
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+        for (int i = 0; i < CURRENCIES.length; i++) {
+            CURRENCY_NAMES[i] = CURRENCIES[i].toString().getBytes(StandardCharsets.US_ASCII);
+        }
+        for (int i = 0; i < CATEGORIES.length; i++) {
+            CATEGORY_NAMES[i] = CATEGORIES[i].name().getBytes(StandardCharsets.US_ASCII);
+        }
+        for (int i = 0; i < STATUSES.length; i++) {
+            STATUS_NAMES[i] = STATUSES[i].name().getBytes(StandardCharsets.US_ASCII);
+        }
+        for (int i = 0; i < PRIORITIES.length; i++) {
+            PRIORITY_NAMES[i] = PRIORITIES[i].name().getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    private final int[] fieldStarts = new int[FIELD_COUNT];
+    private final int[] fieldEnds = new int[FIELD_COUNT];
+    private byte[] scratch = new byte[64];
+
+    /**
+     * Parses every row of the given file.
+     *
+     * @param file The transaction CSV file.
+     * @param sink Receives each valid transaction in file order.
+     * @return The number of transactions passed to {@code sink}.
+     * @throws IOException If the file cannot be mapped or a row is longer than the mapping window.
+     */
+    public int load(File file, Consumer<Transaction> sink) throws IOException {
+        int[] rows = new int[1];
+        forEachWindow(file, (buffer, end) -> rows[0] += parseRange(buffer, 0, end, sink));
+        return rows[0];
+    }
+
+    /**
+     * Parses every row of the given file on the common fork-join pool.
+     * Each mapped window is split into line-aligned chunks that are parsed concurrently,
+     * and the chunks are then joined back together, so the result is in file order like that of the other loaders.
+     *
+     * @param file The transaction CSV file.
+     * @return The valid transactions, in file order.
+     * @throws IOException If the file cannot be mapped or a row is longer than the mapping window.
+     */
+    public static ArrayList<Transaction> loadInParallel(File file) throws IOException {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        List<List<Transaction>> chunks = new ArrayList<>();
+        forEachWindow(file, (buffer, end) -> chunks.addAll(parseChunks(pool, buffer, end)));
+        return concatenate(chunks);
+    }
+
+    /**
+     * Maps the file window by window and passes each window together with the offset just past
+     * its last complete row. The next window starts at that offset.
+     */
+    private static void forEachWindow(File file, ObjIntConsumer<ByteBuffer> action) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                long length = Math.min(WINDOW_BYTES, size - position);
+                boolean isLastWindow = position + length == size;
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+
+                int end = isLastWindow ? (int) length : lastLineEnd(buffer, (int) length);
+                if (end == 0) {
+                    throw new IOException("Transaction row at byte " + position + " is too long");
+                }
+                action.accept(buffer, end);
+                position += end;
+            }
+        }
+    }
+
+    private static List<List<Transaction>> parseChunks(ForkJoinPool pool, ByteBuffer buffer, int end) {
+        int chunkCount = pool.getParallelism() * CHUNKS_PER_THREAD;
+        int chunkBytes = Math.max(MIN_CHUNK_BYTES, end / chunkCount + 1);
+
+        List<ForkJoinTask<List<Transaction>>> tasks = new ArrayList<>();
+        int chunkStart = 0;
+        while (chunkStart < end) {
+            int chunkEnd = chunkStart + chunkBytes >= end ? end : nextLineStart(buffer, chunkStart + chunkBytes, end);
+            ByteBuffer view = buffer.duplicate();
+            int from = chunkStart;
+            tasks.add(pool.submit(() -> {
+                List<Transaction> rows = new ArrayList<>();
+                new MappedTransactionLoader().parseRange(view, from, chunkEnd, rows::add);
+                return rows;
+            }));
+            chunkStart = chunkEnd;
+        }
+
+        List<List<Transaction>> chunks = new ArrayList<>(tasks.size());
+        for (ForkJoinTask<List<Transaction>> task : tasks) {
+            chunks.add(task.join());
+        }
+        return chunks;
+    }
+
+    /**
+     * Concatenates the chunks in file order.
+     */
+    private static ArrayList<Transaction> concatenate(List<List<Transaction>> chunks) {
+        int total = 0;
+        for (List<Transaction> chunk : chunks) {
+            total += chunk.size();
+        }
+        ArrayList<Transaction> merged = new ArrayList<>(total);
+        for (List<Transaction> chunk : chunks) {
+            merged.addAll(chunk);
+        }
+        return merged;
+    }
+
+    /**
+     * Returns the offset just past the first line break at or after {@code from}, or {@code end}.
+     */
+    static int nextLineStart(ByteBuffer buffer, int from, int end) {
+        for (int i = from; i < end; i++) {
+            if (buffer.get(i) == '\n') {
+                return i + 1;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Parses the rows in {@code [from, to)} of the buffer. The range must start at the beginning of a row
+     * and end just after a line break or at the end of the data.
+     *
+     * @param buffer The bytes to parse.
+     * @param from   Offset of the first row.
+     * @param to     Offset just past the last row.
+     * @param sink   Receives each valid transaction in order.
+     * @return The number of transactions passed to {@code sink}.
+     */
+    public int parseRange(ByteBuffer buffer, int from, int to, Consumer<Transaction> sink) {
+        int rows = 0;
+        int lineStart = from;
+        while (lineStart < to) {
+            int lineEnd = lineStart;
+            while (lineEnd < to && buffer.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int next = lineEnd + 1;
+            if (lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r') {
+                lineEnd--;
+            }
+            if (lineEnd > lineStart) {
+                Transaction transaction = parseLine(buffer, lineStart, lineEnd);
+                if (transaction != null) {
+                    sink.accept(transaction);
+                    rows++;
+                }
+            }
+            lineStart = next;
+        }
+        return rows;
+    }
+
+    /**
+     * Returns the offset just past the last line break in the first {@code length} bytes, or {@code 0}.
+     */
+    static int lastLineEnd(ByteBuffer buffer, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (buffer.get(i) == '\n') {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    private Transaction parseLine(ByteBuffer buffer, int start, int end) {
+        try {
+            splitFields(buffer, start, end);
+
+            int id = (int) parseLong(buffer, 0, "Invalid ID format: ");
+            String description = decode(buffer, fieldStarts[1], fieldEnds[1]);
+            Money amount = Money.ofCents(parseCents(buffer, 2));
+            Currency currency = match(buffer, 3, CURRENCIES, CURRENCY_NAMES, false, "Invalid currency type: ");
+            Category category = match(buffer, 4, CATEGORIES, CATEGORY_NAMES, false, "Invalid category type: ");
+            LocalDate date = parseDate(buffer, 5);
+            Status status = match(buffer, 6, STATUSES, STATUS_NAMES, true, "Invalid status value: ");
+            int recurringPeriod = (int) parseLong(buffer, 7, "Invalid recurring period: ");
+            boolean isDeleted = matches(buffer, fieldStarts[8], fieldEnds[8], TRUE, true);
+            boolean isCompleted = matches(buffer, fieldStarts[9], fieldEnds[9], TRUE, true);
+            Priority priority = match(buffer, 10, PRIORITIES, PRIORITY_NAMES, true, "Invalid priority: ");
+
+            Transaction transaction = new Transaction(id, description, amount, currency, category, date, status);
+            transaction.setRecurringPeriod(recurringPeriod);
+            transaction.setPriority(priority);
+            if (isDeleted) {
+                transaction.delete();
+            }
+            if (isCompleted) {
+                transaction.complete();
+            }
+            return transaction;
+        } catch (StorageParseException e) {
+            System.out.println(e.getMessage());
+            return null;
+        }
+    }
+
+    private void splitFields(ByteBuffer buffer, int start, int end) {
+        int field = 0;
+        fieldStarts[0] = start;
+        for (int i = start; i < end; i++) {
+            if (buffer.get(i) == ',') {
+                if (field == FIELD_COUNT - 1) {
+                    throw new StorageParseException("Storage format error.");
+                }
+                fieldEnds[field] = i;
+                field++;
+                fieldStarts[field] = i + 1;
+            }
+        }
+        if (field != FIELD_COUNT - 1) {
+            throw new StorageParseException("Storage format error.");
+        }
+        fieldEnds[field] = end;
+    }
+
+    private long parseLong(ByteBuffer buffer, int field, String error) {
+        int i = fieldStarts[field];
+        int end = fieldEnds[field];
+        boolean isNegative = i < end && buffer.get(i) == '-';
+        if (isNegative || (i < end && buffer.get(i) == '+')) {
+            i++;
+        }
+        if (i == end || end - i > 10) {
+            throw new StorageParseException(error + text(buffer, field));
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new StorageParseException(error + text(buffer, field));
+            }
+            value = value * 10 + digit;
+        }
+        value = isNegative ? -value : value;
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new StorageParseException(error + text(buffer, field));
+        }
+        return value;
+    }
+
+    /**
+     * Parses plain decimal amounts such as {@code -12.50} directly into cents, rounding half up.
+     * Anything else, including amounts with more digits than fit in cents, falls back to {@link Money#parse}.
+     */
+    private long parseCents(ByteBuffer buffer, int field) {
+        int i = fieldStarts[field];
+        int end = fieldEnds[field];
+        boolean isNegative = i < end && buffer.get(i) == '-';
+        if (isNegative) {
+            i++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean isFraction = false;
+        boolean isPlain = i < end;
+        for (; i < end && isPlain; i++) {
+            byte b = buffer.get(i);
+            if (b >= '0' && b <= '9') {
+                mantissa = mantissa * 10 + (b - '0');
+                digits++;
+                if (isFraction) {
+                    fractionDigits++;
+                }
+            } else if (b == '.' && !isFraction) {
+                isFraction = true;
+            } else {
+                isPlain = false;
+            }
+        }
+
+        if (!isPlain || digits == 0 || digits > MAX_EXACT_DIGITS) {
+            try {
+                return Money.parse(text(buffer, field)).getCents();
+            } catch (NumberFormatException e) {
+                throw new StorageParseException("Invalid amount format: " + text(buffer, field));
+            }
+        }
+        long cents;
+        if (fractionDigits <= 2) {
+            cents = mantissa * POWERS_OF_TEN[2 - fractionDigits];
+        } else {
+            long divisor = POWERS_OF_TEN[fractionDigits - 2];
+            cents = (mantissa + divisor / 2) / divisor;
+        }
+        return isNegative ? -cents : cents;
+    }
+
+    /**
+     * Parses ISO dates of the form {@code yyyy-MM-dd} directly, falling back to {@link LocalDate#parse}.
+     */
+    private LocalDate parseDate(ByteBuffer buffer, int field) {
+        int start = fieldStarts[field];
+        if (fieldEnds[field] - start == 10 && buffer.get(start + 4) == '-' && buffer.get(start + 7) == '-') {
+            int year = digits(buffer, start, 4);
+            int month = digits(buffer, start + 5, 2);
+            int day = digits(buffer, start + 8, 2);
+            if (year >= 0 && month >= 0 && day >= 0) {
+                try {
+                    return LocalDate.of(year, month, day);
+                } catch (DateTimeException e) {
+                    throw new StorageParseException("Invalid date format: " + text(buffer, field));
+                }
+            }
+        }
+        try {
+            return LocalDate.parse(text(buffer, field));
+        } catch (DateTimeException e) {
+            throw new StorageParseException("Invalid date format: " + text(buffer, field));
+        }
+    }
+
+    private static int digits(ByteBuffer buffer, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private <E> E match(ByteBuffer buffer, int field, E[] values, byte[][] names, boolean isCaseInsensitive,
+                        String error) {
+        for (int i = 0; i < names.length; i++) {
+            if (matches(buffer, fieldStarts[field], fieldEnds[field], names[i], isCaseInsensitive)) {
+                return values[i];
+            }
+        }
+        throw new StorageParseException(error + text(buffer, field));
+    }
+
+    private static boolean matches(ByteBuffer buffer, int start, int end, byte[] name, boolean isCaseInsensitive) {
+        if (end - start != name.length) {
+            return false;
+        }
+        for (int i = 0; i < name.length; i++) {
+            byte b = buffer.get(start + i);
+            if (b != name[i] && !(isCaseInsensitive && Character.toUpperCase(b) == Character.toUpperCase(name[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String decode(ByteBuffer buffer, int start, int end) {
+        int length = end - start;
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        buffer.get(start, scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private String text(ByteBuffer buffer, int field) {
+        return decode(buffer, fieldStarts[field], fieldEnds[field]);
+    }
+}
@@ -0,0 +1,170 @@
+package seedu.duke;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * An exact amount of money, held as a whole number of cents.
+ * Sums of cents are exact, so totals do not drift however many amounts are added and removed.
+ * Amounts with more than two decimals are rounded half up to the nearest cent.
+ */
+public final class Money implements Comparable<Money> {
+    /** Number of cents per unit of currency. */
+    public static final int CENTS_PER_UNIT = 100;
+
+    public static final Money ZERO = new Money(0);
+
+    /** Smallest double above every long, i.e. 2^63; any amount of cents below it rounds into range. */
+    private static final double MAX_CENTS_AS_DOUBLE = 0x1p63;
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    /**
+     * Returns the amount with the given number of cents.
+     *
+     * @param cents The amount in cents.
+     * @return The amount.
+     */
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    /**
+     * Returns the given amount rounded to the nearest cent.
+     *
+     * @param amount The amount in units of currency.
+     * @return The amount.
+     * @throws NumberFormatException If the amount is not a number or does not fit in cents.
+     */
+    public static Money of(double amount) {
+        return ofCents(toCents(amount));
+    }
+
+    /**
+     * Parses a decimal amount such as {@code -12.50} exactly, without going through a double.
+     *
+     * @param text The amount in units of currency.
+     * @return The amount, rounded to the nearest cent.
+     * @throws NumberFormatException If the text is not a decimal number or does not fit in cents.
+     */
+    public static Money parse(String text) {
+        try {
+            BigDecimal amount = new BigDecimal(text.trim()).setScale(2, RoundingMode.HALF_UP);
+            return ofCents(amount.unscaledValue().longValueExact());
+        } catch (ArithmeticException e) {
+            throw new NumberFormatException("Amount out of range: " + text);
+        }
+    }
+
+    /**
+     * Converts an amount in units of currency to cents, rounding to the nearest cent.
+     *
+     * @param amount The amount in units of currency.
+     * @return The amount in cents.
+     * @throws NumberFormatException If the amount is not a number or does not fit in cents.
+     */
+    public static long toCents(double amount) {
+        double cents = amount * CENTS_PER_UNIT;
+        if (!(Math.abs(cents) < MAX_CENTS_AS_DOUBLE)) {
+            throw new NumberFormatException("Amount out of range: " + amount);
+        }
+        return Math.round(cents);
+    }
+
+    /**
+     * Converts an amount in cents to units of currency.
+     *
+     * @param cents The amount in cents.
+     * @return The amount in units of currency.
+     */
+    public static double toUnits(long cents) {
+        return (double) cents / CENTS_PER_UNIT;
+    }
+
+    /**
+     * Returns the amount in cents.
+     *
+     * @return The number of cents.
+     */
+    public long getCents() {
+        return cents;
+    }
+
+    /**
+     * Returns the amount in units of currency, e.g. for display or for code that still works with doubles.
+     *
+     * @return The amount as a double.
+     */
+    public double toDouble() {
+        return toUnits(cents);
+    }
+
+    /**
+     * Returns the sum of this amount and another.
+     *
+     * @param other The amount to add.
+     * @return The exact sum.
+     * @throws ArithmeticException If the sum does not fit in cents.
+     */
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    /**
+     * Returns this amount minus another.
+     *
+     * @param other The amount to subtract.
+     * @return The exact difference.
+     * @throws ArithmeticException If the difference does not fit in cents.
+     */
+    public Money minus(Money other) {
+        return ofCents(Math.subtractExact(cents, other.cents));
+    }
+
+    /**
+     * Returns this amount with the opposite sign.
+     *
+     * @return The negated amount.
+     */
+    public Money negate() {
+        return ofCents(Math.negateExact(cents));
+    }
+
+    /**
+     * Returns whether this amount is below zero.
+     *
+     * @return {@code true} if the amount is negative.
+     */
+    public boolean isNegative() {
+        return cents < 0;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Money && ((Money) other).cents == cents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+    /**
+     * Returns the amount with exactly two decimals, e.g. {@code -12.50}.
+     *
+     * @return The formatted amount.
+     */
+    @Override
+    public String toString() {
+        return BigDecimal.valueOf(cents, 2).toPlainString();
+    }
+}
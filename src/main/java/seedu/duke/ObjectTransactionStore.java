@@ -0,0 +1,88 @@
+package seedu.duke;
+
+import java.util.ArrayList;
+
+import enums.Category;
+
+/**
+ * Keeps every transaction as its own object in a list. Edits are made on the stored objects directly,
+ * so {@link #update(int, Transaction)} has nothing to do.
+ */
+public class ObjectTransactionStore implements TransactionStore {
+    private final ArrayList<Transaction> transactions = new ArrayList<>();
+    private final TransactionListener listener;
+
+    /**
+     * Creates an empty store.
+     *
+     * @param listener Receives the edits of every stored transaction.
+     */
+    public ObjectTransactionStore(TransactionListener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public int size() {
+        return transactions.size();
+    }
+
+    @Override
+    public void add(Transaction transaction) {
+        transactions.add(transaction);
+        transaction.setListener(listener, transactions.size() - 1);
+    }
+
+    @Override
+    public Transaction get(int slot) {
+        return transactions.get(slot);
+    }
+
+    @Override
+    public void update(int slot, Transaction transaction) {
+        assert transactions.get(slot) == transaction : "Transaction is not stored in slot " + slot;
+    }
+
+    @Override
+    public int indexOf(Transaction transaction) {
+        int slot = transaction.getSlot();
+        return slot >= 0 && slot < transactions.size() && transactions.get(slot) == transaction ? slot : -1;
+    }
+
+    @Override
+    public int getId(int slot) {
+        return transactions.get(slot).getId();
+    }
+
+    @Override
+    public boolean isDeleted(int slot) {
+        return transactions.get(slot).isDeleted();
+    }
+
+    @Override
+    public String getDescription(int slot) {
+        return transactions.get(slot).getDescription();
+    }
+
+    @Override
+    public Category getCategory(int slot) {
+        return transactions.get(slot).getCategory();
+    }
+
+    @Override
+    public int getRecurringPeriod(int slot) {
+        return transactions.get(slot).getRecurringPeriod();
+    }
+
+    @Override
+    public void ensureCapacity(int capacity) {
+        transactions.ensureCapacity(capacity);
+    }
+
+    @Override
+    public void clear() {
+        for (Transaction transaction : transactions) {
+            transaction.setListener(null, -1);
+        }
+        transactions.clear();
+    }
+}
@@ -0,0 +1,186 @@
+package seedu.duke;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import enums.Currency;
+import exceptions.StorageParseException;
+
+/**
+ * An immutable set of exchange rates together with the conversion factor between every pair of currencies,
+ * precomputed into a matrix indexed by currency ordinal. Converting an amount is then one array lookup and
+ * one multiplication.
+ *
+ * <p>The table in use is swapped as a whole by {@link #install(RateTable)}, so a reader that fetches
+ * {@link #current()} once sees a consistent set of rates even while new rates are being loaded.</p>
+ */
+public final class RateTable {
+    private static final Currency[] CURRENCIES = Currency.values();
+    private static final AtomicInteger VERSIONS = new AtomicInteger();
+
+    private static volatile RateTable current = defaults();
+
+    private final int version;
+
+    /** Units of each currency per Singapore dollar, by ordinal. */
+    private final double[] rates;
+
+    /** Factor converting from currency {@code i} to currency {@code j}, at {@code i * N + j}. */
+    private final double[] factors;
+
+    private RateTable(double[] rates) {
+        this.version = VERSIONS.incrementAndGet();
+        this.rates = rates;
+        int n = rates.length;
+        this.factors = new double[n * n];
+        for (int from = 0; from < n; from++) {
+            for (int to = 0; to < n; to++) {
+                factors[from * n + to] = from == to ? 1 : rates[to] / rates[from];
+            }
+        }
+    }
+
+    /**
+     * Returns the table currently used for conversions.
+     *
+     * @return The current rate table.
+     */
+    public static RateTable current() {
+        return current;
+    }
+
+    /**
+     * Makes the given table the one used for all later conversions.
+     *
+     * @param table The new rate table.
+     */
+    public static void install(RateTable table) {
+        current = table;
+    }
+
+    /**
+     * Returns a table of the rates built into {@link Currency}.
+     *
+     * @return The default rate table.
+     */
+    public static RateTable defaults() {
+        return of(new EnumMap<>(Currency.class));
+    }
+
+    /**
+     * Returns a table of the given rates. Currencies without a rate keep their built-in rate.
+     *
+     * @param ratesPerSgd Units of each currency per Singapore dollar.
+     * @return The rate table.
+     */
+    public static RateTable of(Map<Currency, Double> ratesPerSgd) {
+        double[] rates = new double[CURRENCIES.length];
+        for (Currency currency : CURRENCIES) {
+            double rate = ratesPerSgd.getOrDefault(currency, currency.getRate());
+            if (!(rate > 0) || Double.isInfinite(rate)) {
+                throw new IllegalArgumentException("Invalid rate for " + currency + ": " + rate);
+            }
+            rates[currency.ordinal()] = rate;
+        }
+        return new RateTable(rates);
+    }
+
+    /**
+     * Reads a rate table from a file with one {@code CURRENCY,rate} line per currency, where the rate is
+     * the number of units per Singapore dollar. Blank lines and lines starting with {@code #} are ignored.
+     *
+     * @param file The file to read.
+     * @return The rate table.
+     * @throws IOException           If the file cannot be read.
+     * @throws StorageParseException If a line is malformed.
+     */
+    public static RateTable load(File file) throws IOException {
+        Map<Currency, Double> rates = new EnumMap<>(Currency.class);
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] parts = line.split(",");
+                if (parts.length != 2) {
+                    throw new StorageParseException("Invalid rate line: " + line);
+                }
+                try {
+                    rates.put(Currency.valueOfFullName(parts[0].trim()), Double.parseDouble(parts[1].trim()));
+                } catch (IllegalArgumentException e) {
+                    throw new StorageParseException("Invalid rate line: " + line);
+                }
+            }
+        }
+        try {
+            return of(rates);
+        } catch (IllegalArgumentException e) {
+            throw new StorageParseException(e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the number assigned to this table when it was built; later tables have higher numbers.
+     *
+     * @return The table version.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the number of units of a currency per Singapore dollar.
+     *
+     * @param currency The currency.
+     * @return Its rate.
+     */
+    public double getRate(Currency currency) {
+        return rates[currency.ordinal()];
+    }
+
+    /**
+     * Returns the factor that converts an amount from one currency to another.
+     *
+     * @param from The currency of the amount.
+     * @param to   The currency to convert to.
+     * @return The conversion factor.
+     */
+    public double getFactor(Currency from, Currency to) {
+        return factors[from.ordinal() * CURRENCIES.length + to.ordinal()];
+    }
+
+    /**
+     * Converts an amount in cents from one currency to another, rounded to the nearest cent.
+     * Amounts in the same currency are returned unchanged.
+     *
+     * @param cents The amount in cents.
+     * @param from  The currency of the amount.
+     * @param to    The currency to convert to.
+     * @return The converted amount in cents.
+     */
+    public long convertCents(long cents, Currency from, Currency to) {
+        if (from == to) {
+            return cents;
+        }
+        return Math.round(cents * factors[from.ordinal() * CURRENCIES.length + to.ordinal()]);
+    }
+
+    /**
+     * Converts an amount of money from one currency to another, rounded to the nearest cent.
+     *
+     * @param money The amount.
+     * @param from  The currency of the amount.
+     * @param to    The currency to convert to.
+     * @return The converted amount.
+     */
+    public Money convert(Money money, Currency from, Currency to) {
+        return Money.ofCents(convertCents(money.getCents(), from, to));
+    }
+}
@@ -3,16 +3,21 @@ package seedu.duke;
 import enums.Category;
 import enums.Currency;
 import enums.Status;
+import metrics.CommandExecuteEvent;
+import metrics.CommandLatencies;
 import ui.Ui;
 import ui.ConsoleFormatter;
 
 import java.time.LocalDate;
-import java.util.Scanner;
+import java.util.Set;
+
+import static constant.Constant.UNKNOWN_COMMAND;
 
 public class SavingMode {
+    /** Commands of saving mode, timed under their own names; other input is timed as unknown. */
+    private static final Set<String> COMMANDS = Set.of("help", "set", "list", "contribute", "save", "deduct");
 
     public static void enter(Ui ui, FinancialGoal goal, TransactionManager transactions, Storage storage) {
-        Scanner scanner = new Scanner(System.in);
         ConsoleFormatter.printCenteredTitle("Saving Mode");
         ConsoleFormatter.printCenteredLine("You're now in Saving Mode!");
         ConsoleFormatter.printCenteredLine("Type 'help' to see saving commands. Type 'exit' to return.");
@@ -21,7 +26,7 @@ public class SavingMode {
 
         while (true) {
             System.out.print("saving> ");
-            String input = scanner.nextLine().trim();
+            String input = ui.readLine().trim();
 
             if (input.equalsIgnoreCase("exit")) {
                 ConsoleFormatter.printLine();
@@ -44,7 +49,21 @@ public class SavingMode {
 
         String[] parts = input.split(" ", 2);
         String command = parts[0].toLowerCase();
+        long start = CommandLatencies.start();
+        CommandExecuteEvent event = CommandExecuteEvent.start();
+        boolean isFailed = true;
+        try {
+            runSavingCommand(command, parts, ui, goal, transactions, storage);
+            isFailed = false;
+        } finally {
+            String name = "saving " + (COMMANDS.contains(command) ? command : UNKNOWN_COMMAND);
+            CommandLatencies.record(name, start);
+            event.finish(name, isFailed);
+        }
+    }
 
+    private static void runSavingCommand(String command, String[] parts, Ui ui, FinancialGoal goal,
+                                         TransactionManager transactions, Storage storage) throws Exception {
         switch (command) {
             case "help":
                 printHelp();
@@ -98,7 +117,7 @@ public class SavingMode {
         goal.addToSavings(addAmount);
         ui.showMessage("Added $" + String.format("%.2f", addAmount) + " to savings.");
         storage.saveGoal(goal);
-        storage.saveTransactions(transactions.getTransactions());
+        storage.saveTransactions(transactions);
     }
 
     private static void handleSubtractFromSavings(String[] parts, FinancialGoal goal,
@@ -127,7 +146,7 @@ public class SavingMode {
         goal.subFromSavings(subAmount);
         ui.showMessage("Deducted $" + String.format("%.2f", subAmount) + " from savings.");
         storage.saveGoal(goal);
-        storage.saveTransactions(transactions.getTransactions());
+        storage.saveTransactions(transactions);
     }
 
     private static void printHelp() {
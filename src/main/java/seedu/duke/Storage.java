@@ -3,16 +3,29 @@ package seedu.duke;
 import java.io.IOException;
 import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.BufferedReader;
 import java.io.FileReader;
+import java.io.FileWriter;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.time.format.DateTimeParseException;
 
 import exceptions.StorageParseException;
+import metrics.StorageEvent;
+import metrics.StorageMetrics;
 import enums.Category;
 import enums.Currency;
 import enums.Priority;
@@ -26,29 +39,164 @@ import seedu.duke.budget.BudgetList;
  */
 //@@author HalFentise
 public class Storage {
-    /** Path to the main data folder. */
+    /** Path to the main data folder, unless another folder is given to the constructor. */
     private static final String FOLDER_PATH = "data";
 
+    /** Settings key selecting how transactions are persisted. */
+    private static final String STORAGE_MODE_KEY = "transaction_storage";
+
+    /** Storage mode that rewrites the whole transaction file on every save. */
+    private static final String SNAPSHOT_MODE = "snapshot";
+
+    /** Storage mode that appends one journal record per changed transaction. */
+    private static final String JOURNAL_MODE = "journal";
+
+    /** Settings key selecting the file format of the transaction snapshot. */
+    private static final String FORMAT_KEY = "transaction_format";
+
+    /** Snapshot format with one comma-separated row per transaction. */
+    private static final String CSV_FORMAT = "csv";
+
+    /** Snapshot format written by {@link BinarySnapshot}. */
+    private static final String BINARY_FORMAT = "binary";
+
+    /** Settings key selecting how the CSV snapshot is read. */
+    private static final String LOADER_KEY = "transaction_loader";
+
+    /** CSV loader that memory-maps the file and parses rows from the mapped bytes. */
+    private static final String MAPPED_LOADER = "mapped";
+
+    /** CSV loader that reads the file line by line. */
+    private static final String READER_LOADER = "reader";
+
+    /** Settings key selecting how transactions are held in memory. */
+    private static final String STORE_KEY = "transaction_store";
+
+    /** In-memory store keeping one object per transaction. */
+    private static final String OBJECT_STORE = "objects";
+
+    /** In-memory store keeping transactions in primitive columns, see {@link ColumnarTransactionStore}. */
+    private static final String COLUMNAR_STORE = "columnar";
+
+    /** Journal size after which it is folded into the snapshot in the background. */
+    private static final long JOURNAL_COMPACTION_THRESHOLD_BYTES = 1 << 20;
+
+    /** File path of the overall budget limit, kept outside the data folder for compatibility. */
+    private static final String BUDGET_LIMIT_FILE_PATH = "budget.txt";
+
+    private static final int LINE_SEPARATOR_LENGTH = System.lineSeparator().length();
+
+    /** Path to the data folder of this instance. */
+    private final String folderPath;
+
     /** File path for saving transaction data. */
-    private static final String FILE_PATH = FOLDER_PATH + "/transactions.csv";
+    private final String filePath;
+
+    /** File path for saving transaction data in the binary snapshot format. */
+    private final String binaryFilePath;
 
     /** File path for saving financial goal data. */
-    private static final String GOAL_FILE_PATH = FOLDER_PATH + "/goal.csv";
+    private final String goalFilePath;
 
     /** File path for saving budget data. */
-    private static final String BUDGET_FILE_PATH = FOLDER_PATH + "/budgets.csv";
+    private final String budgetFilePath;
 
     /** File path for saving metadata. */
-    private static final String META_FILE_PATH = FOLDER_PATH + "/meta.txt";
+    private final String metaFilePath;
 
     /** File path for saving user settings (e.g., default currency). */
-    private static final String SETTINGS_FILE_PATH = FOLDER_PATH + "/settings.csv";
+    private final String settingsFilePath;
+
+    /** File path for exchange rates overriding the built-in ones, read by {@link RateTable#load(File)}. */
+    private final String ratesFilePath;
+
+    /** File path for dated exchange rates, read by {@link HistoricalRates#load(File)}. */
+    private final String rateHistoryFilePath;
+
+    /** Base path of the transaction journal segments. */
+    private final String journalBasePath;
+
+    private final TransactionJournal journal;
+    private final boolean isJournalMode;
+    private final boolean isBinaryFormat;
+
+    /** Snapshot file in the configured format, and the file of the other format it may be migrated from. */
+    private final File snapshotFile;
+    private final File legacySnapshotFile;
+    private final boolean isMappedLoader;
+    private final boolean isColumnarStore;
+    private volatile LoadReport lastLoadReport;
+
+    /** Whether transaction saves are held back until {@link #flushTransactions(TransactionManager)}. */
+    private boolean isSavingDeferred = false;
+
+    /** Lines of each small file as last written, to tell how much of the next rewrite actually changes. */
+    private final Map<String, List<String>> writtenLines = new HashMap<>();
+
+    /** Guards the snapshot file against concurrent rewrites by a save and a background compaction. */
+    private final Object snapshotLock = new Object();
+    private final AtomicBoolean isCompacting = new AtomicBoolean(false);
+    private ExecutorService compactor;
+
+    /**
+     * Creates a storage handler using the transaction storage mode, snapshot format, loader and in-memory store
+     * configured in the settings file.
+     */
+    public Storage() {
+        this(FOLDER_PATH);
+    }
+
+    /**
+     * Creates a storage handler whose data files live in the given folder instead of the default one.
+     * The overall budget limit is still kept in {@code budget.txt} in the working directory.
+     *
+     * @param folderPath Path to the data folder.
+     */
+    Storage(String folderPath) {
+        this.folderPath = folderPath;
+        filePath = folderPath + "/transactions.csv";
+        binaryFilePath = folderPath + "/transactions.bin";
+        goalFilePath = folderPath + "/goal.csv";
+        budgetFilePath = folderPath + "/budgets.csv";
+        metaFilePath = folderPath + "/meta.txt";
+        settingsFilePath = folderPath + "/settings.csv";
+        ratesFilePath = folderPath + "/rates.csv";
+        rateHistoryFilePath = folderPath + "/rate_history.csv";
+        journalBasePath = folderPath + "/transactions";
+        journal = new TransactionJournal(journalBasePath);
+        Map<String, String> settings = loadSettings();
+        isJournalMode = JOURNAL_MODE.equalsIgnoreCase(settings.getOrDefault(STORAGE_MODE_KEY, SNAPSHOT_MODE));
+        isBinaryFormat = BINARY_FORMAT.equalsIgnoreCase(settings.getOrDefault(FORMAT_KEY, CSV_FORMAT));
+        snapshotFile = new File(isBinaryFormat ? binaryFilePath : filePath);
+        legacySnapshotFile = new File(isBinaryFormat ? filePath : binaryFilePath);
+        isMappedLoader = MAPPED_LOADER.equalsIgnoreCase(settings.getOrDefault(LOADER_KEY, defaultLoader()));
+        isColumnarStore = COLUMNAR_STORE.equalsIgnoreCase(settings.getOrDefault(STORE_KEY, OBJECT_STORE));
+    }
+
+    /**
+     * Returns whether the settings ask for transactions to be held in a {@link ColumnarTransactionStore}.
+     *
+     * @return {@code true} if the columnar store is configured.
+     */
+    public boolean isColumnarStore() {
+        return isColumnarStore;
+    }
+
+    /**
+     * Returns the CSV loader used when none is configured. Windows cannot rewrite a file while a mapping
+     * of it is still alive, and mappings are only released by the garbage collector, so the mapped
+     * loader is opt-in there.
+     */
+    private static String defaultLoader() {
+        boolean isWindows = System.getProperty("os.name", "").startsWith("Windows");
+        return isWindows ? READER_LOADER : MAPPED_LOADER;
+    }
 
     /**
      * Creates the data folder if it does not already exist.
      */
     private void createDataFolderIfNeeded() {
-        File folder = new File(FOLDER_PATH);
+        File folder = new File(folderPath);
         if (!folder.exists()) {
             folder.mkdirs();
         }
@@ -57,36 +205,230 @@ public class Storage {
     // ================= TRANSACTIONS =================
 
     /**
-     * Saves all transactions to the transaction CSV file.
+     * Saves all transactions to the transaction snapshot in the configured format.
+     * The written file replaces any journaled changes, so the journal is discarded afterwards,
+     * and any snapshot left in the other format is removed.
      *
      * @param transactions The list of {@link Transaction} objects to be saved.
      */
-    public void saveTransactions(ArrayList<Transaction> transactions) {
+    public void saveTransactions(List<Transaction> transactions) {
+        saveTransactions(transactions, -1);
+    }
+
+    /**
+     * Saves all transactions to the transaction snapshot, recording how many bytes of it changed.
+     *
+     * @param transactions The transactions to be saved.
+     * @param changedBytes Size of the rows that changed, or -1 if the whole snapshot counts as changed.
+     */
+    private void saveTransactions(List<Transaction> transactions, long changedBytes) {
         assert transactions != null;
         createDataFolderIfNeeded();
 
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(FILE_PATH))) {
-            for (Transaction t : transactions) {
-                writer.write(formatTransaction(t));
-                writer.newLine();
+        synchronized (snapshotLock) {
+            try {
+                writeSnapshot(transactions, snapshotFile, changedBytes);
+                legacySnapshotFile.delete();
+                if (journal.exists()) {
+                    journal.reset();
+                }
+            } catch (IOException e) {
+                System.out.println("Error saving transactions: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Sets whether saves of a {@link TransactionManager} are held back. While they are, its changes keep
+     * accumulating as pending changes and are only written by {@link #flushTransactions(TransactionManager)},
+     * so a batch of commands costs one write instead of one per command.
+     *
+     * @param isDeferred {@code true} to hold back saves.
+     */
+    public void setSavingDeferred(boolean isDeferred) {
+        isSavingDeferred = isDeferred;
+    }
+
+    /**
+     * Persists the changes made to the given manager since its last save, unless saving is deferred.
+     *
+     * @param transactions The {@link TransactionManager} whose pending changes are saved.
+     * @see #flushTransactions(TransactionManager)
+     */
+    public void saveTransactions(TransactionManager transactions) {
+        if (!isSavingDeferred) {
+            flushTransactions(transactions);
+        }
+    }
+
+    /**
+     * Persists the changes made to the given manager since its last save, even if saving is deferred.
+     * In journal mode only the changed transactions are appended to the journal;
+     * otherwise the whole transaction file is rewritten.
+     *
+     * @param transactions The {@link TransactionManager} whose pending changes are saved.
+     */
+    public void flushTransactions(TransactionManager transactions) {
+        if (!isJournalMode) {
+            long changedBytes = 0;
+            for (Transaction t : transactions.getPendingChanges()) {
+                changedBytes += rowBytes(t);
+            }
+            saveTransactions(transactions.getTransactionView(), changedBytes);
+            transactions.markPersisted();
+            return;
+        }
+
+        createDataFolderIfNeeded();
+        List<String> records = new ArrayList<>();
+        if (transactions.isClearPending()) {
+            records.add(String.valueOf(TransactionJournal.CLEAR));
+        }
+        for (Transaction t : transactions.getPendingChanges()) {
+            if (t.isDeleted()) {
+                records.add(TransactionJournal.DELETE + "," + t.getId());
+            } else {
+                records.add(TransactionJournal.UPSERT + "," + formatTransaction(t));
+            }
+        }
+
+        try {
+            long sizeBefore = journal.size();
+            long start = System.nanoTime();
+            StorageEvent event = StorageEvent.start();
+            journal.append(records);
+            long bytes = journal.size() - sizeBefore;
+            event.finish(StorageEvent.SAVE, journal.getActiveFileName(), records.size(), bytes);
+            long changedBytes = 0;
+            for (String record : records) {
+                changedBytes += record.length() + LINE_SEPARATOR_LENGTH;
             }
+            StorageMetrics.file(journal.getActiveFileName())
+                    .recordWrite(bytes, changedBytes, System.nanoTime() - start);
+            transactions.markPersisted();
         } catch (IOException e) {
             System.out.println("Error saving transactions: " + e.getMessage());
+            return;
+        }
+
+        if (journal.size() > JOURNAL_COMPACTION_THRESHOLD_BYTES) {
+            compactInBackground();
+        }
+    }
+
+    /**
+     * Writes the given transactions to a snapshot file in the configured format.
+     * The rows are written to a temporary file that then replaces the snapshot in one atomic move,
+     * so a write that fails part way, for any reason, leaves the previous snapshot intact.
+     *
+     * @param changedBytes Size of the rows that changed, or -1 if the whole snapshot counts as changed.
+     */
+    private void writeSnapshot(Collection<Transaction> transactions, File file, long changedBytes)
+            throws IOException {
+        StorageEvent event = StorageEvent.start();
+        long start = System.nanoTime();
+        File temp = new File(file.getPath() + ".tmp");
+        try {
+            if (isBinaryFormat) {
+                BinarySnapshot.write(temp, transactions);
+            } else {
+                try (BufferedWriter writer = new BufferedWriter(new FileWriter(temp))) {
+                    for (Transaction t : transactions) {
+                        writer.write(formatTransaction(t));
+                        writer.newLine();
+                    }
+                }
+            }
+            Files.move(temp.toPath(), file.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            temp.delete();
         }
+        long bytes = file.length();
+        StorageMetrics.file(file.getName())
+                .recordWrite(bytes, changedBytes < 0 ? bytes : changedBytes, System.nanoTime() - start);
+        event.finish(StorageEvent.SAVE, file.getName(), transactions.size(), bytes);
     }
 
     /**
-     * Loads all transactions from the transaction CSV file.
+     * Returns the size of the row of a transaction in the configured snapshot format.
+     */
+    private long rowBytes(Transaction t) {
+        return isBinaryFormat ? BinarySnapshot.rowBytes(t) : formatTransaction(t).length() + LINE_SEPARATOR_LENGTH;
+    }
+
+    /**
+     * Loads all transactions from the transaction snapshot.
+     * If there is no snapshot in the configured format yet, the snapshot in the other format is read instead.
+     * The throughput of the load is available from {@link #getLastLoadReport()} afterwards.
      *
      * @return A list of {@link Transaction} objects loaded from the file.
      */
     public ArrayList<Transaction> loadTransactions() {
-        ArrayList<Transaction> transactions = new ArrayList<>();
-        File file = new File(FILE_PATH);
+        File file = currentSnapshotFile();
         if (!file.exists()) {
+            return new ArrayList<>();
+        }
+
+        long startTime = System.nanoTime();
+        StorageEvent event = StorageEvent.start();
+        ArrayList<Transaction> transactions = new ArrayList<>();
+        String loader = loaderFor(file);
+        try {
+            readSnapshot(file, loader, transactions);
+        } catch (IOException | StorageParseException e) {
+            System.out.println("Error loading transactions: " + e.getMessage());
             return transactions;
         }
+        long elapsedNanos = System.nanoTime() - startTime;
+        lastLoadReport = new LoadReport(loader, transactions.size(), file.length(), elapsedNanos);
+        StorageMetrics.file(file.getName()).recordRead(file.length(), elapsedNanos);
+        event.finish(StorageEvent.LOAD, file.getName(), transactions.size(), file.length());
+        return transactions;
+    }
+
+    /**
+     * Returns the throughput of the most recent snapshot load.
+     *
+     * @return The report, or {@code null} if no snapshot has been loaded yet.
+     */
+    public LoadReport getLastLoadReport() {
+        return lastLoadReport;
+    }
+
+    /**
+     * Returns the snapshot file to read: the one in the configured format, or else the one it may be migrated from.
+     */
+    private File currentSnapshotFile() {
+        return snapshotFile.exists() ? snapshotFile : legacySnapshotFile;
+    }
+
+    private String loaderFor(File file) {
+        if ((file == snapshotFile) == isBinaryFormat) {
+            return BINARY_FORMAT;
+        }
+        return isMappedLoader ? MAPPED_LOADER : READER_LOADER;
+    }
+
+    /**
+     * Reads a snapshot file with the given loader, without recording any metrics or events.
+     *
+     * @param transactions The list the transactions are added to, in file order.
+     */
+    private void readSnapshot(File file, String loader, List<Transaction> transactions) throws IOException {
+        switch (loader) {
+        case BINARY_FORMAT:
+            transactions.addAll(BinarySnapshot.read(file));
+            break;
+        case MAPPED_LOADER:
+            transactions.addAll(MappedTransactionLoader.loadInParallel(file));
+            break;
+        default:
+            readCsvSnapshot(file, transactions);
+        }
+    }
 
+    private void readCsvSnapshot(File file, List<Transaction> transactions) throws IOException {
         try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
             String line;
             while ((line = reader.readLine()) != null) {
@@ -95,10 +437,137 @@ public class Storage {
                     transactions.add(t);
                 }
             }
+        }
+    }
+
+    /**
+     * Loads the snapshot and replays the journal on top of it.
+     *
+     * @return The current transactions, keyed by id in snapshot order.
+     */
+    private LinkedHashMap<Integer, Transaction> loadJournaledTransactions() {
+        LinkedHashMap<Integer, Transaction> rows = new LinkedHashMap<>();
+        for (Transaction t : loadTransactions()) {
+            rows.put(t.getId(), t);
+        }
+        try {
+            long start = System.nanoTime();
+            StorageEvent event = StorageEvent.start();
+            List<String> records = journal.readAll();
+            if (!records.isEmpty()) {
+                StorageMetrics.file(journal.getActiveFileName()).recordRead(journal.size(), System.nanoTime() - start);
+                event.finish(StorageEvent.LOAD, journal.getActiveFileName(), records.size(), journal.size());
+            }
+            replay(records, rows);
         } catch (IOException e) {
-            System.out.println("Error loading transactions: " + e.getMessage());
+            System.out.println("Error loading transaction journal: " + e.getMessage());
+        }
+        return rows;
+    }
+
+    /**
+     * Applies journal records, in order, to the given transactions.
+     *
+     * @param records The journal records to apply.
+     * @param rows    The transactions keyed by id, updated in place.
+     * @return The ids of the transactions added or modified by the records.
+     */
+    private Set<Integer> replay(List<String> records, Map<Integer, Transaction> rows) {
+        Set<Integer> upsertedIds = new HashSet<>();
+        for (String record : records) {
+            switch (record.charAt(0)) {
+            case TransactionJournal.CLEAR:
+                rows.clear();
+                break;
+            case TransactionJournal.DELETE:
+                try {
+                    rows.remove(Integer.parseInt(record.substring(2)));
+                } catch (NumberFormatException | IndexOutOfBoundsException e) {
+                    System.out.println("Invalid journal record: " + record);
+                }
+                break;
+            case TransactionJournal.UPSERT:
+                Transaction t = record.length() > 2 ? parseTransaction(record.substring(2)) : null;
+                if (t != null) {
+                    rows.put(t.getId(), t);
+                    upsertedIds.add(t.getId());
+                }
+                break;
+            default:
+                System.out.println("Invalid journal record: " + record);
+            }
+        }
+        return upsertedIds;
+    }
+
+    /**
+     * Folds the current journal into the snapshot on a background thread.
+     * New records keep going to a fresh journal segment while the old one is compacted.
+     */
+    private void compactInBackground() {
+        if (!isCompacting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (!journal.rotate()) {
+                isCompacting.set(false);
+                return;
+            }
+        } catch (IOException e) {
+            System.out.println("Error rotating transaction journal: " + e.getMessage());
+            isCompacting.set(false);
+            return;
+        }
+
+        if (compactor == null) {
+            compactor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "journal-compactor");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        compactor.submit(() -> {
+            try {
+                compactJournal();
+            } finally {
+                isCompacting.set(false);
+            }
+        });
+    }
+
+    /**
+     * Writes a new snapshot containing the compacting journal segment and then deletes that segment.
+     * If the process stops before the segment is deleted, replaying it again on startup is harmless.
+     * The old snapshot is read without touching the load report, so only the write shows in the metrics,
+     * and if it cannot be read the segment is left for the next compaction.
+     */
+    private void compactJournal() {
+        synchronized (snapshotLock) {
+            try {
+                List<Transaction> snapshot = new ArrayList<>();
+                File file = currentSnapshotFile();
+                if (file.exists()) {
+                    readSnapshot(file, loaderFor(file), snapshot);
+                }
+                LinkedHashMap<Integer, Transaction> rows = new LinkedHashMap<>();
+                for (Transaction t : snapshot) {
+                    rows.put(t.getId(), t);
+                }
+                long changedBytes = 0;
+                for (int id : replay(journal.readCompacting(), rows)) {
+                    Transaction t = rows.get(id);
+                    if (t != null) {
+                        changedBytes += rowBytes(t);
+                    }
+                }
+
+                writeSnapshot(rows.values(), snapshotFile, changedBytes);
+                legacySnapshotFile.delete();
+                journal.finishCompaction();
+            } catch (IOException | StorageParseException e) {
+                System.out.println("Error compacting transaction journal: " + e.getMessage());
+            }
         }
-        return transactions;
     }
 
     /**
@@ -107,9 +576,9 @@ public class Storage {
      * @param t The transaction to be formatted.
      * @return A comma-separated string representing the transaction.
      */
-    private String formatTransaction(Transaction t) {
-        return String.format("%d,%s,%f,%s,%s,%s,%s,%d,%b,%b,%s",
-                t.getId(), t.getDescription(), t.getAmount(), t.getCurrency(),
+    static String formatTransaction(Transaction t) {
+        return String.format("%d,%s,%s,%s,%s,%s,%s,%d,%b,%b,%s",
+                t.getId(), t.getDescription(), t.getMoney(), t.getCurrency(),
                 t.getCategory(), t.getDate(), t.getStatus(),
                 t.getRecurringPeriod(), t.isDeleted(), t.isCompleted(), t.getPriority());
     }
@@ -132,7 +601,7 @@ public class Storage {
             }
 
             int id;
-            double amount;
+            Money amount;
             int recurringPeriod;
             boolean isDeleted;
             boolean isCompleted;
@@ -146,7 +615,7 @@ public class Storage {
             String description = parts[1];
 
             try {
-                amount = Double.parseDouble(parts[2]);
+                amount = Money.parse(parts[2]);
             } catch (NumberFormatException e) {
                 throw new StorageParseException("Invalid amount format: " + parts[2]);
             }
@@ -221,12 +690,12 @@ public class Storage {
     // 获取当前最大 Transaction ID
     public int loadMaxTransactionId() {
         createDataFolderIfNeeded();
-        File file = new File(META_FILE_PATH);
+        File file = new File(metaFilePath);
         if (!file.exists()) {
             return 0;
         }
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+        try (BufferedReader reader = StorageMetrics.newReader(file)) {
             String line = reader.readLine();
             return line != null ? Integer.parseInt(line.trim()) : 0;
         } catch (IOException | NumberFormatException e) {
@@ -238,8 +707,10 @@ public class Storage {
     // 更新最大 Transaction ID
     public void saveMaxTransactionId(int id) {
         createDataFolderIfNeeded();
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(META_FILE_PATH))) {
-            writer.write(String.valueOf(id));
+        String content = String.valueOf(id);
+        try (BufferedWriter writer = StorageMetrics.newWriter(new File(metaFilePath),
+                changedBytes(metaFilePath, List.of(content)))) {
+            writer.write(content);
         } catch (IOException e) {
             System.out.println("Error saving max transaction ID: " + e.getMessage());
         }
@@ -249,41 +720,47 @@ public class Storage {
 
     public void saveGoal(FinancialGoal goal) {
         createDataFolderIfNeeded();
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(GOAL_FILE_PATH))) {
-            writer.write(formatGoal(goal));
+        StorageEvent event = StorageEvent.start();
+        File file = new File(goalFilePath);
+        String content = formatGoal(goal);
+        try (BufferedWriter writer = StorageMetrics.newWriter(file, changedBytes(goalFilePath, List.of(content)))) {
+            writer.write(content);
         } catch (IOException e) {
             System.out.println("Error saving financial goal: " + e.getMessage());
         }
+        event.finish(StorageEvent.SAVE, file.getName(), 1, file.length());
     }
 
-    private String formatGoal(FinancialGoal goal) {
-        return String.format("%s,%f,%s,%f,%b",
+    static String formatGoal(FinancialGoal goal) {
+        return String.format("%s,%s,%s,%s,%b",
                 goal.getGoal(),
-                goal.getTargetAmount(),
+                Money.of(goal.getTargetAmount()),
                 goal.getDescription().replace(",", " "),
-                goal.getBalance(),
+                Money.of(goal.getBalance()),
                 goal.isAchieved());
     }
 
     public FinancialGoal loadGoal() {
-        File file = new File(GOAL_FILE_PATH);
+        File file = new File(goalFilePath);
         if (!file.exists()) {
             return new FinancialGoal();
         }
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+        StorageEvent event = StorageEvent.start();
+        try (BufferedReader reader = StorageMetrics.newReader(file)) {
             String line = reader.readLine();
             if (line != null) {
                 String[] parts = line.split(",", 5);
                 String name = parts[0];
-                double target = Double.parseDouble(parts[1]);
+                double target = Money.parse(parts[1]).toDouble();
                 String description = parts[2];
-                double deposits = Double.parseDouble(parts[3]);
+                double deposits = Money.parse(parts[3]).toDouble();
                 boolean isAchieved = Boolean.parseBoolean(parts[4]);
 
                 FinancialGoal goal = new FinancialGoal(name, target, description);
                 goal.forceSetDeposits(deposits);
                 goal.forceSetAchieved(isAchieved);
+                event.finish(StorageEvent.LOAD, file.getName(), 1, file.length());
                 return goal;
             }
         } catch (Exception e) {
@@ -295,32 +772,44 @@ public class Storage {
 
     // ================= BUDGET =================
 
-    public void saveBudgets(BudgetList list, List<Transaction> transactions) {
+    public void saveBudgets(BudgetList list) {
         createDataFolderIfNeeded();
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(BUDGET_FILE_PATH))) {
-            for (Budget b : list.getAll()) {
-                double remaining = b.calculateRemaining(transactions);
-                writer.write(String.format("%s,%f,%f,%s,%s",
-                        b.getName(),
-                        b.getTotalAmount(),
-                        remaining,
-                        b.getEndDate(),
-                        b.getCategory()));
+        StorageEvent event = StorageEvent.start();
+        File file = new File(budgetFilePath);
+        List<String> lines = new ArrayList<>();
+        for (Budget b : list.getAll()) {
+            lines.add(formatBudget(b));
+        }
+        try (BufferedWriter writer = StorageMetrics.newWriter(file, changedBytes(budgetFilePath, lines))) {
+            for (String line : lines) {
+                writer.write(line);
                 writer.newLine();
             }
         } catch (IOException e) {
             System.out.println("Error saving budgets: " + e.getMessage());
         }
+        event.finish(StorageEvent.SAVE, file.getName(), lines.size(), file.length());
+    }
+
+    static String formatBudget(Budget b) {
+        Money remaining = Money.of(b.calculateRemaining());
+        return String.format("%s,%s,%s,%s,%s",
+                b.getName(),
+                b.getTotal(),
+                remaining,
+                b.getEndDate(),
+                b.getCategory());
     }
 
     public BudgetList loadBudgets() {
         BudgetList budgetList = new BudgetList();
-        File file = new File(BUDGET_FILE_PATH);
+        File file = new File(budgetFilePath);
         if (!file.exists()) {
             return budgetList;
         }
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+        StorageEvent event = StorageEvent.start();
+        try (BufferedReader reader = StorageMetrics.newReader(file)) {
             String line;
             while ((line = reader.readLine()) != null) {
                 String[] parts = line.split(",", 5);
@@ -329,7 +818,7 @@ public class Storage {
                 }
 
                 String name = parts[0];
-                double total = Double.parseDouble(parts[1]);
+                double total = Money.parse(parts[1]).toDouble();
                 LocalDate endDate = LocalDate.parse(parts[3]);
                 Category category = Category.valueOf(parts[4]);
 
@@ -339,6 +828,7 @@ public class Storage {
         } catch (IOException | NumberFormatException e) {
             System.out.println("Error loading budgets: " + e.getMessage());
         }
+        event.finish(StorageEvent.LOAD, file.getName(), budgetList.getAll().size(), file.length());
         return budgetList;
     }
 
@@ -351,10 +841,8 @@ public class Storage {
      * @param currency The {@link Currency} to be saved as the default.
      */
     public void saveDefaultCurrency(Currency currency) {
-        createDataFolderIfNeeded();
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(SETTINGS_FILE_PATH))) {
-            writer.write("default_currency=" + currency.name());
-            writer.newLine();
+        try {
+            saveSetting("default_currency", currency.name());
         } catch (IOException e) {
             System.out.println("Error saving default currency: " + e.getMessage());
         }
@@ -367,35 +855,101 @@ public class Storage {
      * @return The loaded {@link Currency}, or {@code Currency.SGD} if loading fails.
      */
     public Currency loadDefaultCurrency() {
-        File file = new File(SETTINGS_FILE_PATH);
+        try {
+            return Currency.valueOf(loadSetting("default_currency", Currency.SGD.name()).toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.out.println("Error loading default currency: " + e.getMessage());
+        }
+        return Currency.SGD;
+    }
+
+    /**
+     * Reads a single {@code key=value} entry from the settings file.
+     *
+     * @param key          The setting to look up.
+     * @param defaultValue The value returned if the setting is missing or unreadable.
+     * @return The stored value, or {@code defaultValue}.
+     */
+    private String loadSetting(String key, String defaultValue) {
+        return loadSettings().getOrDefault(key, defaultValue);
+    }
+
+    /**
+     * Reads every {@code key=value} entry of the settings file in one pass.
+     * If a key appears more than once, its first value is kept.
+     *
+     * @return The settings keyed by name; empty if the file is missing or unreadable.
+     */
+    private Map<String, String> loadSettings() {
+        Map<String, String> settings = new HashMap<>();
+        File file = new File(settingsFilePath);
         if (!file.exists()) {
-            return Currency.SGD;
+            return settings;
         }
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+        try (BufferedReader reader = StorageMetrics.newReader(file)) {
             String line;
             while ((line = reader.readLine()) != null) {
-                if (line.startsWith("default_currency=")) {
-                    String value = line.substring("default_currency=".length()).trim();
-                    return Currency.valueOf(value.toUpperCase());
+                int separator = line.indexOf('=');
+                if (separator > 0) {
+                    settings.putIfAbsent(line.substring(0, separator), line.substring(separator + 1).trim());
                 }
             }
-        } catch (IOException | IllegalArgumentException e) {
-            System.out.println("Error loading default currency: " + e.getMessage());
+        } catch (IOException e) {
+            System.out.println("Error loading settings: " + e.getMessage());
+        }
+        return settings;
+    }
+
+    /**
+     * Stores a single {@code key=value} entry in the settings file, keeping all other entries.
+     *
+     * @param key   The setting to store.
+     * @param value The new value.
+     * @throws IOException If the settings file cannot be read or written.
+     */
+    private void saveSetting(String key, String value) throws IOException {
+        createDataFolderIfNeeded();
+        File file = new File(settingsFilePath);
+        List<String> lines = new ArrayList<>();
+        if (file.exists()) {
+            try (BufferedReader reader = StorageMetrics.newReader(file)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.startsWith(key + "=") && !line.isBlank()) {
+                        lines.add(line);
+                    }
+                }
+            }
+        }
+        String entry = key + "=" + value;
+        lines.add(entry);
+
+        try (BufferedWriter writer = StorageMetrics.newWriter(file, entry.length() + LINE_SEPARATOR_LENGTH)) {
+            for (String line : lines) {
+                writer.write(line);
+                writer.newLine();
+            }
         }
-        return Currency.SGD;
     }
 
     /**
      * Loads all saved data from storage and populates the given {@link TransactionManager}.
-     * This includes transactions, budgets, and the default currency.
+     * This includes exchange rates, transactions, budgets, and the default currency.
+     * Any journaled transaction changes are replayed on top of the saved transactions,
+     * and a snapshot found only in the other format is migrated to the configured one.
      *
      * @param transactions The {@link TransactionManager} instance to populate with loaded data.
      */
     public void load(TransactionManager transactions) {
-        ArrayList<Transaction> savedTransactions = loadTransactions();
-        for (Transaction t : savedTransactions) {
-            transactions.addTransaction(t);
+        loadRates();
+        boolean hasJournal = journal.exists();
+        boolean needsMigration = !snapshotFile.exists() && legacySnapshotFile.exists();
+        LinkedHashMap<Integer, Transaction> savedTransactions = loadJournaledTransactions();
+        transactions.addTransactions(savedTransactions.values());
+        transactions.markPersisted();
+        if ((hasJournal && !isJournalMode) || needsMigration) {
+            saveTransactions(new ArrayList<>(savedTransactions.values()));
         }
         BudgetList loadedBudgets = loadBudgets();
         transactions.setBudgetList(loadedBudgets);
@@ -404,10 +958,40 @@ public class Storage {
     }
 //@@author
 
+    /**
+     * Installs the exchange rates from the rates file and the dated rates from the rate history file,
+     * if there are any. The built-in rates stay in use for a file that is missing or invalid.
+     */
+    public void loadRates() {
+        File file = new File(ratesFilePath);
+        if (file.exists()) {
+            try {
+                long start = System.nanoTime();
+                RateTable.install(RateTable.load(file));
+                StorageMetrics.file(file.getName()).recordRead(file.length(), System.nanoTime() - start);
+            } catch (IOException | StorageParseException e) {
+                System.out.println("Error loading exchange rates: " + e.getMessage());
+            }
+        }
+        File historyFile = new File(rateHistoryFilePath);
+        if (historyFile.exists()) {
+            try {
+                long start = System.nanoTime();
+                HistoricalRates.install(HistoricalRates.load(historyFile));
+                StorageMetrics.file(historyFile.getName())
+                        .recordRead(historyFile.length(), System.nanoTime() - start);
+            } catch (IOException | StorageParseException e) {
+                System.out.println("Error loading exchange rate history: " + e.getMessage());
+            }
+        }
+    }
+
     // Save budget limit
     public void saveBudgetLimit(double limit) {
-        try (FileWriter writer = new FileWriter("budget.txt")) {
-            writer.write(String.valueOf(limit));
+        String content = String.valueOf(limit);
+        try (BufferedWriter writer = StorageMetrics.newWriter(new File(BUDGET_LIMIT_FILE_PATH),
+                changedBytes(BUDGET_LIMIT_FILE_PATH, List.of(content)))) {
+            writer.write(content);
         } catch (IOException e) {
             System.out.println("Failed to save budget limit.");
         }
@@ -415,16 +999,44 @@ public class Storage {
 
     // Load budget limit
     public double loadBudgetLimit() {
-        File file = new File("budget.txt");
+        File file = new File(BUDGET_LIMIT_FILE_PATH);
         if (!file.exists()) {
             return -1;
         }
 
-        try (Scanner scanner = new Scanner(file)) {
+        try (Scanner scanner = new Scanner(StorageMetrics.newReader(file))) {
             return scanner.hasNextDouble() ? scanner.nextDouble() : -1;
         } catch (IOException e) {
             System.out.println("Failed to load budget limit.");
             return -1;
         }
     }
+
+    /**
+     * Returns how many bytes of a small file change when it is rewritten with the given lines: the larger of
+     * the size of the lines added and the size of the lines removed since it was last written, so that an
+     * edited line counts once. A file not yet written in this session counts as changed in full.
+     *
+     * @param path  The path of the file.
+     * @param lines The lines about to be written.
+     * @return The number of bytes that change.
+     */
+    private long changedBytes(String path, List<String> lines) {
+        List<String> previous = writtenLines.put(path, lines);
+        Set<String> previousLines = previous == null ? Set.of() : new HashSet<>(previous);
+        Set<String> newLines = new HashSet<>(lines);
+        long added = 0;
+        for (String line : newLines) {
+            if (!previousLines.contains(line)) {
+                added += line.length() + LINE_SEPARATOR_LENGTH;
+            }
+        }
+        long removed = 0;
+        for (String line : previousLines) {
+            if (!newLines.contains(line)) {
+                removed += line.length() + LINE_SEPARATOR_LENGTH;
+            }
+        }
+        return Math.max(added, removed);
+    }
 }
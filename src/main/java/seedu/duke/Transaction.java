@@ -17,7 +17,7 @@ import java.util.ArrayList;
  */
 public class Transaction {
     private final int id;
-    private double amount;
+    private long amountCents;
     private final Status status;
     private Currency currency;
     private LocalDate date;
@@ -31,6 +31,9 @@ public class Transaction {
     private int recurringPeriod; // Repeats every X days, or once if 0
     private boolean isCompleted = false;
 
+    private TransactionListener listener;
+    private int slot = -1;
+
     /**
      * Creates a new Transaction with full details.
      *
@@ -44,15 +47,31 @@ public class Transaction {
      */
     public Transaction(int id, String description, double amount, Currency currency,
             Category category, LocalDate date, Status status) {
+        this(id, description, Money.of(amount), currency, category, date, status);
+    }
+
+    /**
+     * Creates a new Transaction with full details and an exact amount.
+     *
+     * @param id          Unique identifier of the transaction.
+     * @param description Description of the transaction.
+     * @param amount      Amount of money involved.
+     * @param currency    Currency used in the transaction.
+     * @param category    Category of the transaction.
+     * @param date        Date of the transaction.
+     * @param status      Status of the transaction (e.g., pending, confirmed).
+     */
+    public Transaction(int id, String description, Money amount, Currency currency,
+            Category category, LocalDate date, Status status) {
         assert description != null : "Description cannot be null";
         assert currency != null : "Currency cannot be null";
         assert category != null : "Category cannot be null";
         assert date != null : "Date cannot be null";
         assert status != null : "Status cannot be null";
-        assert amount >= 0 : "Amount should be non-negative";
+        assert !amount.isNegative() : "Amount should be non-negative";
 
         this.id = id;
-        this.amount = amount;
+        this.amountCents = amount.getCents();
         this.description = description;
         this.currency = currency;
         this.category = category;
@@ -84,7 +103,7 @@ public class Transaction {
 
         this.id = id;
         this.description = description;
-        this.amount = amount;
+        this.amountCents = Money.toCents(amount);
         this.currency = currency;
         this.date = date;
         this.status = status;
@@ -93,6 +112,27 @@ public class Transaction {
         recurringPeriod = 0;
     }
 
+    /**
+     * Recreates a transaction from previously stored field values, e.g. a row of a
+     * {@link ColumnarTransactionStore}. The values were validated when first stored, so they are taken as is.
+     */
+    Transaction(int id, String description, long amountCents, Currency currency, Category category,
+            LocalDate date, Status status, Priority priority, int recurringPeriod,
+            boolean isDeleted, boolean isCompleted) {
+        this.id = id;
+        this.description = description;
+        this.amountCents = amountCents;
+        this.currency = currency;
+        this.category = category;
+        this.date = date;
+        this.status = status;
+        this.priority = priority;
+        this.tags = new ArrayList<>();
+        this.recurringPeriod = recurringPeriod;
+        this.isDeleted = isDeleted;
+        this.isCompleted = isCompleted;
+    }
+
     /**
      * Returns a CSV-style string representation of the transaction.
      *
@@ -102,7 +142,7 @@ public class Transaction {
     public String toString() {
         return id + "," +
                 description + "," +
-                amount + "," +
+                getAmount() + "," +
                 currency + "," +
                 category + "," +
                 priority + "," +
@@ -117,9 +157,19 @@ public class Transaction {
         return id;
     }
 
-    /** @return Amount of the transaction. */
+    /** @return Amount of the transaction, as a double. */
     public double getAmount() {
-        return amount;
+        return Money.toUnits(amountCents);
+    }
+
+    /** @return Exact amount of the transaction. */
+    public Money getMoney() {
+        return Money.ofCents(amountCents);
+    }
+
+    /** @return Amount of the transaction in cents. */
+    public long getAmountCents() {
+        return amountCents;
     }
 
     /** @return Description of the transaction. */
@@ -182,7 +232,9 @@ public class Transaction {
      * @param description New description.
      */
     public void setDescription(String description) {
+        notifyChanging();
         this.description = description;
+        notifyChanged();
     }
 
     /**
@@ -191,7 +243,9 @@ public class Transaction {
      * @param category New category.
      */
     public void setCategory(Category category) {
+        notifyChanging();
         this.category = category;
+        notifyChanged();
     }
 
     /**
@@ -200,16 +254,29 @@ public class Transaction {
      * @param recurringPeriod Number of days between each recurrence (0 = one-time).
      */
     public void setRecurringPeriod(int recurringPeriod) {
+        notifyChanging();
         this.recurringPeriod = recurringPeriod;
+        notifyChanged();
     }
 
     /**
-     * Sets the amount of the transaction.
+     * Sets the amount of the transaction, rounded to the nearest cent.
      * 
      * @param amount New amount.
      */
     public void setAmount(double amount) {
-        this.amount = amount;
+        setAmount(Money.of(amount));
+    }
+
+    /**
+     * Sets the amount of the transaction.
+     *
+     * @param amount New amount.
+     */
+    public void setAmount(Money amount) {
+        notifyChanging();
+        this.amountCents = amount.getCents();
+        notifyChanged();
     }
 
     /**
@@ -218,7 +285,9 @@ public class Transaction {
      * @param currency New currency.
      */
     public void setCurrency(Currency currency) {
+        notifyChanging();
         this.currency = currency;
+        notifyChanged();
     }
 
     /**
@@ -228,7 +297,9 @@ public class Transaction {
      */
     // @@author Lukapeng77
     public void setDate(LocalDate date) {
+        notifyChanging();
         this.date = date;
+        notifyChanged();
     }
 
     /**
@@ -237,7 +308,9 @@ public class Transaction {
      * @param priority New priority level.
      */
     public void setPriority(Priority priority) {
+        notifyChanging();
         this.priority = priority;
+        notifyChanged();
     }
     // @@author
 
@@ -245,22 +318,30 @@ public class Transaction {
 
     /** Marks the transaction as completed. */
     public void complete() {
+        notifyChanging();
         isCompleted = true;
+        notifyChanged();
     }
 
     /** Unmarks the transaction as completed. */
     public void notComplete() {
+        notifyChanging();
         isCompleted = false;
+        notifyChanged();
     }
 
     /** Marks the transaction as deleted. */
     public void delete() {
+        notifyChanging();
         isDeleted = true;
+        notifyChanged();
     }
 
     /** Recovers the transaction from deleted state. */
     public void recover() {
+        notifyChanging();
         isDeleted = false;
+        notifyChanged();
     }
 
     public void convertTo(Currency currency) {
@@ -268,12 +349,10 @@ public class Transaction {
             return; // No conversion needed
         }
 
-        // Step 1: Convert from original currency to SGD
-        double amountInSGD = this.amount / this.currency.getRate();
-
-        // Step 2: Convert from SGD to target currency
-        this.amount = amountInSGD * currency.getRate();
+        notifyChanging();
+        this.amountCents = RateTable.current().convertCents(amountCents, this.currency, currency);
         this.currency = currency;
+        notifyChanged();
     }
 
     public void addTag(String daily) {
@@ -291,4 +370,39 @@ public class Transaction {
     public boolean isSameTransaction(Transaction other) {
         return this.equals(other);
     }
+
+    // ======================== Change Tracking ========================
+
+    /**
+     * Sets the listener notified whenever a persisted field of this transaction changes,
+     * and the slot of the {@link TransactionStore} that tracks it.
+     *
+     * @param listener Listener to notify, or {@code null} to stop tracking.
+     * @param slot     Slot of this transaction in the store, or {@code -1} when tracking stops.
+     */
+    void setListener(TransactionListener listener, int slot) {
+        this.listener = listener;
+        this.slot = slot;
+    }
+
+    /**
+     * Returns the slot of this transaction in the store that tracks it.
+     *
+     * @return The slot, or {@code -1} if no store tracks this transaction.
+     */
+    int getSlot() {
+        return slot;
+    }
+
+    private void notifyChanging() {
+        if (listener != null) {
+            listener.onTransactionChanging(this);
+        }
+    }
+
+    private void notifyChanged() {
+        if (listener != null) {
+            listener.onTransactionChanged(this);
+        }
+    }
 }
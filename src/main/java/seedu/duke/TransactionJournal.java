@@ -0,0 +1,169 @@
+package seedu.duke;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only journal of transaction mutations that is replayed on top of the last snapshot.
+ * The journal is split into an active segment, which receives new records, and an optional
+ * compacting segment, which holds the records currently being folded into the snapshot.
+ */
+public class TransactionJournal {
+    /** Record type for an added or modified transaction, followed by the full CSV row. */
+    public static final char UPSERT = 'U';
+
+    /** Record type for a deleted transaction, followed by its id. */
+    public static final char DELETE = 'D';
+
+    /** Record type for clearing all transactions. */
+    public static final char CLEAR = 'C';
+
+    private final File activeFile;
+    private final File compactingFile;
+    private BufferedWriter writer;
+
+    /**
+     * Creates a journal stored next to the given snapshot path.
+     *
+     * @param basePath Path of the journal file without extension, e.g. {@code data/transactions}.
+     */
+    public TransactionJournal(String basePath) {
+        this.activeFile = new File(basePath + ".journal");
+        this.compactingFile = new File(basePath + ".journal.compacting");
+    }
+
+    /**
+     * Appends the given records to the active segment and flushes them to disk.
+     *
+     * @param records Encoded journal records, one per mutation.
+     * @throws IOException If the journal cannot be written.
+     */
+    public void append(List<String> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+        if (writer == null) {
+            writer = new BufferedWriter(new FileWriter(activeFile, true));
+        }
+        for (String record : records) {
+            writer.write(record);
+            writer.newLine();
+        }
+        writer.flush();
+    }
+
+    /**
+     * Returns the size of the active segment in bytes.
+     *
+     * @return Number of bytes in the active segment.
+     */
+    public long size() {
+        return activeFile.length();
+    }
+
+    /**
+     * Returns the file name of the active segment, without its folder.
+     *
+     * @return The file name.
+     */
+    public String getActiveFileName() {
+        return activeFile.getName();
+    }
+
+    /**
+     * Returns whether any journal segment exists on disk.
+     *
+     * @return {@code true} if there are records that are not yet part of the snapshot.
+     */
+    public boolean exists() {
+        return activeFile.exists() || compactingFile.exists();
+    }
+
+    /**
+     * Moves the active segment aside so that it can be compacted while new records go to a fresh segment.
+     *
+     * @return {@code true} if the segment was rotated, {@code false} if a previous segment is still pending.
+     * @throws IOException If the active segment cannot be closed or renamed.
+     */
+    public boolean rotate() throws IOException {
+        if (compactingFile.exists() || !activeFile.exists()) {
+            return false;
+        }
+        close();
+        return activeFile.renameTo(compactingFile);
+    }
+
+    /**
+     * Reads all records in replay order: the compacting segment first, then the active segment.
+     *
+     * @return The journal records.
+     * @throws IOException If a segment cannot be read.
+     */
+    public List<String> readAll() throws IOException {
+        List<String> records = readCompacting();
+        records.addAll(readFile(activeFile));
+        return records;
+    }
+
+    /**
+     * Reads the records of the compacting segment.
+     *
+     * @return The records waiting to be compacted, or an empty list if there are none.
+     * @throws IOException If the segment cannot be read.
+     */
+    public List<String> readCompacting() throws IOException {
+        return readFile(compactingFile);
+    }
+
+    /**
+     * Deletes the compacting segment once its records are part of the snapshot.
+     */
+    public void finishCompaction() {
+        compactingFile.delete();
+    }
+
+    /**
+     * Deletes all segments. Used after a full snapshot has been written.
+     *
+     * @throws IOException If the active segment cannot be closed.
+     */
+    public void reset() throws IOException {
+        close();
+        activeFile.delete();
+        compactingFile.delete();
+    }
+
+    /**
+     * Closes the writer of the active segment, if open.
+     *
+     * @throws IOException If the writer cannot be closed.
+     */
+    public void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+
+    private static List<String> readFile(File file) throws IOException {
+        List<String> records = new ArrayList<>();
+        if (!file.exists()) {
+            return records;
+        }
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    records.add(line);
+                }
+            }
+        }
+        return records;
+    }
+}
@@ -0,0 +1,22 @@
+package seedu.duke;
+
+/**
+ * Receives notifications whenever a tracked {@link Transaction} is modified.
+ * Used by {@link TransactionManager} to keep derived state such as indexes and the pending-change set
+ * in sync with transactions that are edited in place.
+ */
+public interface TransactionListener {
+    /**
+     * Called before a persisted field of the transaction changes, while it still holds its old values.
+     *
+     * @param transaction The transaction about to be modified.
+     */
+    void onTransactionChanging(Transaction transaction);
+
+    /**
+     * Called after a persisted field of the transaction has changed.
+     *
+     * @param transaction The transaction that was modified.
+     */
+    void onTransactionChanged(Transaction transaction);
+}
@@ -1,26 +1,35 @@
 package seedu.duke;
 
 import java.time.format.DateTimeParseException;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.RandomAccess;
 
 import constant.Constant;
 import enums.Category;
 import enums.Currency;
 import enums.Status;
 import exceptions.InvalidCommand;
+import metrics.BudgetCheckEvent;
 
 import seedu.duke.budget.Budget;
+import seedu.duke.index.DateIndex;
+import seedu.duke.index.IdIndex;
+import seedu.duke.index.TokenIndex;
+import seedu.duke.index.TransactionAggregates;
 import ui.Ui;
 import seedu.duke.budget.BudgetList;
 
 public class TransactionManager {
-    private ArrayList<Transaction> transactions;
+    private TransactionStore transactions;
     private Currency defaultCurrency = Currency.SGD;
     private double budgetLimit = 0;
     private boolean isBudgetSet = false;
@@ -28,15 +37,56 @@ public class TransactionManager {
     private BudgetList budgetList = new BudgetList();
 
     private Storage storage;
-    private int currentMaxId = 0;
+
+    /** Allocates ids and persists their high-water mark once per block. */
+    private IdAllocator idAllocator = new IdAllocator();
+
+    /** Transactions added or modified since the last time they were persisted, keyed by id. */
+    private final LinkedHashMap<Integer, Transaction> pendingChanges = new LinkedHashMap<>();
+    private boolean isClearPending = false;
+    private final TransactionListener changeTracker = new ChangeTracker();
+
+    /** Maps each live transaction id to its slot in {@code transactions}. */
+    private final IdIndex idIndex = new IdIndex();
+
+    /** Orders live transactions by date for range queries. */
+    private final DateIndex dateIndex = new DateIndex(this::slotOf, slot -> transactions.get(slot));
+
+    /** Maps description words of live transactions to their ids. */
+    private final TokenIndex tokenIndex = new TokenIndex();
+
+    /** Running statistics over live transactions. */
+    private final TransactionAggregates aggregates = new TransactionAggregates();
+
+    /** Read-only, date-sorted list of live transactions; {@code null} until rebuilt after a change. */
+    private List<Transaction> sortedView;
 
     public TransactionManager() {
-        transactions = new ArrayList<>();
+        transactions = new ObjectTransactionStore(changeTracker);
     }
 
     public void setStorage(Storage storage) {
         this.storage = storage;
-        this.currentMaxId = storage.loadMaxTransactionId();
+        this.idAllocator = new IdAllocator(storage.loadMaxTransactionId(), storage::saveMaxTransactionId);
+        if (storage.isColumnarStore()) {
+            useColumnarStore();
+        }
+    }
+
+    /**
+     * Moves the transactions into a {@link ColumnarTransactionStore}, which keeps them in primitive columns
+     * and only creates transaction objects while they are in use. Slots are kept, so the indexes stay valid.
+     */
+    public void useColumnarStore() {
+        if (transactions instanceof ColumnarTransactionStore) {
+            return;
+        }
+        TransactionStore columns = new ColumnarTransactionStore(changeTracker);
+        columns.ensureCapacity(transactions.size());
+        for (int slot = 0; slot < transactions.size(); slot++) {
+            columns.add(transactions.get(slot));
+        }
+        transactions = columns;
     }
 
     //@@author Lukapeng77
@@ -52,15 +102,35 @@ public class TransactionManager {
     //@@author
 
     public int getNextAvailableId() {
-        currentMaxId += 1;
-        if (storage != null) {
-            storage.saveMaxTransactionId(currentMaxId);
-        }
-        return currentMaxId;
+        return idAllocator.next();
+    }
+
+    /**
+     * Persists the exact highest id in use, releasing the rest of the reserved id block.
+     * Called when the application exits normally.
+     */
+    public void releaseReservedIds() {
+        idAllocator.release();
     }
 
     public void setBudgetList(BudgetList budgetList) {
         this.budgetList = budgetList;
+        recalculateBudgetSpending();
+    }
+
+    /**
+     * Rebuilds the spending counters of every budget from the live transactions.
+     * Needed whenever a budget is added or its category or end date changes.
+     */
+    public void recalculateBudgetSpending() {
+        for (Budget budget : budgetList.getAll()) {
+            budget.resetSpending();
+        }
+        for (int slot = 0; slot < transactions.size(); slot++) {
+            if (!transactions.isDeleted(slot)) {
+                recordBudgetSpending(transactions.get(slot), 1);
+            }
+        }
     }
 
     public void setDefaultCurrency(Currency defaultCurrency) {
@@ -68,17 +138,16 @@ public class TransactionManager {
     }
 
     public int getNum() {
-        return currentMaxId;
+        return idAllocator.getMaxId();
     }
 
+    /**
+     * Returns the number of transactions that are not marked as deleted, as kept by the date index.
+     *
+     * @return The number of listed transactions.
+     */
     public int getSize() {
-        int count = 0;
-        for (Transaction transaction : transactions) {
-            if (!transaction.isDeleted()) {
-                count++;
-            }
-        }
-        return count;
+        return dateIndex.size();
     }
 
     //@@author Lukapeng77
@@ -95,15 +164,7 @@ public class TransactionManager {
     }
 
     public double getTotalTransactionAmount() {
-        double totalAmount = 0;
-        for (Transaction transaction : transactions) {
-            if (!transaction.isDeleted()) {
-                double convertedAmount = transaction.getAmount() * 1 / transaction.getCurrency().getRate();
-                convertedAmount = Math.round(convertedAmount * 100.0) / 100.0;
-                totalAmount += convertedAmount;
-            }
-        }
-        return totalAmount;
+        return aggregates.getTotalTransactionAmount();
     }
     //@@author
 
@@ -116,14 +177,24 @@ public class TransactionManager {
      * @return This method does not return any value.
      */
     public void addTransaction(Transaction transaction) {
-        transactions.add(transaction);
-        int id = transaction.getId();
-        if (id > currentMaxId) {
-            currentMaxId = id;
-            if (storage != null) {
-                storage.saveMaxTransactionId(currentMaxId);
-            }
+        append(transaction);
+        idAllocator.observe(transaction.getId());
+    }
+
+    /**
+     * Adds several transactions at once, e.g. when loading saved data.
+     * The highest id is observed once at the end instead of once per new maximum.
+     *
+     * @param newTransactions The transactions to add, in order.
+     */
+    public void addTransactions(Collection<Transaction> newTransactions) {
+        transactions.ensureCapacity(transactions.size() + newTransactions.size());
+        int maxId = 0;
+        for (Transaction transaction : newTransactions) {
+            append(transaction);
+            maxId = Math.max(maxId, transaction.getId());
         }
+        idAllocator.observe(maxId);
     }
 
     /**
@@ -148,21 +219,18 @@ public class TransactionManager {
         transaction = new Transaction(id, description, amount, defaultCurrency, category, date, Status.PENDING);
 
         if (isBudgetSet) {
+            BudgetCheckEvent event = BudgetCheckEvent.start();
             double projectedTotal = getTotalTransactionAmount() + transaction.getAmount();
-            if (projectedTotal > budgetLimit) {
+            boolean isAllowed = projectedTotal <= budgetLimit;
+            event.finish(BudgetCheckEvent.BUDGET_LIMIT, category, amount, isAllowed);
+            if (!isAllowed) {
                 System.out.println("Cannot add new transaction! Budget limit exceeded!\n");
                 return false;
             }
         }
 
-        transactions.add(transaction);
-
-        if (id > currentMaxId) {
-            currentMaxId = id;
-            if (storage != null) {
-                storage.saveMaxTransactionId(currentMaxId);
-            }
-        }
+        append(transaction);
+        idAllocator.observe(id);
         return true;
     }
     //@@author
@@ -173,31 +241,28 @@ public class TransactionManager {
      * @return {@code true} if the transaction does not violate any applicable budget constraints, {@code false} otherwise.
      */
     public boolean isTransactionAllowedByBudget(Transaction t) {
+        BudgetCheckEvent event = BudgetCheckEvent.start();
+        boolean isAllowed = fitsCategoryBudget(t);
+        event.finish(BudgetCheckEvent.CATEGORY_BUDGET, t.getCategory(), t.getAmount(), isAllowed);
+        return isAllowed;
+    }
+
+    private boolean fitsCategoryBudget(Transaction t) {
         if (t.getAmount() >= 0) {
             return true;
         }
 
-        for (seedu.duke.budget.Budget b : budgetList.getAll()) {
-            if (b.getCategory() == t.getCategory()) {
-                if (t.getDate().isAfter(b.getEndDate())) {
-                    return true;
-                }
-
-                double spent = 0;
-                for (Transaction existing : getTransactions()) {
-                    if (!existing.isDeleted() && existing.getCategory() == t.getCategory() && existing.getAmount() < 0
-                            && !existing.getDate().isAfter(b.getEndDate())) {
-                        spent += existing.getCurrency().convertTo(-existing.getAmount(), Currency.SGD);
-                    }
-                }
-
-                double newAmountSGD = t.getCurrency().convertTo(-t.getAmount(), Currency.SGD);
-
-                return spent + newAmountSGD <= b.getTotalAmount();
-            }
+        Budget budget = budgetList.findByCategory(t.getCategory());
+        if (budget == null || t.getDate() == null || t.getDate().isAfter(budget.getEndDate())) {
+            return true;
         }
 
-        return true;
+        Money committed = budget.getCommitted();
+        if (!isTracked(t)) {
+            committed = committed.plus(
+                    RateTable.current().convert(t.getMoney().negate(), t.getCurrency(), Currency.SGD));
+        }
+        return committed.compareTo(budget.getTotal()) <= 0;
     }
 
     /**
@@ -206,28 +271,78 @@ public class TransactionManager {
      * @return A sorted list of non-deleted transactions.
      */
     public ArrayList<Transaction> getTransactions() {
-        ArrayList<Transaction> existTransactions = new ArrayList<>();
-        for (Transaction transaction : transactions) {
-            if (!transaction.isDeleted()) {
-                existTransactions.add(transaction);
-            }
+        return new ArrayList<>(getTransactionView());
+    }
+
+    /**
+     * Returns a read-only, date-sorted snapshot of the transactions that are not marked as deleted.
+     * The snapshot is cached and only rebuilt after a transaction is added, deleted or moved to another date,
+     * so repeated calls between changes are constant time.
+     *
+     * @return An unmodifiable sorted list of non-deleted transactions.
+     */
+    public List<Transaction> getTransactionView() {
+        if (sortedView == null) {
+            sortedView = new SlotView(dateIndex.toSlots());
+        }
+        return sortedView;
+    }
+
+    /**
+     * Returns one page of the transactions that are not marked as deleted, in date order.
+     * The page is read from the date index directly, skipping whole days before it, so the cost depends
+     * on the page size and the number of distinct dates rather than on the number of transactions.
+     *
+     * @param page The page number, starting at 1.
+     * @param size The number of transactions per page.
+     * @return The transactions on the page, empty if the page is past the end.
+     */
+    public List<Transaction> getTransactionPage(int page, int size) {
+        assert page >= 1 && size >= 1 : "Page and size should be positive";
+        List<Transaction> result = new ArrayList<>(Math.min(size, dateIndex.size()));
+        DateIndex.Cursor cursor = dateIndex.cursor();
+        long offset = (long) (page - 1) * size;
+        if (offset >= dateIndex.size() || cursor.skip((int) offset) < offset) {
+            return result;
+        }
+        while (result.size() < size && cursor.hasNext()) {
+            result.add(cursor.next());
+        }
+        return result;
+    }
+
+    /**
+     * Read-only list of the transactions in the given slots, fetched from the store only when accessed.
+     */
+    private class SlotView extends AbstractList<Transaction> implements RandomAccess {
+        private final int[] slots;
+
+        private SlotView(int[] slots) {
+            this.slots = slots;
+        }
+
+        @Override
+        public Transaction get(int index) {
+            return transactions.get(slots[index]);
+        }
+
+        @Override
+        public int size() {
+            return slots.length;
         }
-        sortTransactions(existTransactions);
-        return existTransactions;
     }
 
     //@@author Lukapeng77
     /**
      * Returns a list of transactions that occur between the given start and end dates (inclusive).
+     * Deleted transactions are excluded.
      *
      * @param start The start date.
      * @param end The end date.
      * @return A list of transactions within the specified date range.
      */
     public ArrayList<Transaction> getTransactionsBetween(LocalDate start, LocalDate end) {
-        return (ArrayList<Transaction>) transactions.stream()
-                .filter(t -> !t.getDate().isBefore(start) && !t.getDate().isAfter(end))
-                .collect(Collectors.toList());
+        return dateIndex.between(start, end);
     }
 
     /**
@@ -272,11 +387,154 @@ public class TransactionManager {
      */
     public void clear() {
         transactions.clear();
-        currentMaxId = 0;
-        storage.saveMaxTransactionId(currentMaxId);
+        idIndex.clear();
+        dateIndex.clear();
+        tokenIndex.clear();
+        aggregates.clear();
+        sortedView = null;
+        pendingChanges.clear();
+        isClearPending = true;
+        idAllocator.reset();
         budgetList.clear();
     }
 
+    // ================= CHANGE TRACKING =================
+
+    /**
+     * Appends a transaction to the list, indexes it and starts tracking its changes.
+     *
+     * @param transaction The newly added transaction.
+     */
+    private void append(Transaction transaction) {
+        if (!transaction.isDeleted()) {
+            // First, so that an amount overflowing the totals is rejected before anything else is changed.
+            aggregates.add(transaction);
+        }
+        int slot = transactions.size();
+        transactions.add(transaction);
+        if (!transaction.isDeleted()) {
+            idIndex.putIfAbsent(transaction.getId(), slot);
+            dateIndex.add(transaction);
+            tokenIndex.add(transaction.getId(), transaction.getDescription());
+            recordBudgetSpending(transaction, 1);
+            sortedView = null;
+        }
+        pendingChanges.put(transaction.getId(), transaction);
+    }
+
+    /**
+     * Adds or removes the contribution of a transaction to the budget of its category.
+     */
+    private void recordBudgetSpending(Transaction transaction, int sign) {
+        Budget budget = budgetList.findByCategory(transaction.getCategory());
+        if (budget != null) {
+            budget.record(transaction, sign);
+        }
+    }
+
+    /**
+     * Returns whether the given transaction is already part of this manager and counted by its budgets.
+     */
+    private boolean isTracked(Transaction transaction) {
+        return searchTransaction(transaction.getId()) == transaction;
+    }
+
+    /**
+     * Returns the slot of the given transaction in {@code transactions}, which the transaction keeps itself.
+     */
+    private int slotOf(Transaction transaction) {
+        return transactions.indexOf(transaction);
+    }
+
+    /**
+     * Keeps the indexes and the pending-change set in sync with transactions edited in place.
+     */
+    private class ChangeTracker implements TransactionListener {
+        private LocalDate dateBeforeChange;
+        private String descriptionBeforeChange;
+        private boolean wasDeleted;
+
+        @Override
+        public void onTransactionChanging(Transaction transaction) {
+            dateBeforeChange = transaction.getDate();
+            descriptionBeforeChange = transaction.getDescription();
+            wasDeleted = transaction.isDeleted();
+            aggregates.remove(transaction);
+            recordBudgetSpending(transaction, -1);
+        }
+
+        @Override
+        public void onTransactionChanged(Transaction transaction) {
+            transactions.update(slotOf(transaction), transaction);
+            pendingChanges.put(transaction.getId(), transaction);
+            aggregates.add(transaction);
+            recordBudgetSpending(transaction, 1);
+            boolean isDeleted = transaction.isDeleted();
+            updateTokens(transaction, isDeleted);
+            if (!wasDeleted && !isDeleted && Objects.equals(dateBeforeChange, transaction.getDate())) {
+                return;
+            }
+
+            if (!wasDeleted) {
+                dateIndex.remove(transaction, dateBeforeChange);
+            }
+            int id = transaction.getId();
+            if (isDeleted) {
+                int slot = idIndex.get(id);
+                if (slot >= 0 && transactions.get(slot) == transaction) {
+                    idIndex.remove(id);
+                }
+            } else {
+                if (!idIndex.contains(id)) {
+                    idIndex.putIfAbsent(id, slotOf(transaction));
+                }
+                dateIndex.add(transaction);
+            }
+            sortedView = null;
+        }
+
+        private void updateTokens(Transaction transaction, boolean isDeleted) {
+            String description = transaction.getDescription();
+            if (wasDeleted == isDeleted && Objects.equals(descriptionBeforeChange, description)) {
+                return;
+            }
+            if (!wasDeleted) {
+                tokenIndex.remove(transaction.getId(), descriptionBeforeChange);
+            }
+            if (!isDeleted) {
+                tokenIndex.add(transaction.getId(), description);
+            }
+        }
+    }
+
+    /**
+     * Returns the transactions added or modified since the last call to {@link #markPersisted()},
+     * in the order they were first changed. Deleted transactions are included so that the
+     * deletion itself can be persisted.
+     *
+     * @return The pending changes.
+     */
+    public Collection<Transaction> getPendingChanges() {
+        return pendingChanges.values();
+    }
+
+    /**
+     * Returns whether {@link #clear()} was called since the last call to {@link #markPersisted()}.
+     *
+     * @return {@code true} if all transactions were cleared and the clear is not yet persisted.
+     */
+    public boolean isClearPending() {
+        return isClearPending;
+    }
+
+    /**
+     * Marks all pending changes as persisted.
+     */
+    public void markPersisted() {
+        pendingChanges.clear();
+        isClearPending = false;
+    }
+
     /**
      * Searches for a transaction by its unique ID.
      *
@@ -285,12 +543,11 @@ public class TransactionManager {
      * or {@code null} if no such transaction is found
      */
     public Transaction searchTransaction(int id) {
-        for (Transaction transaction : transactions) {
-            if (transaction.getId() == id && !transaction.isDeleted()) {
-                return transaction;
-            }
+        int slot = idIndex.get(id);
+        if (slot < 0) {
+            return null;
         }
-        return null;
+        return transactions.isDeleted(slot) ? null : transactions.get(slot);
     }
 
 
@@ -298,6 +555,9 @@ public class TransactionManager {
 
     /**
      * Searches the transaction list based on index or keyword.
+     * Keyword searches match whole description words, ignoring case; every word of the search term must match,
+     * and a word ending in {@code *} matches any word starting with it. Terms without any word fall back to
+     * a substring scan.
      *
      * @param isIndex    True if searching by index; false if searching by keyword.
      * @param searchTerm The search term or index string.
@@ -308,17 +568,21 @@ public class TransactionManager {
         try {
             ArrayList<Transaction> result = new ArrayList<>();
             if (isIndex) {
-                int id = Integer.parseInt(searchTerm);
-                for (Transaction t : transactions) {
-                    if (t.getId() == id && !t.isDeleted()) {
+                Transaction t = searchTransaction(Integer.parseInt(searchTerm));
+                if (t != null) {
+                    result.add(t);
+                }
+            } else if (TokenIndex.isSearchable(searchTerm)) {
+                for (int id : tokenIndex.search(searchTerm)) {
+                    Transaction t = searchTransaction(id);
+                    if (t != null) {
                         result.add(t);
-                        break;
                     }
                 }
             } else {
-                for (Transaction t : transactions) {
-                    if (!t.isDeleted() && t.getDescription().contains(searchTerm)) {
-                        result.add(t);
+                for (int slot = 0; slot < transactions.size(); slot++) {
+                    if (!transactions.isDeleted(slot) && transactions.getDescription(slot).contains(searchTerm)) {
+                        result.add(transactions.get(slot));
                     }
                 }
             }
@@ -330,6 +594,23 @@ public class TransactionManager {
         }
     }
 
+    /**
+     * Searches transaction descriptions while tolerating typos, best matches first.
+     *
+     * @param searchTerm The words to look for; see {@link TokenIndex#fuzzySearch(String)}.
+     * @return The matching transactions, ranked by how closely they match.
+     */
+    public ArrayList<Transaction> fuzzySearchTransactionList(String searchTerm) {
+        ArrayList<Transaction> result = new ArrayList<>();
+        for (int id : tokenIndex.fuzzySearch(searchTerm)) {
+            Transaction t = searchTransaction(id);
+            if (t != null) {
+                result.add(t);
+            }
+        }
+        return result;
+    }
+
     /**
      * Retrieves a list of upcoming recurring transactions.
      *
@@ -337,9 +618,9 @@ public class TransactionManager {
      */
     public ArrayList<Transaction> getRecurringTransactions() {
         ArrayList<Transaction> upcoming = new ArrayList<>();
-        for (Transaction t : transactions) {
-            if (!t.isDeleted() && t.getRecurringPeriod() > 0) {
-                upcoming.add(t);
+        for (int slot = 0; slot < transactions.size(); slot++) {
+            if (!transactions.isDeleted(slot) && transactions.getRecurringPeriod(slot) > 0) {
+                upcoming.add(transactions.get(slot));
             }
         }
         return sortRecurringTransactions(upcoming);
@@ -393,9 +674,9 @@ public class TransactionManager {
             }
 
             Category cat = Category.valueOf(category);
-            for (Transaction t : transactions) {
-                if (t.getDescription().equals(description) && t.getCategory() == cat) {
-                    t.setDate(date);
+            for (int slot = 0; slot < transactions.size(); slot++) {
+                if (transactions.getDescription(slot).equals(description) && transactions.getCategory(slot) == cat) {
+                    transactions.get(slot).setDate(date);
                 }
             }
         } catch (DateTimeParseException e) {
@@ -479,13 +760,7 @@ public class TransactionManager {
      * @return A list of transactions that match the given date.
      */
     public ArrayList<Transaction> getTransactionsOnDate(LocalDate date) {
-        ArrayList<Transaction> result = new ArrayList<>();
-        for (Transaction t : getTransactions()) {
-            if (t.getDate() != null && t.getDate().equals(date)) {
-                result.add(t);
-            }
-        }
-        return result;
+        return dateIndex.on(date);
     }
 
     /**
@@ -494,16 +769,8 @@ public class TransactionManager {
      * @return A list of transactions from the current month.
      */
     public ArrayList<Transaction> getTransactionsThisMonth() {
-        ArrayList<Transaction> result = new ArrayList<>();
         LocalDate now = LocalDate.now();
-        for (Transaction t : getTransactions()) {
-            if (t.getDate() != null &&
-                    t.getDate().getMonthValue() == now.getMonthValue() &&
-                    t.getDate().getYear() == now.getYear()) {
-                result.add(t);
-            }
-        }
-        return result;
+        return dateIndex.between(now.withDayOfMonth(1), now.withDayOfMonth(now.lengthOfMonth()));
     }
 
     /**
@@ -513,16 +780,7 @@ public class TransactionManager {
      */
     public ArrayList<Transaction> getTransactionsThisWeek() {
         LocalDate today = LocalDate.now();
-        LocalDate nextWeek = today.plusDays(7);
-        ArrayList<Transaction> result = new ArrayList<>();
-        for (Transaction t : getTransactions()) {
-            if (t.getDate() != null &&
-                    !t.getDate().isBefore(today) &&
-                    !t.getDate().isAfter(nextWeek)) {
-                result.add(t);
-            }
-        }
-        return result;
+        return dateIndex.between(today, today.plusDays(7));
     }
 
     /**
@@ -558,10 +816,10 @@ public class TransactionManager {
      * @throws Exception If the value is invalid or ID is not found.
      */
     public void editInfo(int id, String value, int type) throws Exception {
-        if (checkIdEmpty(id)) {
+        Transaction t = searchTransaction(id);
+        if (t == null) {
             throw new InvalidCommand(Constant.INVALID_TRANSACTION_ID);
         }
-        Transaction t = searchTransaction(id);
 
         switch (type) {
         case 0:
@@ -592,10 +850,7 @@ public class TransactionManager {
      * @return True if the transaction does not exist, false otherwise.
      */
     public boolean checkIdEmpty(int id) {
-        if (searchTransaction(id) == null) {
-            return true;
-        }
-        return false;
+        return searchTransaction(id) == null;
     }
 
     /**
@@ -614,8 +869,9 @@ public class TransactionManager {
      */
     public double getRecurringAmount() {
         double sum = 0;
-        for (Transaction t : transactions) {
-            if (!t.isDeleted() && t.getRecurringPeriod() > 0) {
+        for (int slot = 0; slot < transactions.size(); slot++) {
+            if (!transactions.isDeleted(slot) && transactions.getRecurringPeriod(slot) > 0) {
+                Transaction t = transactions.get(slot);
                 long days = ChronoUnit.DAYS.between(t.getDate(), LocalDate.now());
                 sum += t.getAmount() * ((double) days / t.getRecurringPeriod() + 1);
             }
@@ -629,13 +885,7 @@ public class TransactionManager {
      * @return The total amount from normal transactions.
      */
     public double getNormalAmount() {
-        double sum = 0;
-        for (Transaction t : transactions) {
-            if (!t.isDeleted() && t.getRecurringPeriod() <= 0) {
-                sum += t.getAmount();
-            }
-        }
-        return sum;
+        return aggregates.getNormalAmount();
     }
 
     //@@author
@@ -644,64 +894,33 @@ public class TransactionManager {
     }
 
     public Map<Category, Double> getCompletedAmountPerCategory() {
-        Map<Category, Double> result = new HashMap<>();
-        for (Transaction t : transactions) {
-            if (!t.isDeleted() && t.isCompleted()) {
-                double amt = t.getCurrency().convertTo(t.getAmount(), Currency.SGD);
-                result.put(t.getCategory(), result.getOrDefault(t.getCategory(), 0.0) + amt);
-            }
-        }
-        return result;
+        return aggregates.getCompletedAmountPerCategory();
     }
 
     public int[] getCompletionStats() {
-        int complete = 0, incomplete = 0;
-        for (Transaction t : transactions) {
-            if (!t.isDeleted()) {
-                if (t.isCompleted()) complete++;
-                else incomplete++;
-            }
-        }
-        return new int[]{complete, incomplete};
+        return aggregates.getCompletionStats();
     }
 
     public double getCurrentBalanceInSGD() {
-        double balance = 0;
-        for (Transaction t : transactions) {
-            if (!t.isDeleted() && t.isCompleted()) {
-                double amountInSGD = t.getCurrency().convertTo(t.getAmount(), Currency.SGD);
-                balance += amountInSGD;
-            }
-        }
-        return balance;
+        return aggregates.getCurrentBalanceInSGD();
     }
 
     public void checkBudgetOverspending(Transaction t) {
         if (!t.isCompleted()) return;
         if (t.getAmount() >= 0) return;
 
-        for (Budget budget : budgetList.getAll()) {
-            if (budget.getCategory() != t.getCategory()) {
-                continue;
-            }
-
-            if (t.getDate() != null && !t.getDate().isBefore(budget.getEndDate())) {
-                return;
-            }
-
-            double totalSpent = budget.calculateSpentAmount(getTransactions());
-
-            double remaining = budget.getTotalAmount() - totalSpent;
-
-            if (Math.abs(t.getAmount()) > remaining) {
-                double overspent = Math.abs(t.getAmount()) - remaining;
-                System.out.printf("Warning: You have overspent your budget '%s' by $%.2f%n",
-                        budget.getName(), overspent);
-            }
-
+        Budget budget = budgetList.findByCategory(t.getCategory());
+        if (budget == null || !budget.covers(t)) {
             return;
         }
-    }
-
 
+        Money spent = budget.getSpent();
+        if (!isTracked(t)) {
+            spent = spent.plus(RateTable.current().convert(t.getMoney().negate(), t.getCurrency(), Currency.SGD));
+        }
+        if (spent.compareTo(budget.getTotal()) > 0) {
+            System.out.printf("Warning: You have overspent your budget '%s' by $%s%n",
+                    budget.getName(), spent.minus(budget.getTotal()));
+        }
+    }
 }
@@ -0,0 +1,103 @@
+package seedu.duke;
+
+import enums.Category;
+
+/**
+ * Backing store of the transactions held by a {@link TransactionManager}, addressed by slot.
+ * Slots are assigned in insertion order and never change until the store is cleared.
+ * Each stored transaction reports its edits to the listener given to the store, and the manager
+ * hands every edited transaction back through {@link #update(int, Transaction)}.
+ * The per-slot getters let scans read single fields without obtaining the whole transaction.
+ */
+public interface TransactionStore {
+    /**
+     * Returns the number of stored transactions, including deleted ones.
+     *
+     * @return The number of slots in use.
+     */
+    int size();
+
+    /**
+     * Appends a transaction in the next free slot and starts reporting its edits.
+     *
+     * @param transaction The transaction to store.
+     */
+    void add(Transaction transaction);
+
+    /**
+     * Returns the transaction in the given slot. Repeated calls return the same object for as long
+     * as the caller keeps a reference to it.
+     *
+     * @param slot The slot to read.
+     * @return The transaction in that slot.
+     */
+    Transaction get(int slot);
+
+    /**
+     * Records the current state of a transaction that was edited in place.
+     *
+     * @param slot        The slot of the transaction.
+     * @param transaction The edited transaction.
+     */
+    void update(int slot, Transaction transaction);
+
+    /**
+     * Returns the slot of the given transaction, as recorded on it when the store started tracking it.
+     *
+     * @param transaction The transaction to look for.
+     * @return Its slot, or {@code -1} if it is not stored here.
+     */
+    int indexOf(Transaction transaction);
+
+    /**
+     * Returns the id of the transaction in the given slot.
+     *
+     * @param slot The slot to read.
+     * @return The transaction id.
+     */
+    int getId(int slot);
+
+    /**
+     * Returns whether the transaction in the given slot is marked as deleted.
+     *
+     * @param slot The slot to read.
+     * @return {@code true} if it is deleted.
+     */
+    boolean isDeleted(int slot);
+
+    /**
+     * Returns the description of the transaction in the given slot.
+     *
+     * @param slot The slot to read.
+     * @return The description.
+     */
+    String getDescription(int slot);
+
+    /**
+     * Returns the category of the transaction in the given slot.
+     *
+     * @param slot The slot to read.
+     * @return The category, or {@code null} if it has none.
+     */
+    Category getCategory(int slot);
+
+    /**
+     * Returns the recurrence period of the transaction in the given slot.
+     *
+     * @param slot The slot to read.
+     * @return The number of days between recurrences, or 0 if it does not recur.
+     */
+    int getRecurringPeriod(int slot);
+
+    /**
+     * Makes room for at least the given number of transactions.
+     *
+     * @param capacity The number of transactions expected.
+     */
+    void ensureCapacity(int capacity);
+
+    /**
+     * Removes all transactions and stops reporting their edits.
+     */
+    void clear();
+}
@@ -1,21 +1,32 @@
 package seedu.duke.budget;
 
 import enums.Category;
-import enums.Currency;
+import seedu.duke.HistoricalRates;
+import seedu.duke.Money;
 import seedu.duke.Transaction;
+import seedu.duke.index.CurrencyDayTotals;
 
 import java.time.LocalDate;
-import java.util.List;
 
 public class Budget {
     private String name;
-    private double totalAmount;
+    private long totalCents;
     private LocalDate endDate;
     private Category category;
 
+    /**
+     * Completed expenses of the category whatever their date, as exact cents per original currency and day,
+     * so that they are converted at the rate of their day like the balance and statistics.
+     */
+    private final CurrencyDayTotals usedCents = new CurrencyDayTotals();
+
+    /** Expenses counted towards this budget, as exact cents per original currency and day. */
+    private final CurrencyDayTotals spentCents = new CurrencyDayTotals();
+    private final CurrencyDayTotals committedCents = new CurrencyDayTotals();
+
     public Budget(String name, double totalAmount, LocalDate endDate, Category category) {
         this.name = name;
-        this.totalAmount = totalAmount;
+        this.totalCents = Money.toCents(totalAmount);
         this.endDate = endDate;
         this.category = category;
     }
@@ -25,7 +36,11 @@ public class Budget {
     }
 
     public double getTotalAmount() {
-        return totalAmount;
+        return Money.toUnits(totalCents);
+    }
+
+    public Money getTotal() {
+        return Money.ofCents(totalCents);
     }
 
     public LocalDate getEndDate() {
@@ -37,7 +52,7 @@ public class Budget {
     }
 
     public void addAmount(double amount) {
-        this.totalAmount += amount;
+        this.totalCents += Money.toCents(amount);
     }
 
     public void setName(String name) {
@@ -45,7 +60,7 @@ public class Budget {
     }
 
     public void setTotalAmount(double totalAmount) {
-        this.totalAmount = totalAmount;
+        this.totalCents = Money.toCents(totalAmount);
     }
 
     public void setEndDate(LocalDate endDate) {
@@ -56,41 +71,110 @@ public class Budget {
         this.category = category;
     }
 
-    public double calculateRemaining(List<Transaction> transactions) {
-        double spent = 0;
-        for (Transaction t : transactions) {
-            if (t.getCategory() == this.category &&
-                    t.getAmount() < 0 &&
-                    t.isCompleted()) {
-                double amountInSGD = t.getCurrency().convertTo(-t.getAmount(), Currency.SGD);
-                spent += amountInSGD;
-            }
-        }
-        return totalAmount - spent;
+    /**
+     * Returns the budget left after every completed expense of the category, including expenses dated after
+     * the end date or without a date.
+     *
+     * @return The total amount minus the completed expenses of the category, in SGD.
+     */
+    public double calculateRemaining() {
+        return Money.toUnits(totalCents - usedCents.toSgdCents(HistoricalRates.current()));
+    }
+
+    /**
+     * Returns the completed expenses counted towards this budget, in SGD.
+     *
+     * @return The spent amount.
+     */
+    public double getSpentAmount() {
+        return getSpent().toDouble();
     }
 
+    /**
+     * Returns the completed expenses counted towards this budget, in SGD, rounded to cents once per currency
+     * and day.
+     *
+     * @return The exact spent amount.
+     */
+    public Money getSpent() {
+        return Money.ofCents(spentCents.toSgdCents(HistoricalRates.current()));
+    }
+
+    /**
+     * Returns the completed and pending expenses counted towards this budget, in SGD.
+     *
+     * @return The committed amount.
+     */
+    public double getCommittedAmount() {
+        return getCommitted().toDouble();
+    }
 
+    /**
+     * Returns the completed and pending expenses counted towards this budget, in SGD,
+     * rounded to cents once per currency and day.
+     *
+     * @return The exact committed amount.
+     */
+    public Money getCommitted() {
+        return Money.ofCents(committedCents.toSgdCents(HistoricalRates.current()));
+    }
+
+    /**
+     * Returns whether an expense counts towards this budget, regardless of whether it is completed.
+     *
+     * @param t The transaction to check.
+     * @return {@code true} if the transaction is a live expense of this category dated on or before the end date.
+     */
+    public boolean covers(Transaction t) {
+        return isExpenseOfCategory(t)
+                && t.getDate() != null
+                && !t.getDate().isAfter(endDate);
+    }
+
+    private boolean isExpenseOfCategory(Transaction t) {
+        return !t.isDeleted()
+                && t.getCategory() == category
+                && t.getAmount() < 0;
+    }
+
+    /**
+     * Adds or removes the contribution of a transaction to the spending counters.
+     *
+     * @param t    The transaction.
+     * @param sign {@code 1} to add the transaction, {@code -1} to remove it.
+     */
+    public void record(Transaction t, int sign) {
+        if (!isExpenseOfCategory(t)) {
+            return;
+        }
+        int epochDay = t.getDate() == null ? HistoricalRates.LATEST : (int) t.getDate().toEpochDay();
+        long cents = -sign * t.getAmountCents();
+        if (t.isCompleted()) {
+            usedCents.add(t.getCurrency(), epochDay, cents);
+        }
+        if (!covers(t)) {
+            return;
+        }
+        committedCents.add(t.getCurrency(), epochDay, cents);
+        if (t.isCompleted()) {
+            spentCents.add(t.getCurrency(), epochDay, cents);
+        }
+    }
+
+    /**
+     * Resets the spending counters to zero.
+     */
+    public void resetSpending() {
+        usedCents.clear();
+        spentCents.clear();
+        committedCents.clear();
+    }
 
     @Override
     public String toString() {
         return String.format(
                 "Budget: %s\nCategory: %s\nEnd Date: %s\nTotal: $%.2f",
-                name, category, endDate, totalAmount
+                name, category, endDate, getTotalAmount()
         );
     }
-
-    public double calculateSpentAmount(List<Transaction> transactions) {
-        double total = 0;
-        for (Transaction t : transactions) {
-            if (!t.isDeleted() && t.isCompleted() &&
-                    t.getCategory() == this.category &&
-                    t.getAmount() < 0 &&
-                    t.getDate() != null &&
-                    t.getDate().isBefore(endDate)) {
-                total += Math.abs(t.getAmount());
-            }
-        }
-        return total;
-    }
-
 }
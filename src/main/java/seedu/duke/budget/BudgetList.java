@@ -3,6 +3,7 @@ package seedu.duke.budget;
 import java.util.ArrayList;
 import java.util.List;
 
+import enums.Category;
 import seedu.duke.Transaction;
 import ui.Ui;
 import ui.ConsoleFormatter;
@@ -43,14 +44,29 @@ public class BudgetList {
         budgets.clear();
     }
 
-    public void printBudgetDetail(int index, Ui ui, List<Transaction> transactions) {
+    /**
+     * Returns the budget of the given category. There is at most one budget per category.
+     *
+     * @param category The category to look up.
+     * @return The budget, or {@code null} if the category has no budget.
+     */
+    public Budget findByCategory(Category category) {
+        for (Budget budget : budgets) {
+            if (budget.getCategory() == category) {
+                return budget;
+            }
+        }
+        return null;
+    }
+
+    public void printBudgetDetail(int index, Ui ui) {
         if (index < 0 || index >= budgets.size()) {
             ui.showError("Invalid budget index.");
             return;
         }
 
         Budget b = budgets.get(index);
-        double remaining = b.calculateRemaining(transactions);
+        double remaining = b.calculateRemaining();
 
         ConsoleFormatter.printLine();
         ConsoleFormatter.printLeftAlignedLine("🔍 Budget Details:");
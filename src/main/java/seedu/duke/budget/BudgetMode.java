@@ -1,6 +1,8 @@
 package seedu.duke.budget;
 
 import enums.Category;
+import metrics.CommandExecuteEvent;
+import metrics.CommandLatencies;
 import seedu.duke.TransactionManager;
 import ui.Ui;
 import ui.ConsoleFormatter;
@@ -8,11 +10,16 @@ import seedu.duke.Storage;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
-import java.util.Scanner;
+import java.util.Set;
+
+import static constant.Constant.UNKNOWN_COMMAND;
 
 public class BudgetMode {
+    /** Commands of budget mode, timed under their own names; other input is timed as unknown. */
+    private static final Set<String> COMMANDS =
+            Set.of("help", "set", "list", "check", "add", "deduct", "modify", "delete");
+
     public static void enter(Ui ui, BudgetList budgetList, TransactionManager transactions, Storage storage) {
-        Scanner scanner = new Scanner(System.in);
         ConsoleFormatter.printLine();
         System.out.println("You're now in Budget Mode!");
         System.out.println("Type 'help' to see budget commands. Type 'exit' to return.");
@@ -20,7 +27,7 @@ public class BudgetMode {
 
         while (true) {
             System.out.print("budget> ");
-            String input = scanner.nextLine().trim();
+            String input = ui.readLine().trim();
 
             if (input.equalsIgnoreCase("exit")) {
                 ConsoleFormatter.printLine();
@@ -44,7 +51,21 @@ public class BudgetMode {
         }
         String[] parts = input.split(" ", 2);
         String command = parts[0].toLowerCase();
+        long start = CommandLatencies.start();
+        CommandExecuteEvent event = CommandExecuteEvent.start();
+        boolean isFailed = true;
+        try {
+            runBudgetCommand(command, parts, ui, list, transactions, storage);
+            isFailed = false;
+        } finally {
+            String name = "budget " + (COMMANDS.contains(command) ? command : UNKNOWN_COMMAND);
+            CommandLatencies.record(name, start);
+            event.finish(name, isFailed);
+        }
+    }
 
+    private static void runBudgetCommand(String command, String[] parts, Ui ui, BudgetList list,
+                                         TransactionManager transactions, Storage storage) throws Exception {
         switch (command) {
             case "help":
                 printHelp();
@@ -53,7 +74,7 @@ public class BudgetMode {
                 handleSetBudget(ui, list, storage, transactions);
                 break;
             case "list":
-                list.printAllBudgets(ui, transactions.getTransactions());
+                list.printAllBudgets(ui, transactions.getTransactionView());
                 break;
             case "check":
                 handleCheckBudget(parts, ui, list, transactions);
@@ -77,10 +98,9 @@ public class BudgetMode {
 
     private static void handleSetBudget(Ui ui, BudgetList list, Storage storage,
                                         TransactionManager transactions) {
-        Scanner scanner = new Scanner(System.in);
         ConsoleFormatter.printLine();
         System.out.println("Enter budget name (or 'cancel' to abort):");
-        String name = scanner.nextLine().trim();
+        String name = ui.readLine().trim();
         if (name.equalsIgnoreCase("cancel")) {
             return;
         }
@@ -88,7 +108,7 @@ public class BudgetMode {
         double totalAmount;
         while (true) {
             System.out.println("Enter total amount (or 'cancel'):");
-            String input = scanner.nextLine().trim();
+            String input = ui.readLine().trim();
             if (input.equalsIgnoreCase("cancel")) {
                 return;
             }
@@ -106,7 +126,7 @@ public class BudgetMode {
         LocalDate endDate;
         while (true) {
             System.out.println("Enter end date (yyyy-MM-dd) or 'cancel':");
-            String dateStr = scanner.nextLine().trim();
+            String dateStr = ui.readLine().trim();
             if (dateStr.equalsIgnoreCase("cancel")) {
                 return;
             }
@@ -126,7 +146,7 @@ public class BudgetMode {
                 ConsoleFormatter.printfLeft("%d. %s%n", i + 1, categories[i]);
             }
             System.out.print("Enter number (or 'cancel'): ");
-            String choice = scanner.nextLine().trim();
+            String choice = ui.readLine().trim();
             if (choice.equalsIgnoreCase("cancel")) {
                 return;
             }
@@ -143,7 +163,8 @@ public class BudgetMode {
 
         Budget budget = new Budget(name, totalAmount, endDate, category);
         list.add(budget);
-        storage.saveBudgets(list, transactions.getTransactions());
+        transactions.recalculateBudgetSpending();
+        storage.saveBudgets(list);
         System.out.println("Budget added successfully.");
         ConsoleFormatter.printLine();
     }
@@ -154,7 +175,7 @@ public class BudgetMode {
             throw new Exception("Usage: check i/INDEX");
         }
         int index = Integer.parseInt(parts[1].substring(2).trim()) - 1;
-        list.printBudgetDetail(index, ui, transactions.getTransactions());
+        list.printBudgetDetail(index, ui);
     }
 
     private static void handleAddAmount(String[] parts, BudgetList list, Storage storage,
@@ -166,7 +187,7 @@ public class BudgetMode {
         int index = Integer.parseInt(tokens[0].substring(2)) - 1;
         double amount = Double.parseDouble(tokens[1].substring(2));
         list.get(index).addAmount(amount);
-        storage.saveBudgets(list, transactions.getTransactions());
+        storage.saveBudgets(list);
         ConsoleFormatter.printLine();
         System.out.println("✅ Added $" + amount + " to budget #" + (index + 1));
         ConsoleFormatter.printLine();
@@ -204,6 +225,11 @@ public class BudgetMode {
         }
 
         Budget b = list.get(index);
+        Budget clashing = category == null ? null : list.findByCategory(category);
+        if (clashing != null && clashing != b) {
+            throw new Exception("❌ Category " + category + " already has a budget: " + clashing.getName()
+                    + ". Delete it first or modify that budget instead.");
+        }
         if (name != null) {
             b.setName(name);
         }
@@ -216,11 +242,14 @@ public class BudgetMode {
         if (category != null) {
             b.setCategory(category);
         }
+        if (endDate != null || category != null) {
+            transactions.recalculateBudgetSpending();
+        }
 
-        storage.saveBudgets(list, transactions.getTransactions());
+        storage.saveBudgets(list);
         ConsoleFormatter.printLine();
         System.out.println("✅ Budget modified successfully.");
-        list.printBudgetDetail(index, ui, transactions.getTransactions());
+        list.printBudgetDetail(index, ui);
     }
 
     private static void handleDelete(String[] parts, BudgetList list, Storage storage,
@@ -234,7 +263,7 @@ public class BudgetMode {
         }
         Budget removed = list.get(index);
         list.remove(index);
-        storage.saveBudgets(list, transactions.getTransactions());
+        storage.saveBudgets(list);
         ConsoleFormatter.printLine();
         System.out.println("🗑️ Deleted budget: " + removed.getName());
         ConsoleFormatter.printLine();
@@ -0,0 +1,140 @@
+package seedu.duke.index;
+
+import java.util.Arrays;
+
+import enums.Currency;
+import seedu.duke.HistoricalRates;
+
+/**
+ * Exact sums of cents keyed by currency and day, so that a total can be converted at the rate of each day
+ * while costing one conversion per distinct currency and day rather than one per transaction.
+ * Keys are kept in an open-addressing table of packed longs; a key whose sum returns to zero keeps its slot
+ * until the table is cleared, which is bounded by the number of distinct days.
+ */
+public class CurrencyDayTotals {
+    private static final Currency[] CURRENCIES = Currency.values();
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] keys = newKeys(INITIAL_CAPACITY);
+    private long[] cents = new long[INITIAL_CAPACITY];
+    private int used;
+
+    /**
+     * Adds an amount to the sum of its currency and day.
+     *
+     * @param currency The currency of the amount.
+     * @param epochDay The day of the amount, or {@link HistoricalRates#LATEST}.
+     * @param amount   The amount in cents, negative to remove it.
+     */
+    public void add(Currency currency, int epochDay, long amount) {
+        if (amount == 0) {
+            return;
+        }
+        long key = keyOf(currency, epochDay);
+        int slot = slotOf(key);
+        long sum = Math.addExact(cents[slot], amount);
+        boolean isNewKey = keys[slot] == EMPTY;
+        keys[slot] = key;
+        cents[slot] = sum;
+        if (isNewKey && ++used * 2 > keys.length) {
+            grow();
+        }
+    }
+
+    /**
+     * Returns the sum of the amounts of a currency and day.
+     *
+     * @param currency The currency.
+     * @param epochDay The day, or {@link HistoricalRates#LATEST}.
+     * @return The sum in cents, 0 if nothing has been added for them.
+     */
+    long get(Currency currency, int epochDay) {
+        return cents[slotOf(keyOf(currency, epochDay))];
+    }
+
+    /**
+     * Returns the sum of all amounts in Singapore dollar cents. Currencies without a rate history are summed
+     * first and converted once, as their rate does not depend on the day.
+     *
+     * @param history The rate history to convert with.
+     * @return The converted total in cents.
+     */
+    public long toSgdCents(HistoricalRates history) {
+        long[] undatedByCurrency = new long[CURRENCIES.length];
+        long total = 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            long key = keys[slot];
+            if (key == EMPTY || cents[slot] == 0) {
+                continue;
+            }
+            Currency currency = CURRENCIES[(int) (key & 0xFF)];
+            if (history.hasHistory(currency)) {
+                total = Math.addExact(total, history.toSgdCents(cents[slot], currency, (int) (key >> 8)));
+            } else {
+                int i = currency.ordinal();
+                undatedByCurrency[i] = Math.addExact(undatedByCurrency[i], cents[slot]);
+            }
+        }
+        for (int i = 0; i < undatedByCurrency.length; i++) {
+            total = Math.addExact(total,
+                    history.toSgdCents(undatedByCurrency[i], CURRENCIES[i], HistoricalRates.LATEST));
+        }
+        return total;
+    }
+
+    /**
+     * Removes all sums.
+     */
+    public void clear() {
+        keys = newKeys(INITIAL_CAPACITY);
+        cents = new long[INITIAL_CAPACITY];
+        used = 0;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        long[] oldCents = cents;
+        keys = newKeys(oldKeys.length * 2);
+        cents = new long[oldKeys.length * 2];
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == EMPTY) {
+                continue;
+            }
+            int slot = mix(oldKeys[i]) & mask;
+            while (keys[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = oldKeys[i];
+            cents[slot] = oldCents[i];
+        }
+    }
+
+    private static long keyOf(Currency currency, int epochDay) {
+        return ((long) epochDay << 8) | currency.ordinal();
+    }
+
+    /**
+     * Returns the slot holding the given key, or the empty slot where it would be inserted.
+     */
+    private int slotOf(long key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static long[] newKeys(int capacity) {
+        long[] keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        return keys;
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
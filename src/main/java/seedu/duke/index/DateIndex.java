@@ -0,0 +1,254 @@
+package seedu.duke.index;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+import seedu.duke.Transaction;
+
+/**
+ * Date-ordered index of transactions that answers range queries without scanning the whole ledger.
+ * Transactions sharing a date are kept in slot order, matching a stable sort of the underlying list.
+ * Transactions without a date are kept after all dated ones.
+ * Only slots are stored, so the index does not keep transaction objects alive.
+ */
+public class DateIndex {
+    private final NavigableMap<LocalDate, SlotList> buckets = new TreeMap<>();
+    private final SlotList undated = new SlotList();
+    private final ToIntFunction<Transaction> slotOf;
+    private final IntFunction<Transaction> transactionAt;
+    private int size;
+
+    /**
+     * Creates an empty index.
+     *
+     * @param slotOf        Returns the position of a transaction in the underlying list.
+     * @param transactionAt Returns the transaction at a position in the underlying list.
+     */
+    public DateIndex(ToIntFunction<Transaction> slotOf, IntFunction<Transaction> transactionAt) {
+        this.slotOf = slotOf;
+        this.transactionAt = transactionAt;
+    }
+
+    /**
+     * Adds a transaction under its current date.
+     *
+     * @param transaction The transaction to add.
+     */
+    public void add(Transaction transaction) {
+        SlotList bucket = transaction.getDate() == null
+                ? undated
+                : buckets.computeIfAbsent(transaction.getDate(), date -> new SlotList());
+        bucket.insert(slotOf.applyAsInt(transaction));
+        size++;
+    }
+
+    /**
+     * Removes a transaction from the bucket of its current date.
+     *
+     * @param transaction The transaction to remove.
+     */
+    public void remove(Transaction transaction) {
+        remove(transaction, transaction.getDate());
+    }
+
+    /**
+     * Removes a transaction from the bucket of the date it was indexed under.
+     *
+     * @param transaction The transaction to remove.
+     * @param date        The date the transaction had when it was added.
+     */
+    public void remove(Transaction transaction, LocalDate date) {
+        SlotList bucket = date == null ? undated : buckets.get(date);
+        if (bucket == null) {
+            return;
+        }
+        if (bucket.remove(slotOf.applyAsInt(transaction))) {
+            size--;
+        }
+        if (bucket.size == 0 && date != null) {
+            buckets.remove(date);
+        }
+    }
+
+    /**
+     * Returns the transactions dated between {@code start} and {@code end}, both inclusive, in date order.
+     *
+     * @param start The first date of the range.
+     * @param end   The last date of the range.
+     * @return The matching transactions.
+     */
+    public ArrayList<Transaction> between(LocalDate start, LocalDate end) {
+        ArrayList<Transaction> result = new ArrayList<>();
+        if (start.isAfter(end)) {
+            return result;
+        }
+        for (SlotList bucket : buckets.subMap(start, true, end, true).values()) {
+            addTransactions(bucket, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the transactions dated on the given day.
+     *
+     * @param date The day to look up.
+     * @return The matching transactions.
+     */
+    public ArrayList<Transaction> on(LocalDate date) {
+        ArrayList<Transaction> result = new ArrayList<>();
+        SlotList bucket = buckets.get(date);
+        if (bucket != null) {
+            addTransactions(bucket, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the slots of all indexed transactions in date order, with undated transactions last.
+     *
+     * @return The slots in date order.
+     */
+    public int[] toSlots() {
+        int[] result = new int[size];
+        int position = 0;
+        for (SlotList bucket : buckets.values()) {
+            System.arraycopy(bucket.slots, 0, result, position, bucket.size);
+            position += bucket.size;
+        }
+        System.arraycopy(undated.slots, 0, result, position, undated.size);
+        return result;
+    }
+
+    /**
+     * Returns a cursor over all indexed transactions in date order, with undated transactions last.
+     * The cursor reads the index as it advances instead of copying it, so it must not be used after
+     * the index has changed.
+     *
+     * @return A cursor at the first transaction.
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Returns the number of indexed transactions.
+     *
+     * @return The number of transactions.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all transactions from the index.
+     */
+    public void clear() {
+        buckets.clear();
+        undated.clear();
+        size = 0;
+    }
+
+    private void addTransactions(SlotList bucket, ArrayList<Transaction> result) {
+        result.ensureCapacity(result.size() + bucket.size);
+        for (int i = 0; i < bucket.size; i++) {
+            result.add(transactionAt.apply(bucket.slots[i]));
+        }
+    }
+
+    /**
+     * Walks the index in date order one transaction at a time, and skips whole days at once.
+     */
+    public final class Cursor implements Iterator<Transaction> {
+        private final Iterator<SlotList> datedBuckets = buckets.values().iterator();
+        private SlotList bucket;
+        private int position;
+        private boolean isUndatedReached;
+
+        private Cursor() {
+        }
+
+        /**
+         * Moves past up to the given number of transactions without fetching them.
+         *
+         * @param count The number of transactions to skip.
+         * @return The number of transactions skipped, less than {@code count} if the end was reached.
+         */
+        public int skip(int count) {
+            int skipped = 0;
+            while (skipped < count && hasNext()) {
+                int step = Math.min(count - skipped, bucket.size - position);
+                position += step;
+                skipped += step;
+            }
+            return skipped;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (bucket == null || position == bucket.size) {
+                if (datedBuckets.hasNext()) {
+                    bucket = datedBuckets.next();
+                } else if (!isUndatedReached) {
+                    bucket = undated;
+                    isUndatedReached = true;
+                } else {
+                    return false;
+                }
+                position = 0;
+            }
+            return true;
+        }
+
+        @Override
+        public Transaction next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return transactionAt.apply(bucket.slots[position++]);
+        }
+    }
+
+    /**
+     * Growable, sorted list of the slots dated on one day.
+     */
+    private static final class SlotList {
+        private int[] slots = new int[1];
+        private int size;
+
+        private void insert(int slot) {
+            int position = size;
+            if (size > 0 && slots[size - 1] > slot) {
+                position = Arrays.binarySearch(slots, 0, size, slot);
+                position = position < 0 ? -position - 1 : position;
+            }
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            System.arraycopy(slots, position, slots, position + 1, size - position);
+            slots[position] = slot;
+            size++;
+        }
+
+        private boolean remove(int slot) {
+            int position = Arrays.binarySearch(slots, 0, size, slot);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(slots, position + 1, slots, position, size - position - 1);
+            size--;
+            return true;
+        }
+
+        private void clear() {
+            slots = new int[1];
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package seedu.duke.index;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash index from transaction id to the slot the transaction occupies in its list.
+ * Keys and values are kept in primitive arrays so lookups do not box or allocate.
+ */
+public class IdIndex {
+    private static final int NO_SLOT = -1;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private int[] keys;
+    private int[] slots;
+    private boolean[] isUsed;
+    private int size;
+    private int mask;
+
+    /**
+     * Creates an empty index.
+     */
+    public IdIndex() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Returns the slot stored for the given id.
+     *
+     * @param id The transaction id.
+     * @return The slot of the transaction, or {@code -1} if the id is not indexed.
+     */
+    public int get(int id) {
+        int i = indexOf(id);
+        return isUsed[i] ? slots[i] : NO_SLOT;
+    }
+
+    /**
+     * Returns whether the given id is indexed.
+     *
+     * @param id The transaction id.
+     * @return {@code true} if the id has a slot.
+     */
+    public boolean contains(int id) {
+        return isUsed[indexOf(id)];
+    }
+
+    /**
+     * Stores the slot for the given id unless the id is already indexed.
+     *
+     * @param id   The transaction id.
+     * @param slot The slot of the transaction.
+     * @return {@code true} if the slot was stored.
+     */
+    public boolean putIfAbsent(int id, int slot) {
+        int i = indexOf(id);
+        if (isUsed[i]) {
+            return false;
+        }
+        keys[i] = id;
+        slots[i] = slot;
+        isUsed[i] = true;
+        size++;
+        if (size > keys.length * LOAD_FACTOR) {
+            resize(keys.length * 2);
+        }
+        return true;
+    }
+
+    /**
+     * Removes the given id from the index.
+     *
+     * @param id The transaction id.
+     * @return {@code true} if the id was indexed.
+     */
+    public boolean remove(int id) {
+        int i = indexOf(id);
+        if (!isUsed[i]) {
+            return false;
+        }
+        isUsed[i] = false;
+        size--;
+        shiftBack(i);
+        return true;
+    }
+
+    /**
+     * Returns the number of indexed ids.
+     *
+     * @return The number of ids.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all ids from the index.
+     */
+    public void clear() {
+        Arrays.fill(isUsed, false);
+        size = 0;
+    }
+
+    /**
+     * Returns the position holding {@code id}, or the empty position where it would be inserted.
+     */
+    private int indexOf(int id) {
+        int i = hash(id) & mask;
+        while (isUsed[i] && keys[i] != id) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    /**
+     * Closes the gap left at {@code gap} by moving later entries of the same probe run back,
+     * so that lookups never need tombstones.
+     */
+    private void shiftBack(int gap) {
+        int i = (gap + 1) & mask;
+        while (isUsed[i]) {
+            int home = hash(keys[i]) & mask;
+            boolean isMovable = gap <= i ? (home <= gap || home > i) : (home <= gap && home > i);
+            if (isMovable) {
+                keys[gap] = keys[i];
+                slots[gap] = slots[i];
+                isUsed[gap] = true;
+                isUsed[i] = false;
+                gap = i;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldSlots = slots;
+        boolean[] oldUsed = isUsed;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                int j = indexOf(oldKeys[i]);
+                keys[j] = oldKeys[i];
+                slots[j] = oldSlots[i];
+                isUsed[j] = true;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        slots = new int[capacity];
+        isUsed = new boolean[capacity];
+        mask = capacity - 1;
+    }
+
+    private static int hash(int id) {
+        int h = id * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,434 @@
+package seedu.duke.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Inverted index from the lower-cased words of transaction descriptions to the ids containing them.
+ * A query is a list of terms that must all match (AND). A term ending in {@code *} matches every word
+ * starting with it; any other term must match a whole word.
+ * Fuzzy queries tolerate typos by looking up the words within a small edit distance in a {@link TrigramIndex}
+ * of the indexed vocabulary.
+ */
+public class TokenIndex {
+    /** Suffix that turns a query term into a prefix query. */
+    public static final char PREFIX_WILDCARD = '*';
+
+    private static final int[] NO_IDS = new int[0];
+
+    /** Length ratio above which intersections binary-search the longer list instead of merging. */
+    private static final int SKEW_THRESHOLD = 16;
+
+    /** Largest number of stale words the vocabulary index may hold beyond the live ones before it is rebuilt. */
+    private static final int VOCABULARY_SLACK = 1024;
+
+    /** Flips the sign bit of an id so that ids keep their order when stored in the unsigned low half of a long. */
+    private static final long SIGN_BIT = 0x80000000L;
+
+    private final NavigableMap<String, PostingList> postings = new TreeMap<>();
+
+    /** Every word ever indexed since the last rebuild, including words whose posting lists are now empty. */
+    private final TrigramIndex vocabulary = new TrigramIndex();
+
+    /**
+     * Ids containing one term, kept sorted for merging.
+     */
+    private static class PostingList {
+        private int[] ids;
+        private int size;
+
+        PostingList() {
+            this(new int[2], 0);
+        }
+
+        PostingList(int[] ids, int size) {
+            this.ids = ids;
+            this.size = size;
+        }
+
+        void add(int id) {
+            if (size > 0 && ids[size - 1] < id) {
+                ensureCapacity();
+                ids[size++] = id;
+                return;
+            }
+            int i = Arrays.binarySearch(ids, 0, size, id);
+            if (i >= 0) {
+                return;
+            }
+            int insertAt = -i - 1;
+            ensureCapacity();
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        void remove(int id) {
+            int i = Arrays.binarySearch(ids, 0, size, id);
+            if (i >= 0) {
+                System.arraycopy(ids, i + 1, ids, i, size - i - 1);
+                size--;
+            }
+        }
+
+        private void ensureCapacity() {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+        }
+    }
+
+    /**
+     * Splits text into its distinct lower-case words. Any character that is not a letter or digit separates words.
+     *
+     * @param text The text to split.
+     * @return The distinct words in order of first appearance.
+     */
+    public static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        String lowerCase = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lowerCase.length(); i++) {
+            boolean isWordChar = i < lowerCase.length() && Character.isLetterOrDigit(lowerCase.charAt(i));
+            if (isWordChar && start < 0) {
+                start = i;
+            } else if (!isWordChar && start >= 0) {
+                tokens.add(lowerCase.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Indexes the words of a description under the given id.
+     *
+     * @param id          The transaction id.
+     * @param description The description to index.
+     */
+    public void add(int id, String description) {
+        for (String token : tokenize(description)) {
+            PostingList list = postings.get(token);
+            if (list == null) {
+                list = new PostingList();
+                postings.put(token, list);
+                vocabulary.add(token);
+            }
+            list.add(id);
+        }
+    }
+
+    /**
+     * Removes the words of a description from the given id.
+     *
+     * @param id          The transaction id.
+     * @param description The description the id was indexed with.
+     */
+    public void remove(int id, String description) {
+        for (String token : tokenize(description)) {
+            PostingList list = postings.get(token);
+            if (list != null) {
+                list.remove(id);
+                if (list.size == 0) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        postings.clear();
+        vocabulary.clear();
+    }
+
+    /**
+     * Returns whether the query contains at least one term the index can answer.
+     *
+     * @param query The search query.
+     * @return {@code true} if the query has a word or a non-empty prefix.
+     */
+    public static boolean isSearchable(String query) {
+        return !parse(query).isEmpty();
+    }
+
+    /**
+     * Returns the ids whose descriptions match every term of the query.
+     *
+     * @param query Whitespace-separated terms, each optionally ending in {@code *}.
+     * @return The matching ids in ascending order.
+     */
+    public int[] search(String query) {
+        List<PostingList> matches = new ArrayList<>();
+        for (String term : parse(query)) {
+            PostingList list = lookup(term);
+            if (list.size == 0) {
+                return NO_IDS;
+            }
+            matches.add(list);
+        }
+        if (matches.isEmpty()) {
+            return NO_IDS;
+        }
+
+        matches.sort(Comparator.comparingInt(list -> list.size));
+        PostingList result = matches.get(0);
+        for (int i = 1; i < matches.size() && result.size > 0; i++) {
+            result = intersect(result, matches.get(i));
+        }
+        return Arrays.copyOf(result.ids, result.size);
+    }
+
+    /**
+     * Returns the ids whose descriptions approximately contain every word of the query, best matches first.
+     * A query word matches a description word within {@link #maxEditsFor(String)} edits. The last query word
+     * also matches, at a cost of one edit, every longer word it is a prefix of, so that partially typed words
+     * already find results. Ids are ranked by their total number of edits, then by id.
+     *
+     * @param query Whitespace-separated words.
+     * @return The matching ids, best match first.
+     */
+    public int[] fuzzySearch(String query) {
+        List<String> terms = new ArrayList<>(tokenize(query));
+        if (terms.isEmpty()) {
+            return NO_IDS;
+        }
+        if (vocabulary.size() > postings.size() * 2 + VOCABULARY_SLACK) {
+            rebuildVocabulary();
+        }
+
+        long[] matches = null;
+        for (int i = 0; i < terms.size(); i++) {
+            long[] termMatches = matchApproximately(terms.get(i), i == terms.size() - 1);
+            matches = matches == null ? termMatches : intersectMatches(matches, termMatches);
+            if (matches.length == 0) {
+                return NO_IDS;
+            }
+        }
+
+        // Re-key each match as (edits, id) so that sorting ranks by edits first.
+        for (int i = 0; i < matches.length; i++) {
+            matches[i] = (matches[i] & 0xFFFFFFFFL) << 32 | (((matches[i] >> 32) ^ SIGN_BIT) & 0xFFFFFFFFL);
+        }
+        Arrays.sort(matches);
+        int[] ids = new int[matches.length];
+        for (int i = 0; i < matches.length; i++) {
+            ids[i] = (int) ((matches[i] & 0xFFFFFFFFL) ^ SIGN_BIT);
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the number of edits a query word may be away from a description word and still match.
+     *
+     * @param term The query word.
+     * @return {@code 0} for words of up to two characters, {@code 1} up to five, and {@code 2} beyond that.
+     */
+    public static int maxEditsFor(String term) {
+        if (term.length() <= 2) {
+            return 0;
+        }
+        return term.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Returns the ids matching one query word as sorted {@code (id, edits)} pairs, keeping the fewest edits per id.
+     * Each pair packs the id into the high half of a long and the edits into the low half.
+     */
+    private long[] matchApproximately(String term, boolean isLastTerm) {
+        List<PostingList> lists = new ArrayList<>();
+        List<Integer> edits = new ArrayList<>();
+        vocabulary.search(term, maxEditsFor(term), (word, distance) -> {
+            PostingList list = postings.get(word);
+            if (list != null && list.size > 0) {
+                lists.add(list);
+                edits.add(distance);
+            }
+        });
+        if (isLastTerm) {
+            for (PostingList list : postings.subMap(term, false, term + Character.MAX_VALUE, false).values()) {
+                lists.add(list);
+                edits.add(1);
+            }
+        }
+
+        int total = 0;
+        for (PostingList list : lists) {
+            total += list.size;
+        }
+        long[] pairs = new long[total];
+        int size = 0;
+        for (int i = 0; i < lists.size(); i++) {
+            PostingList list = lists.get(i);
+            int listEdits = edits.get(i);
+            for (int k = 0; k < list.size; k++) {
+                pairs[size++] = ((long) list.ids[k] << 32) | listEdits;
+            }
+        }
+        Arrays.sort(pairs);
+
+        int distinct = 0;
+        for (int i = 0; i < pairs.length; i++) {
+            if (distinct == 0 || pairs[distinct - 1] >> 32 != pairs[i] >> 32) {
+                pairs[distinct++] = pairs[i];
+            }
+        }
+        return Arrays.copyOf(pairs, distinct);
+    }
+
+    /**
+     * Keeps the ids present in both sorted match lists, adding up their edits.
+     */
+    private static long[] intersectMatches(long[] a, long[] b) {
+        long[] result = new long[Math.min(a.length, b.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            long idA = a[i] >> 32;
+            long idB = b[j] >> 32;
+            if (idA == idB) {
+                result[size++] = a[i] + (b[j] & 0xFFFFFFFFL);
+                i++;
+                j++;
+            } else if (idA < idB) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private void rebuildVocabulary() {
+        vocabulary.clear();
+        for (String word : postings.keySet()) {
+            vocabulary.add(word);
+        }
+    }
+
+    /**
+     * Splits a query into terms. Prefix terms keep their trailing {@code *}; empty terms are dropped.
+     */
+    private static List<String> parse(String query) {
+        List<String> terms = new ArrayList<>();
+        if (query == null) {
+            return terms;
+        }
+        for (String part : query.trim().split("\\s+")) {
+            int termsBefore = terms.size();
+            terms.addAll(tokenize(part));
+            boolean isPrefix = part.endsWith(String.valueOf(PREFIX_WILDCARD));
+            if (isPrefix && terms.size() > termsBefore) {
+                int last = terms.size() - 1;
+                terms.set(last, terms.get(last) + PREFIX_WILDCARD);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Returns the ids matching one term. The result may be the index's own list and must not be modified.
+     */
+    private PostingList lookup(String term) {
+        if (term.charAt(term.length() - 1) != PREFIX_WILDCARD) {
+            PostingList list = postings.get(term);
+            return list == null ? new PostingList(NO_IDS, 0) : list;
+        }
+
+        String prefix = term.substring(0, term.length() - 1);
+        Collection<PostingList> lists = postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values();
+        if (lists.size() == 1) {
+            return lists.iterator().next();
+        }
+
+        BitSet union = new BitSet();
+        for (PostingList list : lists) {
+            if (list.ids[0] < 0) {
+                return sortedUnion(lists);
+            }
+            for (int k = 0; k < list.size; k++) {
+                union.set(list.ids[k]);
+            }
+        }
+        return new PostingList(union.stream().toArray(), union.cardinality());
+    }
+
+    /**
+     * Unions lists that may contain negative ids, which a {@link BitSet} cannot hold.
+     */
+    private static PostingList sortedUnion(Collection<PostingList> lists) {
+        int total = 0;
+        for (PostingList list : lists) {
+            total += list.size;
+        }
+        int[] union = new int[total];
+        int size = 0;
+        for (PostingList list : lists) {
+            System.arraycopy(list.ids, 0, union, size, list.size);
+            size += list.size;
+        }
+        Arrays.sort(union);
+
+        int distinct = 0;
+        for (int i = 0; i < union.length; i++) {
+            if (distinct == 0 || union[distinct - 1] != union[i]) {
+                union[distinct++] = union[i];
+            }
+        }
+        return new PostingList(union, distinct);
+    }
+
+    /**
+     * Intersects two sorted id lists. Lists of similar length are merged linearly; when one list is much
+     * shorter, the longer one is binary-searched for each of its ids instead.
+     */
+    private static PostingList intersect(PostingList smaller, PostingList larger) {
+        int[] result = new int[smaller.size];
+        int size = 0;
+        if ((long) smaller.size * SKEW_THRESHOLD < larger.size) {
+            int from = 0;
+            for (int j = 0; j < smaller.size && from < larger.size; j++) {
+                int id = smaller.ids[j];
+                int i = Arrays.binarySearch(larger.ids, from, larger.size, id);
+                if (i >= 0) {
+                    result[size++] = id;
+                    from = i + 1;
+                } else {
+                    from = -i - 1;
+                }
+            }
+        } else {
+            int i = 0;
+            int j = 0;
+            while (i < smaller.size && j < larger.size) {
+                int a = smaller.ids[i];
+                int b = larger.ids[j];
+                if (a == b) {
+                    result[size++] = a;
+                    i++;
+                    j++;
+                } else if (a < b) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+        }
+        return new PostingList(result, size);
+    }
+}
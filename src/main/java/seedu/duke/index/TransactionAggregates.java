@@ -0,0 +1,163 @@
+package seedu.duke.index;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import enums.Category;
+import enums.Currency;
+import seedu.duke.HistoricalRates;
+import seedu.duke.Money;
+import seedu.duke.Transaction;
+
+/**
+ * Running totals over all non-deleted transactions, updated as transactions are added, edited or removed.
+ * Amounts are summed as exact cents per currency and day and only converted when a total is read, at the
+ * {@link HistoricalRates} of each day. Totals never drift, and each statistic costs one conversion per distinct
+ * currency and day regardless of the ledger size.
+ */
+public class TransactionAggregates {
+    /**
+     * Completed amounts of one category, kept per currency.
+     */
+    private static class CategoryTotals {
+        private final CurrencyDayTotals cents = new CurrencyDayTotals();
+        private int count;
+    }
+
+    private final EnumMap<Category, CategoryTotals> completedByCategory = new EnumMap<>(Category.class);
+    private final CurrencyDayTotals cents = new CurrencyDayTotals();
+    private final CurrencyDayTotals completedCents = new CurrencyDayTotals();
+    private long normalCents;
+    private int completedCount;
+    private int incompleteCount;
+
+    /**
+     * Adds the contribution of a transaction to the totals. Deleted transactions contribute nothing.
+     *
+     * @param transaction The transaction to add.
+     */
+    public void add(Transaction transaction) {
+        apply(transaction, 1);
+    }
+
+    /**
+     * Removes the contribution of a transaction from the totals, using its current field values.
+     *
+     * @param transaction The transaction to remove.
+     */
+    public void remove(Transaction transaction) {
+        apply(transaction, -1);
+    }
+
+    /**
+     * Resets all totals to zero.
+     */
+    public void clear() {
+        completedByCategory.clear();
+        cents.clear();
+        completedCents.clear();
+        normalCents = 0;
+        completedCount = 0;
+        incompleteCount = 0;
+    }
+
+    /**
+     * Returns the completed amount per category in SGD. Categories without completed transactions are omitted.
+     *
+     * @return The completed amount of each category, in category order.
+     */
+    public Map<Category, Double> getCompletedAmountPerCategory() {
+        HistoricalRates history = HistoricalRates.current();
+        Map<Category, Double> result = new EnumMap<>(Category.class);
+        for (Map.Entry<Category, CategoryTotals> entry : completedByCategory.entrySet()) {
+            if (entry.getValue().count > 0) {
+                result.put(entry.getKey(), Money.toUnits(entry.getValue().cents.toSgdCents(history)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of completed and incomplete transactions.
+     *
+     * @return An array of {@code {completed, incomplete}}.
+     */
+    public int[] getCompletionStats() {
+        return new int[]{completedCount, incompleteCount};
+    }
+
+    /**
+     * Returns the total of all completed transactions in SGD.
+     *
+     * @return The completed balance in SGD.
+     */
+    public double getCurrentBalanceInSGD() {
+        return Money.toUnits(completedCents.toSgdCents(HistoricalRates.current()));
+    }
+
+    /**
+     * Returns the total of all transactions in SGD. The exact total of each currency and day is converted
+     * and rounded to cents once.
+     *
+     * @return The total in SGD.
+     */
+    public double getTotalTransactionAmount() {
+        return Money.toUnits(cents.toSgdCents(HistoricalRates.current()));
+    }
+
+    /**
+     * Returns the unconverted total of all non-recurring transactions.
+     *
+     * @return The sum of non-recurring amounts.
+     */
+    public double getNormalAmount() {
+        return Money.toUnits(normalCents);
+    }
+
+    private void apply(Transaction t, int sign) {
+        if (t.isDeleted()) {
+            return;
+        }
+        long amount = sign * t.getAmountCents();
+        int epochDay = t.getDate() == null ? HistoricalRates.LATEST : (int) t.getDate().toEpochDay();
+        checkSumsFit(t, epochDay, amount);
+        cents.add(t.getCurrency(), epochDay, amount);
+
+        if (t.getRecurringPeriod() <= 0) {
+            normalCents += amount;
+        }
+
+        if (t.isCompleted()) {
+            completedCount += sign;
+            completedCents.add(t.getCurrency(), epochDay, amount);
+            CategoryTotals totals = completedByCategory.computeIfAbsent(t.getCategory(), c -> new CategoryTotals());
+            totals.count += sign;
+            totals.cents.add(t.getCurrency(), epochDay, amount);
+            if (totals.count == 0) {
+                completedByCategory.remove(t.getCategory());
+            }
+        } else {
+            incompleteCount += sign;
+        }
+    }
+
+    /**
+     * Checks that adding an amount keeps every sum it goes into within a long, before any of them is changed,
+     * so that a transaction whose amount overflows a sum is rejected without leaving the totals half updated.
+     *
+     * @throws ArithmeticException If a sum would overflow.
+     */
+    private void checkSumsFit(Transaction t, int epochDay, long amount) {
+        Math.addExact(cents.get(t.getCurrency(), epochDay), amount);
+        if (t.getRecurringPeriod() <= 0) {
+            Math.addExact(normalCents, amount);
+        }
+        if (t.isCompleted()) {
+            Math.addExact(completedCents.get(t.getCurrency(), epochDay), amount);
+            CategoryTotals totals = completedByCategory.get(t.getCategory());
+            if (totals != null) {
+                Math.addExact(totals.cents.get(t.getCurrency(), epochDay), amount);
+            }
+        }
+    }
+}
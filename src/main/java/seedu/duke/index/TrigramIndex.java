@@ -0,0 +1,194 @@
+package seedu.duke.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Finds the words of a vocabulary within a given Levenshtein distance of a query.
+ * Each word is indexed under its trigrams, padded at both ends. A single edit changes at most three
+ * of the query's trigrams, so only words sharing enough trigrams with the query are compared in full.
+ * Words cannot be removed; callers filter out stale words and rebuild the index when too many accumulate.
+ */
+public class TrigramIndex {
+    private static final int GRAM_LENGTH = 3;
+    private static final char PADDING = ' ';
+
+    private final List<String> words = new ArrayList<>();
+    private final Set<String> wordSet = new HashSet<>();
+    private final Map<Long, int[]> postings = new HashMap<>();
+    private final Map<Long, Integer> postingSizes = new HashMap<>();
+
+    /** Per-word trigram hit counts, reused across searches and reset after each one. */
+    private int[] hits = new int[0];
+
+    /**
+     * Adds a word to the vocabulary.
+     *
+     * @param word The word to add.
+     * @return {@code true} if the word was not stored yet.
+     */
+    public boolean add(String word) {
+        if (!wordSet.add(word)) {
+            return false;
+        }
+        int wordId = words.size();
+        words.add(word);
+        for (long gram : trigrams(word)) {
+            int size = postingSizes.getOrDefault(gram, 0);
+            int[] ids = postings.get(gram);
+            if (ids == null) {
+                ids = new int[2];
+            } else if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size] = wordId;
+            postings.put(gram, ids);
+            postingSizes.put(gram, size + 1);
+        }
+        return true;
+    }
+
+    /**
+     * Passes every stored word within {@code maxDistance} of the query, together with its distance, to the consumer.
+     *
+     * @param query       The word to match.
+     * @param maxDistance The largest edit distance accepted.
+     * @param consumer    Receives each matching word and its distance.
+     */
+    public void search(String query, int maxDistance, ObjIntConsumer<String> consumer) {
+        Set<Long> grams = trigrams(query);
+        int minSharedGrams = grams.size() - GRAM_LENGTH * maxDistance;
+        if (minSharedGrams <= 0) {
+            // Too short for the trigram filter to rule anything out.
+            for (String word : words) {
+                report(query, word, maxDistance, consumer);
+            }
+            return;
+        }
+
+        if (hits.length < words.size()) {
+            hits = new int[words.size()];
+        }
+        int[] touched = new int[0];
+        int touchedSize = 0;
+        for (long gram : grams) {
+            int[] ids = postings.get(gram);
+            if (ids == null) {
+                continue;
+            }
+            int size = postingSizes.get(gram);
+            for (int i = 0; i < size; i++) {
+                int wordId = ids[i];
+                if (hits[wordId]++ == 0) {
+                    if (touchedSize == touched.length) {
+                        touched = Arrays.copyOf(touched, Math.max(16, touchedSize * 2));
+                    }
+                    touched[touchedSize++] = wordId;
+                }
+            }
+        }
+
+        for (int i = 0; i < touchedSize; i++) {
+            int wordId = touched[i];
+            if (hits[wordId] >= minSharedGrams) {
+                report(query, words.get(wordId), maxDistance, consumer);
+            }
+            hits[wordId] = 0;
+        }
+    }
+
+    /**
+     * Returns the number of stored words.
+     *
+     * @return The number of words.
+     */
+    public int size() {
+        return words.size();
+    }
+
+    /**
+     * Removes all words.
+     */
+    public void clear() {
+        words.clear();
+        wordSet.clear();
+        postings.clear();
+        postingSizes.clear();
+        hits = new int[0];
+    }
+
+    /**
+     * Returns the Levenshtein distance between two words: the number of single-character insertions,
+     * deletions and substitutions needed to turn one into the other.
+     *
+     * @param a The first word.
+     * @param b The second word.
+     * @return The edit distance.
+     */
+    public static int distance(String a, String b) {
+        return distance(a, b, Integer.MAX_VALUE);
+    }
+
+    private static void report(String query, String word, int maxDistance, ObjIntConsumer<String> consumer) {
+        int distance = distance(query, word, maxDistance);
+        if (distance <= maxDistance) {
+            consumer.accept(word, distance);
+        }
+    }
+
+    /**
+     * Returns the Levenshtein distance between two words, or {@code limit + 1} once it is known to exceed
+     * {@code limit}.
+     */
+    private static int distance(String a, String b, int limit) {
+        if (Math.abs(a.length() - b.length()) > limit) {
+            return limit + 1;
+        }
+        if (a.length() < b.length()) {
+            String swap = a;
+            a = b;
+            b = swap;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            char c = a.charAt(i - 1);
+            int rowMinimum = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (c == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > limit) {
+                return limit + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    /**
+     * Returns the distinct trigrams of a word padded with two spaces on each side, each packed into a long.
+     */
+    private static Set<Long> trigrams(String word) {
+        String padded = "" + PADDING + PADDING + word + PADDING + PADDING;
+        Set<Long> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= padded.length(); i++) {
+            long gram = ((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16) | padded.charAt(i + 2);
+            grams.add(gram);
+        }
+        return grams;
+    }
+}
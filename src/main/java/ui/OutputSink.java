@@ -0,0 +1,70 @@
+package ui;
+
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/**
+ * Buffers everything printed to {@link System#out} and writes it out in large chunks, once per command,
+ * instead of once per line. The standard output stream flushes on every line, which dominates the cost of
+ * printing long tables. Installing the sink replaces {@code System.out} itself, so output printed directly
+ * by other classes keeps its order relative to the output of {@link Ui}.
+ *
+ * <p>Output is flushed by {@link #flush()}, before {@link Ui} waits for input, and when the program exits.</p>
+ */
+public final class OutputSink {
+    /** Bytes buffered before output is written out even without a flush. */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /** The stream replaced by the sink, restored by {@link #uninstall()}; {@code null} if none is installed. */
+    private static PrintStream replacedOut;
+    private static boolean hasShutdownHook = false;
+
+    private OutputSink() {
+    }
+
+    /**
+     * Buffers the output written to the terminal.
+     */
+    public static void install() {
+        install(new FileOutputStream(FileDescriptor.out));
+    }
+
+    /**
+     * Buffers the output and writes it to the given stream, e.g. a file or pipe, instead of the terminal.
+     *
+     * @param target The stream to write to.
+     */
+    public static synchronized void install(OutputStream target) {
+        System.out.flush();
+        if (replacedOut == null) {
+            replacedOut = System.out;
+        }
+        System.setOut(new PrintStream(new BufferedOutputStream(target, BUFFER_SIZE), false));
+        if (!hasShutdownHook) {
+            Runtime.getRuntime().addShutdownHook(new Thread(OutputSink::flush));
+            hasShutdownHook = true;
+        }
+    }
+
+    /**
+     * Writes out the buffered output and restores the stream that was {@code System.out} before the sink was
+     * installed. The stream given to {@link #install(OutputStream)} is left open for its owner to close.
+     */
+    public static synchronized void uninstall() {
+        System.out.flush();
+        if (replacedOut != null) {
+            System.setOut(replacedOut);
+            replacedOut = null;
+        }
+    }
+
+    /**
+     * Writes out the buffered output.
+     */
+    public static void flush() {
+        System.out.flush();
+    }
+}
@@ -3,10 +3,16 @@ package ui;
 import static ui.ConsoleFormatter.*;
 
 import enums.Priority;
+import metrics.CommandLatencies;
+import metrics.FileIoMetrics;
+import metrics.LatencyHistogram;
 import seedu.duke.FinancialGoal;
+import seedu.duke.LoadReport;
+import seedu.duke.RateTable;
 import seedu.duke.Transaction;
 import seedu.duke.TransactionManager;
 
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.*;
 import java.time.format.DateTimeFormatter;
@@ -17,17 +23,74 @@ import enums.Category;
 
 
 public class Ui {
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    /** Characters of a transaction table rendered before they are written out. */
+    private static final int TABLE_CHUNK_CHARS = 1 << 15;
+
     private final Scanner scanner;
 
+    /** Reused buffer that transaction tables are rendered into. */
+    private final StringBuilder tableBuffer = new StringBuilder(TABLE_CHUNK_CHARS + 256);
+
+    /** Whether transaction tables and details are left out, e.g. while running a script. */
+    private boolean isQuiet = false;
+
     public Ui() {
-        scanner = new Scanner(System.in);
+        this(System.in);
+    }
+
+    /**
+     * Creates a UI that reads all user input, including the answers to wizard and mode prompts, from the given
+     * stream.
+     *
+     * @param in The stream to read from.
+     */
+    public Ui(InputStream in) {
+        scanner = new Scanner(in);
     }
 
     public String readCommand() {
         System.out.print(">");
+        OutputSink.flush();
         return scanner.nextLine();
     }
 
+    /**
+     * Reads the next line of input without printing a prompt.
+     * The time spent waiting for it is not counted towards the latency of the running command.
+     *
+     * @return The line read.
+     * @throws NoSuchElementException If there is no more input.
+     */
+    public String readLine() {
+        OutputSink.flush();
+        long start = System.nanoTime();
+        try {
+            return scanner.nextLine();
+        } finally {
+            CommandLatencies.addInputWait(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Returns whether there is another line of input.
+     *
+     * @return {@code true} if {@link #readLine()} can return another line.
+     */
+    public boolean hasNextLine() {
+        return scanner.hasNextLine();
+    }
+
+    /**
+     * Sets whether transaction tables and details are left out of the output.
+     *
+     * @param isQuiet {@code true} to leave them out.
+     */
+    public void setQuiet(boolean isQuiet) {
+        this.isQuiet = isQuiet;
+    }
+
     public void printWelcomeMessage() {
         printLine();
         printCenteredLine(".  .    ,    .  .    __.                 ");
@@ -55,6 +118,7 @@ public class Ui {
         printLeftAlignedLine("  list                - Show all transactions");
         printLeftAlignedLine("  view <id>           - View full details of a specific transaction");
         printLeftAlignedLine("  search <text>       - Search transactions by keyword");
+        printLeftAlignedLine("  search ~<text>      - Search transactions by keyword, tolerating typos");
         printLeftAlignedLine("  delete <id>         - Delete a transaction by ID");
 
         printLine();
@@ -63,6 +127,7 @@ public class Ui {
         printLeftAlignedLine("  balance             - Show total balance (based on completed transactions)");
         printLeftAlignedLine("  currency            - View all exchange rates to SGD");
         printLeftAlignedLine("  currency XXX RATE   - Update exchange rate for currency XXX (e.g. USD 0.75)");
+        printLeftAlignedLine("  perf                - Show how long each command has taken");
 
         printLine();
         printLeftAlignedLine("Saving Mode:");
@@ -106,7 +171,7 @@ public class Ui {
 
     public void PrintBudgetLimit(TransactionManager transaction) {
         printLine();
-        if (transaction.getTransactions().isEmpty()) {
+        if (transaction.getTransactionView().isEmpty()) {
             System.out.println("Please add a transaction first before you set the budget!");
         } else {
             double total = transaction.getTotalTransactionAmount();
@@ -115,7 +180,7 @@ public class Ui {
         printLine();
     }
 
-    public void listNotification(ArrayList<Transaction> upcomingTransactions, String description) {
+    public void listNotification(List<Transaction> upcomingTransactions, String description) {
         printLine();
 
         List<Transaction> filtered = upcomingTransactions.stream()
@@ -134,7 +199,7 @@ public class Ui {
         printLine();
     }
 
-    public void listNotifications(ArrayList<Transaction> upcomingTransactions) {
+    public void listNotifications(List<Transaction> upcomingTransactions) {
         if (upcomingTransactions == null || upcomingTransactions.isEmpty()) {
             System.out.println("📭 There are no upcoming transactions for now.");
             return;
@@ -154,7 +219,7 @@ public class Ui {
     }
 
 
-    public void PrintPriority(ArrayList<Transaction> transactions, int index) {
+    public void PrintPriority(List<Transaction> transactions, int index) {
         printLine();
         if (transactions.isEmpty() || index < 0 || index >= transactions.size()) {
             System.out.println("Please add a transaction first before you set the priority!");
@@ -167,7 +232,7 @@ public class Ui {
     }
 
 
-    public void listPriorities(ArrayList<Transaction> transactions) {
+    public void listPriorities(List<Transaction> transactions) {
         List<Transaction> highPriority = transactions.stream()
                 .filter(t -> t.getPriority() == Priority.HIGH)
                 .collect(Collectors.toList());
@@ -185,7 +250,10 @@ public class Ui {
     }
 
     //@@author HalFentise
-    public void printTransactions(ArrayList<Transaction> transactions) {
+    public void printTransactions(List<Transaction> transactions) {
+        if (isQuiet) {
+            return;
+        }
         if (transactions.isEmpty()) {
             printCenteredTitle("View Transaction");
             printCenteredLine("No transaction found.");
@@ -195,14 +263,118 @@ public class Ui {
         printTransactionsTable(transactions);
     }
 
+    /**
+     * Prints one page of transactions, followed by its position among all pages.
+     *
+     * @param page       The transactions on the page.
+     * @param pageNumber The number of the page, starting at 1.
+     * @param pageSize   The number of transactions per page.
+     * @param total      The number of transactions on all pages.
+     */
+    public void printTransactionPage(List<Transaction> page, int pageNumber, int pageSize, int total) {
+        if (isQuiet) {
+            return;
+        }
+        long pageCount = Math.max(1, ((long) total + pageSize - 1) / pageSize);
+        printTransactions(page);
+        printCenteredLine("Page " + pageNumber + " of " + pageCount + " (" + total + " transactions)");
+        printLine();
+    }
+
+    /**
+     * Prints the call count and latency percentiles of every command that has run.
+     *
+     * @param latencies Latencies keyed by command name.
+     */
+    public void printLatencies(Map<String, LatencyHistogram.Snapshot> latencies) {
+        final String rowFormat = "%-20s %8s %10s %10s %10s %10s";
+        printCenteredTitle("Command Latency");
+        if (latencies.isEmpty()) {
+            printLeftAlignedLine("No commands have run yet.");
+            printLine();
+            return;
+        }
+        printLeftAlignedLine(String.format(rowFormat, "Command", "Calls", "p50", "p90", "p99", "Max"));
+        for (Map.Entry<String, LatencyHistogram.Snapshot> entry : latencies.entrySet()) {
+            LatencyHistogram.Snapshot latency = entry.getValue();
+            printLeftAlignedLine(String.format(rowFormat, entry.getKey(), latency.getCount(),
+                    formatNanos(latency.getValueAtPercentile(50)), formatNanos(latency.getValueAtPercentile(90)),
+                    formatNanos(latency.getValueAtPercentile(99)), formatNanos(latency.getMax())));
+        }
+        printLine();
+    }
+
+    /**
+     * Prints how often every data file was opened, how many bytes were read and written, and how many
+     * bytes were written per byte of data that changed.
+     *
+     * @param files Counters keyed by file name.
+     */
+    public void printStorageMetrics(Map<String, FileIoMetrics> files) {
+        final String rowFormat = "%-24s %6s %10s %10s %10s %10s %8s";
+        printCenteredTitle("Storage I/O");
+        if (files.isEmpty()) {
+            printLeftAlignedLine("No data files have been read or written yet.");
+            printLine();
+            return;
+        }
+        printLeftAlignedLine(String.format(rowFormat, "File", "Opens", "Read", "Written", "Changed", "Time",
+                "Ampl."));
+        for (Map.Entry<String, FileIoMetrics> entry : files.entrySet()) {
+            FileIoMetrics file = entry.getValue();
+            double amplification = file.getWriteAmplification();
+            printLeftAlignedLine(String.format(rowFormat, entry.getKey(), file.getOpens(),
+                    formatBytes(file.getBytesRead()), formatBytes(file.getBytesWritten()),
+                    formatBytes(file.getBytesChanged()), formatNanos(file.getNanos()),
+                    Double.isNaN(amplification) ? "n/a" : String.format("%.1fx", amplification)));
+        }
+        printLine();
+    }
+
+    /**
+     * Prints which loader read the transactions at startup, how many rows and bytes it read and how fast.
+     *
+     * @param report The report of the last load, or {@code null} if nothing has been loaded.
+     */
+    public void printLoadReport(LoadReport report) {
+        printCenteredTitle("Transaction Load");
+        printLeftAlignedLine(report == null ? "No transactions have been loaded yet." : report.toString());
+        printLine();
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < 1_024) {
+            return bytes + " B";
+        } else if (bytes < 1_024 * 1_024) {
+            return String.format("%.1f KB", bytes / 1_024.0);
+        }
+        return String.format("%.1f MB", bytes / (1_024.0 * 1_024));
+    }
+
+    private static String formatNanos(long nanos) {
+        if (nanos < 1_000) {
+            return nanos + " ns";
+        } else if (nanos < 1_000_000) {
+            return String.format("%.1f us", nanos / 1e3);
+        } else if (nanos < 1_000_000_000) {
+            return String.format("%.1f ms", nanos / 1e6);
+        }
+        return String.format("%.2f s", nanos / 1e9);
+    }
+
     public void printTransaction(Transaction transaction) {
+        if (isQuiet) {
+            return;
+        }
         viewTransactionDetail(transaction);
     }
     //@@author
     public void printTransactionsTable(List<Transaction> transactions) {
+        if (isQuiet) {
+            return;
+        }
         final int TOTAL_WIDTH = 121;
         final String INNER_HEADER_FORMAT = "| %-2s | %-12s | %9s | %-8s | %-9s | %-10s | %-11s | %-8s |";
-        final String INNER_ROW_FORMAT    = "| %2d | %-12s | %9s | %-8s | %-9s | %-10s | %-11s | %-8s |";
 
         String sampleHeader = String.format(INNER_HEADER_FORMAT,
                 "ID", "Description", "Amount", "Currency", "Category", "Date", "Completed", "Priority");
@@ -222,43 +394,58 @@ public class Ui {
         printTableLine(sampleHeader, sidePadding);
         printTableLine("-".repeat(tableWidth), sidePadding);
 
+        StringBuilder table = tableBuffer;
+        table.setLength(0);
         for (Transaction t : transactions) {
             String completedMark = t.getRecurringPeriod() > 0 ? " [" + t.getRecurringPeriod() + " (R)] "
                     : t.isCompleted() ? " [ YES ] " : " [ NO ] ";
 
-            // ✨ 内容字段超长截断
-            String desc = trimToFit(t.getDescription(), 12);
-            String curr = trimToFit(t.getCurrency().toString(), 8);
-            String cat  = trimToFit(t.getCategory().toString(), 9);
-            String date = trimToFit(t.getDate() == null ? "N/A" : t.getDate().toString(), 10);
-            String prio = trimToFit(t.getPriority().toString(), 8);
-
-            // ✨ 数值字段过大转科学计数法
-            String amountFormatted;
-            if (Math.abs(t.getAmount()) >= 1e7 || Math.abs(t.getAmount()) < 0.01 && t.getAmount() != 0) {
-                amountFormatted = String.format("%9.2E", t.getAmount());
-            } else {
-                amountFormatted = String.format("%9.2f", t.getAmount());
+            // Rows are rendered straight into the table buffer, cell by cell, rather than through
+            // String.format, and written out a chunk at a time.
+            int rowStart = table.length();
+            table.append("| ").append(" ".repeat(sidePadding)).append("| ");
+            appendRight(table, String.valueOf(t.getId()), 2).append(" | ");
+            appendLeft(table, trimToFit(t.getDescription(), 12), 12).append(" | ");
+            appendAmount(table, t).append(" | ");
+            appendLeft(table, trimToFit(t.getCurrency().toString(), 8), 8).append(" | ");
+            appendLeft(table, trimToFit(t.getCategory().toString(), 9), 9).append(" | ");
+            appendLeft(table, trimToFit(t.getDate() == null ? "N/A" : t.getDate().toString(), 10), 10).append(" | ");
+            appendLeft(table, completedMark, 11).append(" | ");
+            appendLeft(table, trimToFit(t.getPriority().toString(), 8), 8).append(" |");
+            int rowWidth = table.length() - rowStart - 2;
+            table.append(" ".repeat(Math.max(0, TOTAL_WIDTH - 4 - rowWidth))).append(" |").append(LINE_SEPARATOR);
+
+            if (table.length() >= TABLE_CHUNK_CHARS) {
+                System.out.append(table);
+                table.setLength(0);
             }
-
-            String row = String.format(INNER_ROW_FORMAT,
-                    t.getId(),
-                    desc,
-                    amountFormatted,
-                    curr,
-                    cat,
-                    date,
-                    completedMark,
-                    prio
-            );
-
-            printTableLine(row, sidePadding);
         }
+        System.out.append(table);
+        table.setLength(0);
 
         printLine();
     }
 
 
+    private static StringBuilder appendLeft(StringBuilder sb, String content, int width) {
+        return sb.append(content).append(" ".repeat(Math.max(0, width - content.length())));
+    }
+
+    private static StringBuilder appendRight(StringBuilder sb, String content, int width) {
+        return sb.append(" ".repeat(Math.max(0, width - content.length()))).append(content);
+    }
+
+    /**
+     * Appends the amount of a transaction right-aligned in a 9-character cell with two decimals,
+     * switching to scientific notation for amounts that would not fit.
+     */
+    private static StringBuilder appendAmount(StringBuilder sb, Transaction t) {
+        if (Math.abs(t.getAmount()) >= 1e7) {
+            return sb.append(String.format("%9.2E", t.getAmount()));
+        }
+        return appendRight(sb, t.getMoney().toString(), 9);
+    }
+
     /**
      * 打印表格行，包裹 || 并居中填充空格
      */
@@ -296,6 +483,9 @@ public class Ui {
     }
 
     public void add(Transaction transaction) {
+        if (isQuiet) {
+            return;
+        }
         printLine();
         printCenteredTitle("Added the following transaction Successful:");
         printLine();
@@ -519,7 +709,7 @@ public class Ui {
 
         for (Currency currency : Currency.values()) {
             if (!currency.equals(Currency.SGD)) {
-                printLeftAlignedLine("1 SGD = " + currency.getRate() + " " + currency);
+                printLeftAlignedLine("1 SGD = " + RateTable.current().getRate(currency) + " " + currency);
             }
         }
 
@@ -597,7 +787,7 @@ public class Ui {
      * @param transactions The list of transactions.
      * @param index        The index of the transaction whose priority is being set.
      */
-    public void printPriority(ArrayList<Transaction> transactions, int index) {
+    public void printPriority(List<Transaction> transactions, int index) {
         printLine();
         if (transactions.isEmpty()) {
             System.out.println("Please add a transaction first before you set the priority!");
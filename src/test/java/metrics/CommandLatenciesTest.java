@@ -0,0 +1,50 @@
+package metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CommandLatenciesTest {
+    @BeforeEach
+    @AfterEach
+    public void reset() {
+        CommandLatencies.reset();
+    }
+
+    @Test
+    public void testRecord_leavesOutInputWait() {
+        long start = CommandLatencies.start();
+        CommandLatencies.addInputWait(60_000_000_000L);
+        CommandLatencies.record("add", start);
+
+        LatencyHistogram.Snapshot latency = CommandLatencies.snapshot().get("add");
+        assertEquals(1, latency.getCount());
+        assertTrue(latency.getMax() < 1_000_000_000L);
+    }
+
+    @Test
+    public void testDump_writesOneLinePerCommand() throws IOException {
+        CommandLatencies.record("list", CommandLatencies.start());
+        CommandLatencies.record("list", CommandLatencies.start());
+        CommandLatencies.record("budget set", CommandLatencies.start());
+        Path file = Files.createTempFile("latency", ".csv");
+
+        try {
+            CommandLatencies.dump(file);
+            List<String> lines = Files.readAllLines(file);
+            assertEquals(3, lines.size());
+            assertTrue(lines.get(1).startsWith("budget set,1,"));
+            assertTrue(lines.get(2).startsWith("list,2,"));
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import enums.Category;
+import enums.Currency;
+import enums.Status;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import parser.Parser;
+import seedu.duke.FinancialGoal;
+import seedu.duke.Transaction;
+import seedu.duke.TransactionManager;
+import seedu.duke.budget.Budget;
+import seedu.duke.budget.BudgetList;
+import ui.Ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FlightRecorderEventsTest {
+    private static List<RecordedEvent> record(Runnable action) throws IOException {
+        Path file = Files.createTempFile("events", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(CommandParseEvent.class);
+            recording.enable(CommandExecuteEvent.class);
+            recording.enable(BudgetCheckEvent.class);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testParser_unknownCommand_recordsParseAndFailedExecute() throws IOException {
+        List<RecordedEvent> events = record(() -> Parser.parser("frobnicate now", new Ui(),
+                new TransactionManager(), new FinancialGoal(), null));
+
+        assertEquals(2, events.size());
+        RecordedEvent parse = events.get(0);
+        assertEquals("seedu.duke.CommandParse", parse.getEventType().getName());
+        assertEquals("frobnicate", parse.getString("command"));
+        assertFalse(parse.getBoolean("isKnown"));
+        RecordedEvent execute = events.get(1);
+        assertEquals("seedu.duke.CommandExecute", execute.getEventType().getName());
+        assertEquals("unknown", execute.getString("command"));
+        assertTrue(execute.getBoolean("isFailed"));
+    }
+
+    @Test
+    public void testIsTransactionAllowedByBudget_recordsOutcome() throws IOException {
+        TransactionManager manager = new TransactionManager();
+        BudgetList budgets = new BudgetList();
+        budgets.add(new Budget("Food", 50.0, LocalDate.of(2099, 1, 31), Category.FOOD));
+        manager.setBudgetList(budgets);
+        Transaction t = new Transaction(1, "Dinner", 80.0, Currency.SGD, Category.FOOD,
+                LocalDate.of(2099, 1, 1), Status.PENDING);
+        t.setAmount(-80.0);
+
+        List<RecordedEvent> events = record(() -> manager.isTransactionAllowedByBudget(t));
+
+        assertEquals(1, events.size());
+        RecordedEvent check = events.get(0);
+        assertEquals(BudgetCheckEvent.CATEGORY_BUDGET, check.getString("budget"));
+        assertEquals("FOOD", check.getString("category"));
+        assertFalse(check.getBoolean("isAllowed"));
+    }
+}
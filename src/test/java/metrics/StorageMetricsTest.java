@@ -0,0 +1,48 @@
+package metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StorageMetricsTest {
+    private Path file;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        StorageMetrics.reset();
+        file = Files.createTempFile("storage", ".csv");
+        Files.writeString(file, "key=value\n".repeat(20_000));
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        StorageMetrics.reset();
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testNewReader_countsBytesActuallyRead() throws IOException {
+        try (BufferedReader reader = StorageMetrics.newReader(file.toFile())) {
+            assertEquals("key=value", reader.readLine());
+        }
+        FileIoMetrics partial = StorageMetrics.file(file.getFileName().toString());
+        assertEquals(1, partial.getOpens());
+        assertTrue(partial.getBytesRead() > 0 && partial.getBytesRead() < Files.size(file));
+
+        StorageMetrics.reset();
+        try (BufferedReader reader = StorageMetrics.newReader(file.toFile())) {
+            while (reader.readLine() != null) {
+                // read to the end
+            }
+        }
+        assertEquals(Files.size(file), StorageMetrics.file(file.getFileName().toString()).getBytesRead());
+    }
+}
@@ -2,6 +2,7 @@ package parser;
 
 import enums.Currency;
 import enums.Priority;
+import exceptions.InvalidCommand;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import seedu.duke.FinancialGoal;
@@ -122,6 +123,26 @@ class ParserTest {
         }
     }
 
+    @Test
+    void testTokenizeAdd_splitsPrefixesInAnyOrder() throws Exception {
+        assertArrayEquals(new String[]{"visa/mc fee", "10", "other", null},
+                Parser.tokenizeAdd("c/other  d/visa/mc fee a/10 "));
+        assertArrayEquals(new String[]{"coffee", "4.5", "food", "2025-04-01"},
+                Parser.tokenizeAdd("d/coffee a/4.5 c/food t/2025-04-01 a/9"));
+
+        InvalidCommand e = assertThrows(InvalidCommand.class, () -> Parser.tokenizeAdd("d/coffee a/4.5"));
+        assertEquals("No category found", e.getMessage());
+    }
+
+    @Test
+    void testTokenizeNotify_requiresAllFields() throws Exception {
+        assertArrayEquals(new String[]{"pay rent", "housing", "2025-05-01"},
+                Parser.tokenizeNotify("d/pay rent c/housing t/2025-05-01"));
+
+        InvalidCommand e = assertThrows(InvalidCommand.class, () -> Parser.tokenizeNotify("d/pay rent c/housing"));
+        assertEquals("No date found", e.getMessage());
+    }
+
     //@@author Lukapeng77
     @Test
     void testDeleteCommandValid() {
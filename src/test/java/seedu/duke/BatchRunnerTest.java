@@ -0,0 +1,69 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import ui.Ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BatchRunnerTest {
+    /**
+     * Storage that counts flushes instead of writing files.
+     */
+    private static class CountingStorage extends Storage {
+        private int flushes;
+        private int pendingAtLastFlush;
+
+        @Override
+        public void flushTransactions(TransactionManager transactions) {
+            flushes++;
+            pendingAtLastFlush = transactions.getPendingChanges().size();
+            transactions.markPersisted();
+        }
+    }
+
+    private static Ui scriptUi(String... lines) {
+        String script = String.join(System.lineSeparator(), lines);
+        return new Ui(new ByteArrayInputStream(script.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testRun_flushesEveryIntervalAndAtEnd() {
+        TransactionManager transactions = new TransactionManager();
+        CountingStorage storage = new CountingStorage();
+        Ui ui = scriptUi(
+                "# nightly import",
+                "add d/Coffee a/4.50 c/food t/2025-04-01",
+                "add d/Bus a/1.20 c/transport t/2025-04-01",
+                "",
+                "add d/Lunch a/8 c/food t/2025-04-02",
+                "list",
+                "tick 1",
+                "exit",
+                "add d/Never run a/1 c/food t/2025-04-03");
+
+        int count = new BatchRunner(ui, transactions, new FinancialGoal(), storage, 2).run();
+
+        assertEquals(5, count);
+        assertEquals(3, transactions.getNum());
+        assertTrue(transactions.searchTransaction(1).isCompleted());
+        assertEquals(3, storage.flushes);
+        assertEquals(1, storage.pendingAtLastFlush);
+    }
+
+    @Test
+    public void testRun_savesOnceWhenFlushingAtEnd() {
+        TransactionManager transactions = new TransactionManager();
+        CountingStorage storage = new CountingStorage();
+        Ui ui = scriptUi("add d/Coffee a/4.50 c/food t/2025-04-01", "add d/Bus a/1.20 c/transport t/2025-04-01");
+
+        new BatchRunner(ui, transactions, new FinancialGoal(), storage, BatchRunner.FLUSH_AT_END).run();
+
+        assertEquals(1, storage.flushes);
+        assertEquals(2, storage.pendingAtLastFlush);
+    }
+}
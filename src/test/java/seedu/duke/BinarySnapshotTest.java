@@ -0,0 +1,176 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedWriter;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import enums.Category;
+import enums.Currency;
+import enums.Priority;
+import enums.Status;
+import exceptions.StorageParseException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BinarySnapshotTest {
+    private static final File SETTINGS_FILE = new File("data/settings.csv");
+    private static final File CSV_FILE = new File("data/transactions.csv");
+    private static final File BINARY_FILE = new File("data/transactions.bin");
+
+    private byte[] originalSettings;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        new File("data").mkdirs();
+        originalSettings = SETTINGS_FILE.exists() ? Files.readAllBytes(SETTINGS_FILE.toPath()) : null;
+        CSV_FILE.delete();
+        BINARY_FILE.delete();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        if (originalSettings != null) {
+            Files.write(SETTINGS_FILE.toPath(), originalSettings);
+        } else {
+            SETTINGS_FILE.delete();
+        }
+        CSV_FILE.delete();
+        BINARY_FILE.delete();
+    }
+
+    private void useFormat(String format) throws IOException {
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(SETTINGS_FILE))) {
+            writer.write("transaction_format=" + format);
+            writer.newLine();
+        }
+    }
+
+    @Test
+    public void testWriteAndRead_preservesAllFields() throws IOException {
+        Transaction coffee = new Transaction(7, "Coffee, large ☕", 4.35, Currency.USD, Category.FOOD,
+                LocalDate.of(2025, 3, 14), Status.PENDING);
+        coffee.setRecurringPeriod(7);
+        coffee.setPriority(Priority.HIGH);
+        coffee.complete();
+        Transaction refund = new Transaction(8, "Refund", 12.0, Currency.SGD, Category.OTHER,
+                LocalDate.of(2025, 3, 15), Status.COMPLETED);
+        refund.delete();
+
+        BinarySnapshot.write(BINARY_FILE, List.of(coffee, refund));
+        ArrayList<Transaction> loaded = BinarySnapshot.read(BINARY_FILE);
+        assertEquals(BINARY_FILE.length() - 10, BinarySnapshot.rowBytes(coffee) + BinarySnapshot.rowBytes(refund));
+
+        assertEquals(2, loaded.size());
+        Transaction first = loaded.get(0);
+        assertEquals(7, first.getId());
+        assertEquals("Coffee, large ☕", first.getDescription());
+        assertEquals(4.35, first.getAmount(), 1e-9);
+        assertEquals(Currency.USD, first.getCurrency());
+        assertEquals(Category.FOOD, first.getCategory());
+        assertEquals(LocalDate.of(2025, 3, 14), first.getDate());
+        assertEquals(Priority.HIGH, first.getPriority());
+        assertEquals(7, first.getRecurringPeriod());
+        assertTrue(first.isCompleted());
+        assertFalse(first.isDeleted());
+        assertEquals(Status.COMPLETED, loaded.get(1).getStatus());
+        assertTrue(loaded.get(1).isDeleted());
+    }
+
+    @Test
+    public void testLoad_migratesCsvSnapshotToBinary() throws IOException {
+        useFormat("csv");
+        new Storage().saveTransactions(List.of(new Transaction(1, "Lunch", 10.0, Currency.SGD, Category.FOOD,
+                LocalDate.of(2025, 1, 1), Status.PENDING)));
+        assertTrue(CSV_FILE.exists());
+
+        useFormat("binary");
+        TransactionManager manager = new TransactionManager();
+        new Storage().load(manager);
+
+        assertEquals("Lunch", manager.searchTransaction(1).getDescription());
+        assertTrue(BINARY_FILE.exists());
+        assertFalse(CSV_FILE.exists());
+
+        useFormat("csv");
+        TransactionManager migratedBack = new TransactionManager();
+        new Storage().load(migratedBack);
+
+        assertEquals(1, migratedBack.getSize());
+        assertTrue(CSV_FILE.exists());
+        assertFalse(BINARY_FILE.exists());
+    }
+
+    @Test
+    public void testRead_corruptedLengths_throwsParseException() throws IOException {
+        BinarySnapshot.write(BINARY_FILE, List.of(new Transaction(1, "Lunch", 10.0, Currency.SGD, Category.FOOD,
+                LocalDate.of(2025, 1, 1), Status.PENDING)));
+        byte[] original = Files.readAllBytes(BINARY_FILE.toPath());
+
+        try (RandomAccessFile file = new RandomAccessFile(BINARY_FILE, "rw")) {
+            file.seek(6);
+            file.writeInt(Integer.MAX_VALUE);
+        }
+        assertThrows(StorageParseException.class, () -> BinarySnapshot.read(BINARY_FILE));
+
+        Files.write(BINARY_FILE.toPath(), original);
+        try (RandomAccessFile file = new RandomAccessFile(BINARY_FILE, "rw")) {
+            file.seek(original.length - "Lunch".length() - 4);
+            file.writeInt(Integer.MAX_VALUE);
+        }
+        assertThrows(StorageParseException.class, () -> BinarySnapshot.read(BINARY_FILE));
+
+        Files.write(BINARY_FILE.toPath(), original);
+        assertEquals("Lunch", BinarySnapshot.read(BINARY_FILE).get(0).getDescription());
+    }
+
+    @Test
+    public void testWriteAndRead_keepsAmountsBeyondFixedPointRange() throws IOException {
+        Money huge = Money.ofCents(Long.MAX_VALUE);
+        BinarySnapshot.write(BINARY_FILE, List.of(new Transaction(1, "Huge", huge, Currency.SGD, Category.FOOD,
+                LocalDate.of(2025, 1, 1), Status.PENDING)));
+
+        assertEquals(huge, BinarySnapshot.read(BINARY_FILE).get(0).getMoney());
+    }
+
+    @Test
+    public void testRead_fixedPointVersion_roundsToCents() throws IOException {
+        byte[] description = "Lunch".getBytes(StandardCharsets.UTF_8);
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(BINARY_FILE))) {
+            out.writeInt(BinarySnapshot.MAGIC);
+            out.writeShort(BinarySnapshot.FIXED_POINT_VERSION);
+            out.writeInt(1);
+            out.writeInt(7);
+            out.writeLong(12_345_678L);
+            out.writeByte(Currency.SGD.ordinal());
+            out.writeByte(Category.FOOD.ordinal());
+            out.writeByte(Status.PENDING.ordinal());
+            out.writeByte(-1);
+            out.writeInt((int) LocalDate.of(2025, 1, 1).toEpochDay());
+            out.writeInt(0);
+            out.writeByte(0);
+            out.writeInt(description.length);
+            out.write(description);
+        }
+
+        Transaction transaction = BinarySnapshot.read(BINARY_FILE).get(0);
+        assertEquals(7, transaction.getId());
+        assertEquals(Money.parse("12.35"), transaction.getMoney());
+        assertEquals("Lunch", transaction.getDescription());
+    }
+}
@@ -0,0 +1,136 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import enums.Category;
+import enums.Currency;
+import enums.Priority;
+import enums.Status;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ColumnarTransactionStoreTest {
+    private final List<Integer> changedIds = new ArrayList<>();
+    private ColumnarTransactionStore store;
+
+    @BeforeEach
+    public void setUp() {
+        store = new ColumnarTransactionStore(new TransactionListener() {
+            @Override
+            public void onTransactionChanging(Transaction transaction) {
+            }
+
+            @Override
+            public void onTransactionChanged(Transaction transaction) {
+                changedIds.add(transaction.getId());
+            }
+        });
+    }
+
+    private Transaction newTransaction(int id, String description) {
+        return new Transaction(id, description, 12.5, Currency.USD, Category.FOOD,
+                LocalDate.of(2025, 3, 14), Status.PENDING);
+    }
+
+    @Test
+    public void testMaterialize_restoresEveryColumn() {
+        Transaction original = newTransaction(4, "Lunch");
+        original.setAmount(-12.5);
+        original.setPriority(Priority.HIGH);
+        original.setRecurringPeriod(7);
+        original.complete();
+        store.add(original);
+        store.add(new Transaction(5, "Undated", 3.0, Currency.SGD, Category.OTHER, LocalDate.now(), Status.PENDING));
+        Transaction undated = store.get(1);
+        undated.setDate(null);
+        store.update(1, undated);
+
+        Transaction restored = store.materialize(0);
+        assertNotSame(original, restored);
+        assertEquals(4, restored.getId());
+        assertEquals("Lunch", restored.getDescription());
+        assertEquals(-12.5, restored.getAmount());
+        assertEquals(Currency.USD, restored.getCurrency());
+        assertEquals(Category.FOOD, restored.getCategory());
+        assertEquals(LocalDate.of(2025, 3, 14), restored.getDate());
+        assertEquals(Status.PENDING, restored.getStatus());
+        assertEquals(Priority.HIGH, restored.getPriority());
+        assertEquals(7, restored.getRecurringPeriod());
+        assertTrue(restored.isCompleted());
+        assertFalse(restored.isDeleted());
+
+        assertNull(store.materialize(1).getDate());
+    }
+
+    @Test
+    public void testGet_returnsSameViewWhileReferenced() {
+        Transaction transaction = newTransaction(1, "Coffee");
+        store.add(transaction);
+
+        assertSame(transaction, store.get(0));
+        assertSame(store.get(0), store.get(0));
+        assertEquals(0, store.indexOf(transaction));
+        assertEquals(-1, store.indexOf(newTransaction(1, "Coffee")));
+
+        Transaction second = newTransaction(2, "Tea");
+        store.add(second);
+        assertEquals(1, store.indexOf(second));
+        store.clear();
+        assertEquals(-1, store.indexOf(second));
+    }
+
+    @Test
+    public void testUpdate_writesEditsBackToColumns() {
+        store.add(newTransaction(1, "Coffee"));
+        store.add(newTransaction(2, "Coffee"));
+
+        Transaction view = store.get(1);
+        view.setDescription("Tea");
+        view.delete();
+        store.update(1, view);
+
+        assertEquals(List.of(2, 2), changedIds);
+        assertEquals(1, store.getId(0));
+        assertEquals("Coffee", store.getDescription(0));
+        assertEquals("Tea", store.getDescription(1));
+        assertFalse(store.isDeleted(0));
+        assertTrue(store.isDeleted(1));
+        assertEquals(Category.FOOD, store.getCategory(1));
+        assertEquals(0, store.getRecurringPeriod(1));
+    }
+
+    @Test
+    public void testClear_detachesViews() {
+        Transaction transaction = newTransaction(1, "Coffee");
+        store.add(transaction);
+
+        store.clear();
+        transaction.setDescription("Tea");
+
+        assertEquals(0, store.size());
+        assertTrue(changedIds.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> store.get(0));
+    }
+
+    @Test
+    public void testEnsureCapacity_growsEveryColumn() {
+        for (int id = 1; id <= 100; id++) {
+            store.add(newTransaction(id, "Row " + id));
+        }
+
+        assertEquals(100, store.size());
+        assertEquals(100, store.getId(99));
+        assertEquals("Row 57", store.getDescription(56));
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import enums.Category;
+import enums.Currency;
+import enums.Status;
+import exceptions.StorageParseException;
+import seedu.duke.budget.Budget;
+import seedu.duke.budget.BudgetList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HistoricalRatesTest {
+    private static final LocalDate JAN = LocalDate.of(2024, 1, 1);
+    private static final LocalDate FEB = LocalDate.of(2024, 2, 1);
+
+    @AfterEach
+    public void tearDown() {
+        HistoricalRates.install(HistoricalRates.EMPTY);
+    }
+
+    private static HistoricalRates load(String... lines) throws IOException {
+        File file = File.createTempFile("rate_history", ".csv");
+        file.deleteOnExit();
+        Files.write(file.toPath(), List.of(lines));
+        return HistoricalRates.load(file);
+    }
+
+    private static int day(LocalDate date) {
+        return (int) date.toEpochDay();
+    }
+
+    @Test
+    public void testGetRate_usesLatestObservationOnOrBeforeDay() throws IOException {
+        HistoricalRates history = load("# date,currency,units per SGD", "2024-02-01,USD,0.8",
+                "", "2024-01-01,USD,0.5", "2024-02-01,USD,0.75");
+
+        assertTrue(history.hasHistory(Currency.USD));
+        assertFalse(history.hasHistory(Currency.EUR));
+        assertEquals(0.5, history.getRate(Currency.USD, day(JAN.minusDays(10))));
+        assertEquals(0.5, history.getRate(Currency.USD, day(JAN)));
+        assertEquals(0.5, history.getRate(Currency.USD, day(FEB.minusDays(1))));
+        assertEquals(0.75, history.getRate(Currency.USD, day(FEB)));
+        assertEquals(0.75, history.getRate(Currency.USD, HistoricalRates.LATEST));
+        assertEquals(RateTable.current().getRate(Currency.EUR), history.getRate(Currency.EUR, day(FEB)));
+    }
+
+    @Test
+    public void testGetRate_memoizedLookupsMatchSearch() throws IOException {
+        HistoricalRates history = load("2024-01-01,USD,0.5", "2024-02-01,USD,0.75");
+        int collidingDay = day(JAN) + 1024;
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0.5, history.getRate(Currency.USD, day(JAN)));
+            assertEquals(0.75, history.getRate(Currency.USD, collidingDay));
+        }
+    }
+
+    @Test
+    public void testToSgdCents_convertsAtRateOfDay() throws IOException {
+        HistoricalRates history = load("2024-01-01,USD,0.5", "2024-02-01,USD,0.8");
+
+        assertEquals(2000, history.toSgdCents(1000, Currency.USD, day(JAN)));
+        assertEquals(1250, history.toSgdCents(1000, Currency.USD, day(FEB)));
+        assertEquals(1000, history.toSgdCents(1000, Currency.SGD, day(FEB)));
+    }
+
+    @Test
+    public void testLoad_rejectsInvalidLines() {
+        assertThrows(StorageParseException.class, () -> load("2024-01-01,USD"));
+        assertThrows(StorageParseException.class, () -> load("2024-13-01,USD,0.5"));
+        assertThrows(StorageParseException.class, () -> load("2024-01-01,XYZ,0.5"));
+        assertThrows(StorageParseException.class, () -> load("2024-01-01,USD,-1"));
+    }
+
+    @Test
+    public void testAggregates_convertEachTransactionAtItsDate() throws Exception {
+        TransactionManager manager = new TransactionManager();
+        manager.addTransaction(new Transaction(1, "Hotel", 10, Currency.USD, Category.HOUSING, JAN, Status.PENDING));
+        manager.addTransaction(new Transaction(2, "Dinner", 10, Currency.USD, Category.FOOD, FEB, Status.PENDING));
+        manager.addTransaction(new Transaction(3, "Taxi", 10, Currency.SGD, Category.TRANSPORT, FEB, Status.PENDING));
+        manager.tickTransaction(1);
+        manager.tickTransaction(2);
+        manager.tickTransaction(3);
+
+        HistoricalRates.install(load("2024-01-01,USD,0.5", "2024-02-01,USD,0.8"));
+
+        assertEquals(Map.of(Category.HOUSING, 20.0, Category.FOOD, 12.5, Category.TRANSPORT, 10.0),
+                manager.getCompletedAmountPerCategory());
+        assertEquals(42.5, manager.getTotalTransactionAmount());
+
+        manager.searchTransaction(2).setDate(JAN);
+        assertEquals(Map.of(Category.HOUSING, 20.0, Category.FOOD, 20.0, Category.TRANSPORT, 10.0),
+                manager.getCompletedAmountPerCategory());
+        assertEquals(50.0, manager.getCurrentBalanceInSGD());
+    }
+
+    private static Transaction newUsdExpense(int id, LocalDate date) {
+        Transaction expense = new Transaction(id, "Meal", 0, Currency.USD, Category.FOOD, date, Status.PENDING);
+        expense.setAmount(-10);
+        return expense;
+    }
+
+    @Test
+    public void testBudget_convertsEachExpenseAtItsDate() throws Exception {
+        TransactionManager manager = new TransactionManager();
+        BudgetList budgets = new BudgetList();
+        Budget budget = new Budget("Food", 100.0, LocalDate.of(2024, 12, 31), Category.FOOD);
+        budgets.add(budget);
+        manager.setBudgetList(budgets);
+        manager.addTransaction(newUsdExpense(1, JAN));
+        manager.addTransaction(newUsdExpense(2, FEB));
+        manager.tickTransaction(1);
+
+        HistoricalRates.install(load("2024-01-01,USD,0.5", "2024-02-01,USD,0.8"));
+
+        assertEquals(20.0, budget.getSpentAmount());
+        assertEquals(32.5, budget.getCommittedAmount());
+        assertEquals(80.0, budget.calculateRemaining());
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class IdAllocatorTest {
+
+    @Test
+    public void testNext_persistsOncePerBlock() {
+        List<Integer> writes = new ArrayList<>();
+        IdAllocator allocator = new IdAllocator(0, writes::add);
+
+        for (int i = 1; i <= 2500; i++) {
+            assertEquals(i, allocator.next());
+        }
+
+        assertEquals(List.of(1000, 2000, 3000), writes);
+        assertEquals(2500, allocator.getMaxId());
+    }
+
+    @Test
+    public void testRestartAfterCrash_skipsToNextBlock() {
+        List<Integer> writes = new ArrayList<>();
+        IdAllocator allocator = new IdAllocator(0, writes::add);
+        allocator.next();
+        allocator.next();
+
+        IdAllocator recovered = new IdAllocator(writes.get(writes.size() - 1), writes::add);
+
+        assertEquals(1001, recovered.next());
+    }
+
+    @Test
+    public void testRelease_persistsExactMaxId() {
+        List<Integer> writes = new ArrayList<>();
+        IdAllocator allocator = new IdAllocator(0, writes::add);
+        allocator.next();
+        allocator.observe(42);
+        allocator.release();
+
+        assertEquals(List.of(1000, 42), writes);
+        assertEquals(43, new IdAllocator(42, writes::add).next());
+    }
+
+    @Test
+    public void testObserve_reservesBlockAfterImportedId() {
+        List<Integer> writes = new ArrayList<>();
+        IdAllocator allocator = new IdAllocator(5, writes::add);
+        allocator.observe(3);
+        allocator.observe(5000);
+
+        assertEquals(List.of(5999), writes);
+        assertEquals(5001, allocator.next());
+    }
+}
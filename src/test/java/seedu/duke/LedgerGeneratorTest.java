@@ -0,0 +1,98 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import enums.Category;
+import enums.Currency;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LedgerGeneratorTest {
+    private static final String[] FILES = {"transactions.csv", "budgets.csv", "goal.csv", "meta.txt"};
+
+    private Path folder;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("ledger");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        for (String name : FILES) {
+            Files.deleteIfExists(folder.resolve("first").resolve(name));
+            Files.deleteIfExists(folder.resolve("second").resolve(name));
+        }
+        Files.deleteIfExists(folder.resolve("first"));
+        Files.deleteIfExists(folder.resolve("second"));
+        Files.deleteIfExists(folder);
+    }
+
+    @Test
+    public void testWriteLedger_sameSeedWritesSameLoadableFiles() throws IOException {
+        new LedgerGenerator(42).writeLedger(folder.resolve("first"), 2_000);
+        new LedgerGenerator(42).writeLedger(folder.resolve("second"), 2_000);
+
+        for (String name : FILES) {
+            assertArrayEquals(Files.readAllBytes(folder.resolve("first").resolve(name)),
+                    Files.readAllBytes(folder.resolve("second").resolve(name)));
+        }
+
+        File transactionsFile = folder.resolve("first").resolve("transactions.csv").toFile();
+        List<Transaction> transactions = MappedTransactionLoader.loadInParallel(transactionsFile);
+        assertEquals(2_000, transactions.size());
+        assertEquals(1, transactions.get(0).getId());
+        assertEquals(2_000, transactions.get(1_999).getId());
+        assertEquals("2000", Files.readString(folder.resolve("first").resolve("meta.txt")));
+
+        List<String> budgets = Files.readAllLines(folder.resolve("first").resolve("budgets.csv"));
+        assertFalse(budgets.isEmpty());
+        for (String budget : budgets) {
+            assertEquals(5, budget.split(",").length);
+        }
+        assertEquals(5, Files.readString(folder.resolve("first").resolve("goal.csv")).split(",").length);
+    }
+
+    @Test
+    public void testForEachTransaction_skewsTowardsFoodInSgd() {
+        LocalDate firstDate = LocalDate.of(2024, 1, 1);
+        LocalDate lastDate = LocalDate.of(2024, 12, 31);
+        Map<Category, Integer> perCategory = new EnumMap<>(Category.class);
+        int[] inSgd = new int[1];
+        List<Transaction> transactions = new ArrayList<>();
+        new LedgerGenerator(7, firstDate, lastDate).forEachTransaction(10_000, t -> {
+            perCategory.merge(t.getCategory(), 1, Integer::sum);
+            inSgd[0] += t.getCurrency() == Currency.SGD ? 1 : 0;
+            transactions.add(t);
+        });
+
+        for (Category category : Category.values()) {
+            assertTrue(perCategory.getOrDefault(category, 0) <= perCategory.get(Category.FOOD));
+        }
+        assertTrue(inSgd[0] > 8_000);
+        for (Transaction t : transactions) {
+            assertFalse(t.getDate().isBefore(firstDate) || t.getDate().isAfter(lastDate));
+            assertTrue(t.getAmount() > 0);
+        }
+
+        List<Transaction> other = new ArrayList<>();
+        new LedgerGenerator(8, firstDate, lastDate).forEachTransaction(10, other::add);
+        assertFalse(other.get(0).getDescription().equals(transactions.get(0).getDescription())
+                && other.get(0).getAmount() == transactions.get(0).getAmount());
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import enums.Category;
+import enums.Currency;
+import enums.Priority;
+import enums.Status;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MappedTransactionLoaderTest {
+    private File file;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        file = File.createTempFile("transactions", ".csv");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        file.delete();
+    }
+
+    private List<Transaction> load(String content) throws IOException {
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        List<Transaction> transactions = new ArrayList<>();
+        new MappedTransactionLoader().load(file, transactions::add);
+        return transactions;
+    }
+
+    @Test
+    public void testLoad_parsesAllColumns() throws IOException {
+        List<Transaction> transactions = load(
+                "3,Kopi 咖啡,4.350000,USD,FOOD,2025-03-14,pending,7,false,true,high\r\n"
+                + "4,Refund,12.000000,SGD,OTHER,2025-03-15,COMPLETED,0,TRUE,false,LOW");
+
+        assertEquals(2, transactions.size());
+        Transaction first = transactions.get(0);
+        assertEquals(3, first.getId());
+        assertEquals("Kopi 咖啡", first.getDescription());
+        assertEquals(4.35, first.getAmount());
+        assertEquals(Currency.USD, first.getCurrency());
+        assertEquals(Category.FOOD, first.getCategory());
+        assertEquals(LocalDate.of(2025, 3, 14), first.getDate());
+        assertEquals(Status.PENDING, first.getStatus());
+        assertEquals(7, first.getRecurringPeriod());
+        assertFalse(first.isDeleted());
+        assertTrue(first.isCompleted());
+        assertEquals(Priority.HIGH, first.getPriority());
+        assertTrue(transactions.get(1).isDeleted());
+    }
+
+    @Test
+    public void testLoad_skipsInvalidRows() throws IOException {
+        List<Transaction> transactions = load(
+                "1,Lunch,10.000000,SGD,FOOD,2025-01-01,PENDING,0,false,false,LOW\n"
+                + "\n"
+                + "2,Dinner, with friends,10.000000,SGD,FOOD,2025-01-01,PENDING,0,false,false,LOW\n"
+                + "3,Taxi,abc,SGD,TRANSPORT,2025-01-01,PENDING,0,false,false,LOW\n"
+                + "4,Taxi,5.000000,SGD,TRANSPORT,2025-02-30,PENDING,0,false,false,LOW\n"
+                + "5,Bus,1e1,SGD,TRANSPORT,2025-01-02,PENDING,0,false,false,LOW\n");
+
+        assertEquals(2, transactions.size());
+        assertEquals(1, transactions.get(0).getId());
+        assertEquals(10.0, transactions.get(1).getAmount());
+    }
+
+    @Test
+    public void testLoad_readsRowsInStorageFormat() throws IOException {
+        Transaction t = new Transaction(9, "Books", 37.123456, Currency.EUR, Category.EDUCATION,
+                LocalDate.of(2024, 12, 31), Status.PENDING);
+        String row = String.format("%d,%s,%s,%s,%s,%s,%s,%d,%b,%b,%s",
+                t.getId(), t.getDescription(), t.getMoney(), t.getCurrency(), t.getCategory(), t.getDate(),
+                t.getStatus(), t.getRecurringPeriod(), t.isDeleted(), t.isCompleted(), t.getPriority());
+
+        List<Transaction> transactions = load(row + System.lineSeparator());
+
+        assertEquals(1, transactions.size());
+        assertEquals(Money.parse("37.12"), transactions.get(0).getMoney());
+        assertEquals(LocalDate.of(2024, 12, 31), transactions.get(0).getDate());
+    }
+
+    @Test
+    public void testLoadInParallel_keepsFileOrderAcrossChunks() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 40_000; i++) {
+            int id = i == 0 ? 40_000 : i;
+            content.append(id).append(",Row ").append(i)
+                    .append(",1.500000,SGD,FOOD,2025-01-01,PENDING,0,false,false,LOW\n");
+        }
+        Files.write(file.toPath(), content.toString().getBytes(StandardCharsets.UTF_8));
+
+        List<Transaction> transactions = MappedTransactionLoader.loadInParallel(file);
+
+        assertEquals(40_000, transactions.size());
+        for (int i = 0; i < transactions.size(); i++) {
+            assertEquals("Row " + i, transactions.get(i).getDescription());
+        }
+        assertEquals(40_000, transactions.get(0).getId());
+        assertEquals(39_999, transactions.get(39_999).getId());
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.Test;
+
+import enums.Currency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MoneyTest {
+    @Test
+    public void testParse_roundsHalfUpToCents() {
+        assertEquals(1250, Money.parse("12.5").getCents());
+        assertEquals(29, Money.parse("0.285").getCents());
+        assertEquals(-1213, Money.parse(" -12.125 ").getCents());
+        assertEquals(435, Money.parse("4.350000").getCents());
+        assertThrows(NumberFormatException.class, () -> Money.parse("abc"));
+        assertThrows(NumberFormatException.class, () -> Money.parse("1e30"));
+    }
+
+    @Test
+    public void testOf_outOfRange_throws() {
+        assertEquals(Money.parse("1000000000000000"), Money.of(1e15));
+        assertThrows(NumberFormatException.class, () -> Money.of(1e30));
+        assertThrows(NumberFormatException.class, () -> Money.of(-1e30));
+        assertThrows(NumberFormatException.class, () -> Money.of(Double.NaN));
+        assertThrows(NumberFormatException.class, () -> Money.of(Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    public void testToString_hasTwoDecimals() {
+        assertEquals("12.50", Money.of(12.5).toString());
+        assertEquals("-0.05", Money.ofCents(-5).toString());
+        assertEquals("0.00", Money.ZERO.toString());
+    }
+
+    @Test
+    public void testArithmetic_isExact() {
+        Money total = Money.ZERO;
+        for (int i = 0; i < 1000; i++) {
+            total = total.plus(Money.of(0.1));
+        }
+        assertEquals(Money.ofCents(10_000), total);
+        assertEquals(Money.ZERO, total.minus(Money.parse("100")));
+        assertTrue(total.negate().isNegative());
+        assertTrue(Money.of(1.01).compareTo(Money.of(1.1)) < 0);
+    }
+
+    @Test
+    public void testConvertTo_roundsToCents() {
+        assertEquals(Money.parse("7.40"), RateTable.defaults().convert(Money.parse("10"), Currency.SGD, Currency.USD));
+        assertEquals(Money.parse("13.51"), RateTable.defaults().convert(Money.parse("10"), Currency.USD, Currency.SGD));
+        assertEquals(Money.parse("10"), RateTable.defaults().convert(Money.parse("10"), Currency.SGD, Currency.SGD));
+    }
+}
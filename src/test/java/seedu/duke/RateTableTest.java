@@ -0,0 +1,75 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+
+import enums.Currency;
+import exceptions.StorageParseException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RateTableTest {
+    @AfterEach
+    public void tearDown() {
+        RateTable.install(RateTable.defaults());
+    }
+
+    @Test
+    public void testDefaults_matchBuiltInRates() {
+        RateTable table = RateTable.defaults();
+
+        assertEquals(0.74, table.getRate(Currency.USD));
+        assertEquals(1.0, table.getFactor(Currency.EUR, Currency.EUR));
+        assertEquals(740, table.convertCents(1000, Currency.SGD, Currency.USD));
+        assertEquals(1351, table.convertCents(1000, Currency.USD, Currency.SGD));
+        assertEquals(-1351, table.convertCents(-1000, Currency.USD, Currency.SGD));
+    }
+
+    @Test
+    public void testLoad_overridesListedRates() throws IOException {
+        File file = File.createTempFile("rates", ".csv");
+        file.deleteOnExit();
+        Files.write(file.toPath(), List.of("# units per SGD", "USD, 0.8", "", "JPY,100"));
+
+        RateTable table = RateTable.load(file);
+
+        assertEquals(0.8, table.getRate(Currency.USD));
+        assertEquals(100.0, table.getRate(Currency.JPY));
+        assertEquals(Currency.EUR.getRate(), table.getRate(Currency.EUR));
+        assertEquals(12500, table.convertCents(100, Currency.USD, Currency.JPY));
+    }
+
+    @Test
+    public void testLoad_rejectsInvalidLines() throws IOException {
+        File file = File.createTempFile("rates", ".csv");
+        file.deleteOnExit();
+
+        Files.write(file.toPath(), List.of("USD"));
+        assertThrows(StorageParseException.class, () -> RateTable.load(file));
+        Files.write(file.toPath(), List.of("XYZ,1.0"));
+        assertThrows(StorageParseException.class, () -> RateTable.load(file));
+        Files.write(file.toPath(), List.of("USD,0"));
+        assertThrows(StorageParseException.class, () -> RateTable.load(file));
+    }
+
+    @Test
+    public void testInstall_swapsRatesUsedByCurrency() {
+        RateTable table = RateTable.of(Map.of(Currency.USD, 0.5));
+        assertTrue(table.getVersion() > RateTable.current().getVersion());
+
+        RateTable.install(table);
+
+        assertSame(table, RateTable.current());
+        assertEquals(0.5, RateTable.current().getRate(Currency.USD));
+        assertEquals(Money.parse("5.00"), RateTable.current().convert(Money.parse("10"), Currency.SGD, Currency.USD));
+    }
+}
@@ -7,14 +7,23 @@ import java.io.IOException;
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.List;
 import enums.Category;
 import enums.Currency;
 import enums.Status;
 import enums.Priority;
+import metrics.FileIoMetrics;
+import metrics.StorageMetrics;
+import seedu.duke.budget.Budget;
+import seedu.duke.budget.BudgetList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
@@ -25,6 +34,7 @@ public class StorageTest {
 
     @BeforeEach
     public void setUp() {
+        StorageMetrics.reset();
         storage = new Storage();
         testFolder = new File("data");
         testFile = new File("data/transactions.csv");
@@ -115,6 +125,161 @@ public class StorageTest {
         ArrayList<Transaction> loaded = storage.loadTransactions();
         assertTrue(loaded.isEmpty());
     }
-}
 
+    @Test
+    public void testSaveTransactions_recordsBytesWritten() {
+        ArrayList<Transaction> list = new ArrayList<>();
+        list.add(new Transaction(1, "Test", 10.0, Currency.SGD,
+                Category.OTHER, LocalDate.now(), Status.PENDING));
+        storage.saveTransactions(list);
+        storage.loadTransactions();
+
+        FileIoMetrics metrics = StorageMetrics.snapshot().get("transactions.csv");
+        assertEquals(2, metrics.getOpens());
+        assertEquals(testFile.length(), metrics.getBytesWritten());
+        assertEquals(testFile.length(), metrics.getBytesRead());
+        assertEquals(1.0, metrics.getWriteAmplification());
+    }
+
+    @Test
+    public void testLoadTransactions_reportsRowsAndBytes() {
+        ArrayList<Transaction> list = new ArrayList<>();
+        list.add(new Transaction(1, "Coffee", 5.0, Currency.SGD,
+                Category.FOOD, LocalDate.now(), Status.PENDING));
+        list.add(new Transaction(2, "Bus", 2.0, Currency.SGD,
+                Category.TRANSPORT, LocalDate.now(), Status.PENDING));
+        storage.saveTransactions(list);
+        storage.loadTransactions();
+
+        LoadReport report = storage.getLastLoadReport();
+        assertNotNull(report);
+        assertEquals(2, report.getRows());
+        assertEquals(testFile.length(), report.getBytes());
+        assertEquals(testFile.length() / 2.0, report.getBytesPerRow());
+    }
+
+    @Test
+    public void testSaveBudgets_unchangedRewrite_countsNoChangedBytes() throws IOException {
+        Path budgetFile = Path.of("data/budgets.csv");
+        byte[] original = Files.exists(budgetFile) ? Files.readAllBytes(budgetFile) : null;
+        try {
+            BudgetList budgets = new BudgetList();
+            budgets.add(new Budget("Food", 300, LocalDate.of(2025, 12, 31), Category.FOOD));
+            storage.saveBudgets(budgets);
+            long firstWrite = Files.size(budgetFile);
+            storage.saveBudgets(budgets);
+
+            FileIoMetrics metrics = StorageMetrics.file("budgets.csv");
+            assertEquals(2, metrics.getOpens());
+            assertEquals(2 * firstWrite, metrics.getBytesWritten());
+            assertEquals(firstWrite, metrics.getBytesChanged());
+            assertEquals(2.0, metrics.getWriteAmplification());
+        } finally {
+            if (original != null) {
+                Files.write(budgetFile, original);
+            } else {
+                Files.deleteIfExists(budgetFile);
+            }
+        }
+    }
+
+    @Test
+    public void testConstructor_readsSettingsOnce() throws IOException {
+        Path settingsFile = Path.of("data/settings.csv");
+        byte[] original = Files.exists(settingsFile) ? Files.readAllBytes(settingsFile) : null;
+        try {
+            Files.writeString(settingsFile, "transaction_storage=snapshot" + System.lineSeparator());
+            StorageMetrics.reset();
+            new Storage();
+            assertEquals(1, StorageMetrics.file("settings.csv").getOpens());
+        } finally {
+            if (original != null) {
+                Files.write(settingsFile, original);
+            } else {
+                Files.deleteIfExists(settingsFile);
+            }
+        }
+    }
+
+    @Test
+    public void testSaveTransactions_failedWrite_keepsPreviousSnapshot() throws IOException {
+        Path dataFolder = Files.createTempDirectory("duke-storage");
+        try {
+            Storage tempStorage = new Storage(dataFolder.toString());
+            ArrayList<Transaction> list = new ArrayList<>();
+            list.add(new Transaction(1, "Coffee", 5.0, Currency.SGD,
+                    Category.FOOD, LocalDate.now(), Status.PENDING));
+            tempStorage.saveTransactions(list);
+
+            List<Transaction> failing = new AbstractList<>() {
+                @Override
+                public Transaction get(int index) {
+                    if (index > 0) {
+                        throw new IllegalStateException("Failed while writing");
+                    }
+                    return list.get(0);
+                }
+
+                @Override
+                public int size() {
+                    return 2;
+                }
+            };
+            assertThrows(IllegalStateException.class, () -> tempStorage.saveTransactions(failing));
 
+            ArrayList<Transaction> loaded = tempStorage.loadTransactions();
+            assertEquals(1, loaded.size());
+            assertEquals("Coffee", loaded.get(0).getDescription());
+            assertFalse(new File(dataFolder.toFile(), "transactions.csv.tmp").exists());
+        } finally {
+            for (File file : dataFolder.toFile().listFiles()) {
+                file.delete();
+            }
+            Files.delete(dataFolder);
+        }
+    }
+
+    @Test
+    public void testCompaction_leavesLoadReportAndRecordsSnapshotWrite() throws Exception {
+        Path dataFolder = Files.createTempDirectory("duke-storage");
+        try {
+            Files.writeString(dataFolder.resolve("settings.csv"), "transaction_storage=journal"
+                    + System.lineSeparator() + "transaction_loader=reader" + System.lineSeparator());
+            Storage tempStorage = new Storage(dataFolder.toString());
+            ArrayList<Transaction> list = new ArrayList<>();
+            list.add(new Transaction(1, "Coffee", 5.0, Currency.SGD,
+                    Category.FOOD, LocalDate.now(), Status.PENDING));
+            tempStorage.saveTransactions(list);
+            tempStorage.loadTransactions();
+            LoadReport report = tempStorage.getLastLoadReport();
+            StorageMetrics.reset();
+
+            TransactionManager manager = new TransactionManager();
+            String description = "x".repeat(2000);
+            for (int id = 2; id <= 600; id++) {
+                manager.addTransaction(new Transaction(id, description, 1.0, Currency.SGD,
+                        Category.FOOD, LocalDate.now(), Status.PENDING));
+            }
+            tempStorage.flushTransactions(manager);
+            File compacting = new File(dataFolder.toFile(), "transactions.journal.compacting");
+            for (int i = 0; i < 200 && compacting.exists(); i++) {
+                Thread.sleep(50);
+            }
+
+            assertFalse(compacting.exists());
+            assertTrue(report == tempStorage.getLastLoadReport());
+            assertFalse(StorageMetrics.snapshot().containsKey("transactions.csv.tmp"));
+            FileIoMetrics snapshotMetrics = StorageMetrics.file("transactions.csv");
+            assertEquals(0, snapshotMetrics.getBytesRead());
+            assertEquals(new File(dataFolder.toFile(), "transactions.csv").length(),
+                    snapshotMetrics.getBytesWritten());
+            assertTrue(snapshotMetrics.getBytesChanged() > 599 * 2000);
+            assertEquals(600, tempStorage.loadTransactions().size());
+        } finally {
+            for (File file : dataFolder.toFile().listFiles()) {
+                file.delete();
+            }
+            Files.delete(dataFolder);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.duke;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.List;
+
+import enums.Category;
+import enums.Currency;
+import enums.Status;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TransactionJournalTest {
+    private static final File SETTINGS_FILE = new File("data/settings.csv");
+    private static final File SNAPSHOT_FILE = new File("data/transactions.csv");
+    private static final File JOURNAL_FILE = new File("data/transactions.journal");
+
+    private byte[] originalSettings;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        new File("data").mkdirs();
+        originalSettings = SETTINGS_FILE.exists() ? Files.readAllBytes(SETTINGS_FILE.toPath()) : null;
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(SETTINGS_FILE))) {
+            writer.write("transaction_storage=journal");
+            writer.newLine();
+        }
+        SNAPSHOT_FILE.delete();
+        new TransactionJournal("data/transactions").reset();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        if (originalSettings != null) {
+            Files.write(SETTINGS_FILE.toPath(), originalSettings);
+        } else {
+            SETTINGS_FILE.delete();
+        }
+        SNAPSHOT_FILE.delete();
+        new TransactionJournal("data/transactions").reset();
+    }
+
+    private Transaction newTransaction(int id, String description) {
+        return new Transaction(id, description, 10.0, Currency.SGD, Category.FOOD,
+                LocalDate.of(2025, 1, id), Status.PENDING);
+    }
+
+    @Test
+    public void testSaveChanges_appendsToJournalOnly() {
+        Storage storage = new Storage();
+        TransactionManager manager = new TransactionManager();
+        manager.addTransaction(newTransaction(1, "Lunch"));
+        manager.addTransaction(newTransaction(2, "Dinner"));
+
+        storage.saveTransactions(manager);
+
+        assertFalse(SNAPSHOT_FILE.exists());
+        assertTrue(JOURNAL_FILE.exists());
+        assertTrue(manager.getPendingChanges().isEmpty());
+    }
+
+    @Test
+    public void testLoad_replaysEditsAndDeletesOnTopOfSnapshot() throws Exception {
+        Storage storage = new Storage();
+        storage.saveTransactions(List.of(newTransaction(1, "Lunch"), newTransaction(2, "Dinner")));
+
+        TransactionManager manager = new TransactionManager();
+        storage.load(manager);
+        manager.editInfo(1, "Brunch", 0);
+        manager.tickTransaction(1);
+        manager.deleteExpense(2);
+        manager.addTransaction(newTransaction(3, "Snack"));
+        storage.saveTransactions(manager);
+
+        TransactionManager reloaded = new TransactionManager();
+        new Storage().load(reloaded);
+
+        assertEquals(2, reloaded.getSize());
+        assertEquals("Brunch", reloaded.searchTransaction(1).getDescription());
+        assertTrue(reloaded.searchTransaction(1).isCompleted());
+        assertNull(reloaded.searchTransaction(2));
+        assertEquals("Snack", reloaded.searchTransaction(3).getDescription());
+    }
+
+    @Test
+    public void testLoad_clearRecordDropsEarlierTransactions() {
+        Storage storage = new Storage();
+        TransactionManager manager = new TransactionManager();
+        manager.setStorage(storage);
+        manager.addTransaction(newTransaction(1, "Lunch"));
+        storage.saveTransactions(manager);
+        manager.clear();
+        manager.addTransaction(newTransaction(1, "Taxi"));
+        storage.saveTransactions(manager);
+
+        TransactionManager reloaded = new TransactionManager();
+        new Storage().load(reloaded);
+
+        assertEquals(1, reloaded.getSize());
+        assertEquals("Taxi", reloaded.searchTransaction(1).getDescription());
+    }
+}
@@ -5,14 +5,20 @@ import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.List;
 
 import enums.Category;
 import enums.Currency;
+import enums.Priority;
 import enums.Status;
 import exceptions.InvalidCommand;
+import seedu.duke.budget.Budget;
+import seedu.duke.budget.BudgetList;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -171,6 +177,103 @@ public class TransactionManagerTest {
         assertEquals("Coffee", result.get(0).getDescription());
     }
 
+    @Test
+    public void testSearchTransactionListByKeyword_followsEditsAndDeletes() throws Exception {
+        manager.addTransaction(new Transaction(4, "Iced Coffee", 5.0, Currency.SGD, Category.FOOD,
+                LocalDate.now(), Status.PENDING));
+        manager.addTransaction(new Transaction(5, "Coffee beans", 20.0, Currency.SGD, Category.FOOD,
+                LocalDate.now(), Status.PENDING));
+        manager.addTransaction(new Transaction(6, "Bus ride", 2.0, Currency.SGD, Category.TRANSPORT,
+                LocalDate.now(), Status.PENDING));
+
+        assertEquals(2, manager.searchTransactionList(false, "coffee").size());
+        assertEquals(1, manager.searchTransactionList(false, "coffee iced").size());
+        assertEquals(2, manager.searchTransactionList(false, "cof*").size());
+        assertEquals(0, manager.searchTransactionList(false, "cof").size());
+
+        manager.editInfo(4, "Iced Tea", 0);
+        manager.deleteExpense(5);
+        assertEquals(0, manager.searchTransactionList(false, "coffee").size());
+        assertEquals(4, manager.searchTransactionList(false, "TEA").get(0).getId());
+    }
+
+    @Test
+    public void testFuzzySearchTransactionList_ranksClosestMatchesFirst() {
+        manager.addTransaction(new Transaction(7, "Starbucks latte", 6.0, Currency.SGD, Category.FOOD,
+                LocalDate.now(), Status.PENDING));
+        manager.addTransaction(new Transaction(8, "Starbuck", 6.0, Currency.SGD, Category.FOOD,
+                LocalDate.now(), Status.PENDING));
+        manager.addTransaction(new Transaction(9, "GrabFood dinner", 15.0, Currency.SGD, Category.FOOD,
+                LocalDate.now(), Status.PENDING));
+
+        List<Transaction> result = manager.fuzzySearchTransactionList("starbuks");
+        assertEquals(2, result.size());
+        assertEquals(7, result.get(0).getId());
+        assertEquals(8, result.get(1).getId());
+
+        assertEquals(9, manager.fuzzySearchTransactionList("grabfod").get(0).getId());
+        assertEquals(1, manager.fuzzySearchTransactionList("starbuck lat").size());
+        assertTrue(manager.fuzzySearchTransactionList("xyz").isEmpty());
+    }
+
+    @Test
+    public void testGetTotalTransactionAmount_sumsExactCents() {
+        for (int id = 1; id <= 1000; id++) {
+            manager.addTransaction(new Transaction(id, "Sweets", 0.10, Currency.USD, Category.FOOD,
+                    LocalDate.now(), Status.PENDING));
+        }
+        assertEquals(135.14, manager.getTotalTransactionAmount());
+        assertEquals(100.0, manager.getNormalAmount());
+
+        for (int id = 1; id <= 1000; id++) {
+            manager.deleteExpense(id);
+        }
+        assertEquals(0.0, manager.getTotalTransactionAmount());
+    }
+
+    @Test
+    public void testGetTransactionPage_walksDateOrder() {
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        for (int i = 0; i < 25; i++) {
+            manager.addTransaction("Item " + i, i + 1, Category.OTHER, start.plusDays((i * 7) % 5));
+        }
+        manager.deleteExpense(3);
+        manager.searchTransaction(10).setDate(start.minusDays(1));
+        List<Transaction> view = manager.getTransactionView();
+
+        assertEquals(24, manager.getSize());
+        assertEquals(view.subList(0, 10), manager.getTransactionPage(1, 10));
+        assertEquals(view.subList(10, 20), manager.getTransactionPage(2, 10));
+        assertEquals(view.subList(20, 24), manager.getTransactionPage(3, 10));
+        assertEquals(view.subList(7, 14), manager.getTransactionPage(2, 7));
+        assertTrue(manager.getTransactionPage(4, 10).isEmpty());
+        assertEquals(10, manager.getTransactionPage(1, 10).get(0).getId());
+    }
+
+    @Test
+    public void testColumnarStore_keepsEditsAndIndexesInSync() throws Exception {
+        LocalDate today = LocalDate.now();
+        manager.addTransaction("Rent", 900.0, Category.OTHER, today.plusDays(2));
+        manager.useColumnarStore();
+        manager.addTransaction("Lunch", 12.0, Category.FOOD, today);
+        manager.addTransaction("Taxi", 20.0, Category.TRANSPORT, today.plusDays(1));
+
+        manager.editInfo(2, "Team lunch", 0);
+        manager.editInfo(3, "25", 2);
+        manager.deleteExpense(1);
+
+        List<Transaction> view = manager.getTransactionView();
+        assertEquals(2, view.size());
+        assertEquals("Team lunch", view.get(0).getDescription());
+        assertEquals(25.0, view.get(1).getAmount());
+        assertSame(view.get(1), manager.searchTransaction(3));
+        assertEquals(2, manager.getSize());
+        assertEquals(3, manager.searchTransactionList(false, "Taxi").get(0).getId());
+        assertEquals(2, manager.searchTransactionList(false, "team").get(0).getId());
+        assertEquals(1, manager.getTransactionsBetween(today.plusDays(1), today.plusDays(2)).size());
+        assertNull(manager.searchTransaction(1));
+    }
+
     @Test
     public void testSearchTransactionListInvalidId() {
         assertThrows(InvalidCommand.class, () -> {
@@ -282,5 +385,163 @@ public class TransactionManagerTest {
         manager.editInfo(13, "usd", 3);
         assertEquals(Currency.USD, t.getCurrency());
     }
-}
 
+    @Test
+    public void testGetTransactionsBetween_followsDateEditsAndDeletes() {
+        Transaction t1 = new Transaction(21, "Rent", 900.0, Currency.SGD, Category.HOUSING,
+                LocalDate.of(2024, 1, 5), Status.PENDING);
+        Transaction t2 = new Transaction(22, "Bus", 2.0, Currency.SGD, Category.TRANSPORT,
+                LocalDate.of(2024, 1, 10), Status.PENDING);
+        Transaction t3 = new Transaction(23, "Gym", 50.0, Currency.SGD, Category.HEALTH,
+                LocalDate.of(2024, 2, 1), Status.PENDING);
+        manager.addTransaction(t1);
+        manager.addTransaction(t2);
+        manager.addTransaction(t3);
+
+        t3.setDate(LocalDate.of(2024, 1, 1));
+        manager.deleteExpense(22);
+
+        ArrayList<Transaction> result = manager.getTransactionsBetween(LocalDate.of(2024, 1, 1),
+                LocalDate.of(2024, 1, 31));
+        assertEquals(2, result.size());
+        assertEquals(23, result.get(0).getId());
+        assertEquals(21, result.get(1).getId());
+        assertTrue(manager.getTransactionsOnDate(LocalDate.of(2024, 2, 1)).isEmpty());
+    }
+
+    @Test
+    public void testGetTransactionsOnDate_keepsInsertionOrderForSameDate() {
+        LocalDate date = LocalDate.of(2024, 3, 3);
+        manager.addTransaction(new Transaction(31, "A", 1.0, Currency.SGD, Category.FOOD, date, Status.PENDING));
+        manager.addTransaction(new Transaction(32, "B", 1.0, Currency.SGD, Category.FOOD, date, Status.PENDING));
+        manager.addTransaction(new Transaction(33, "C", 1.0, Currency.SGD, Category.FOOD, date, Status.PENDING));
+
+        manager.searchTransaction(31).setPriority(Priority.HIGH);
+
+        ArrayList<Transaction> result = manager.getTransactionsOnDate(date);
+        assertEquals(31, result.get(0).getId());
+        assertEquals(32, result.get(1).getId());
+        assertEquals(33, result.get(2).getId());
+    }
+
+    @Test
+    public void testGetTransactionView_isCachedReadOnlyAndFollowsChanges() {
+        Transaction t1 = new Transaction(41, "Late", 1.0, Currency.SGD, Category.FOOD,
+                LocalDate.of(2024, 5, 1), Status.PENDING);
+        Transaction t2 = new Transaction(42, "Early", 1.0, Currency.SGD, Category.FOOD,
+                LocalDate.of(2024, 4, 1), Status.PENDING);
+        manager.addTransaction(t1);
+        manager.addTransaction(t2);
+
+        List<Transaction> view = manager.getTransactionView();
+        assertSame(view, manager.getTransactionView());
+        assertEquals(42, view.get(0).getId());
+        assertThrows(UnsupportedOperationException.class, () -> view.add(t1));
+
+        t1.complete();
+        assertSame(view, manager.getTransactionView());
+
+        t1.setDate(LocalDate.of(2024, 3, 1));
+        assertEquals(41, manager.getTransactionView().get(0).getId());
+        assertEquals(42, view.get(0).getId());
+    }
+
+    @Test
+    public void testStatistics_followTickEditDeleteAndConvert() throws Exception {
+        manager.addTransaction(new Transaction(51, "Salary", 100.0, Currency.SGD, Category.OTHER,
+                LocalDate.of(2024, 1, 1), Status.PENDING));
+        manager.addTransaction(new Transaction(52, "Books", 37.0, Currency.USD, Category.EDUCATION,
+                LocalDate.of(2024, 1, 2), Status.PENDING));
+        manager.addTransaction(new Transaction(53, "Snack", 4.0, Currency.SGD, Category.FOOD,
+                LocalDate.of(2024, 1, 3), Status.PENDING));
+
+        manager.tickTransaction(51);
+        manager.tickTransaction(52);
+        assertEquals(2, manager.getCompletionStats()[0]);
+        assertEquals(1, manager.getCompletionStats()[1]);
+        assertEquals(150.0, manager.getCurrentBalanceInSGD(), 1e-9);
+        assertEquals(50.0, manager.getCompletedAmountPerCategory().get(Category.EDUCATION), 1e-9);
+
+        manager.editInfo(51, "EDUCATION", 1);
+        manager.searchTransaction(52).convertTo(Currency.SGD);
+        assertEquals(150.0, manager.getCompletedAmountPerCategory().get(Category.EDUCATION), 1e-9);
+        assertFalse(manager.getCompletedAmountPerCategory().containsKey(Category.OTHER));
+
+        manager.unTickTransaction(51);
+        manager.deleteExpense(53);
+        assertEquals(1, manager.getCompletionStats()[0]);
+        assertEquals(1, manager.getCompletionStats()[1]);
+        assertEquals(50.0, manager.getCurrentBalanceInSGD(), 1e-9);
+        assertEquals(150.0, manager.getTotalTransactionAmount(), 1e-9);
+        assertEquals(150.0, manager.getNormalAmount(), 1e-9);
+    }
+
+    private Transaction newExpense(int id, String description, double amount, LocalDate date) {
+        Transaction expense = new Transaction(id, description, 0, Currency.SGD, Category.FOOD, date, Status.PENDING);
+        expense.setAmount(-amount);
+        return expense;
+    }
+
+    @Test
+    public void testBudgetSpending_followsTransactionChanges() throws Exception {
+        BudgetList budgets = new BudgetList();
+        Budget budget = new Budget("Food", 50.0, LocalDate.of(2024, 1, 31), Category.FOOD);
+        budgets.add(budget);
+        manager.setBudgetList(budgets);
+
+        manager.addTransaction(newExpense(61, "Dinner", 30.0, LocalDate.of(2024, 1, 10)));
+        manager.addTransaction(newExpense(62, "Feast", 30.0, LocalDate.of(2024, 2, 10)));
+        assertEquals(0.0, budget.getSpentAmount(), 1e-9);
+        assertEquals(30.0, budget.getCommittedAmount(), 1e-9);
+
+        manager.tickTransaction(61);
+        assertEquals(30.0, budget.getSpentAmount(), 1e-9);
+        assertTrue(manager.isTransactionAllowedByBudget(manager.searchTransaction(61)));
+
+        Transaction lunch = newExpense(63, "Lunch", 25.0, LocalDate.of(2024, 1, 11));
+        assertFalse(manager.isTransactionAllowedByBudget(lunch));
+
+        manager.searchTransaction(62).setDate(LocalDate.of(2024, 1, 12));
+        manager.tickTransaction(62);
+        assertEquals(60.0, budget.getSpentAmount(), 1e-9);
+        assertEquals(-10.0, budget.calculateRemaining(), 1e-9);
+
+        manager.deleteExpense(61);
+        assertEquals(30.0, budget.getSpentAmount(), 1e-9);
+        assertEquals(30.0, budget.getCommittedAmount(), 1e-9);
+    }
+
+    @Test
+    public void testCalculateRemaining_countsCompletedExpensesOutsideBudgetPeriod() throws Exception {
+        BudgetList budgets = new BudgetList();
+        Budget budget = new Budget("Food", 50.0, LocalDate.of(2024, 1, 31), Category.FOOD);
+        budgets.add(budget);
+        manager.setBudgetList(budgets);
+
+        manager.addTransaction(newExpense(71, "Dinner", 10.0, LocalDate.of(2024, 1, 10)));
+        manager.addTransaction(newExpense(72, "Feast", 15.0, LocalDate.of(2024, 3, 10)));
+        manager.addTransaction(newExpense(73, "Snack", 5.0, LocalDate.of(2024, 1, 20)));
+        manager.tickTransaction(71);
+        manager.tickTransaction(72);
+
+        assertEquals(25.0, 50.0 - budget.calculateRemaining(), 1e-9);
+        assertEquals(10.0, budget.getSpentAmount(), 1e-9);
+        assertEquals(15.0, budget.getCommittedAmount(), 1e-9);
+
+        manager.deleteExpense(72);
+        assertEquals(40.0, budget.calculateRemaining(), 1e-9);
+    }
+
+    @Test
+    public void testAddTransaction_overflowingTotals_isRejectedWithoutChanges() {
+        LocalDate date = LocalDate.of(2024, 1, 10);
+        manager.addTransaction(new Transaction(81, "Huge", 5e16, Currency.SGD, Category.FOOD, date, Status.PENDING));
+        Transaction other = new Transaction(82, "Huger", 5e16, Currency.SGD, Category.FOOD, date, Status.PENDING);
+
+        assertThrows(ArithmeticException.class, () -> manager.addTransaction(other));
+        assertEquals(1, manager.getSize());
+        assertEquals(1, manager.getTransactions().size());
+        assertEquals(5e16, manager.getTotalTransactionAmount(), 1);
+        assertNull(manager.searchTransaction(82));
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.duke.budget;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import enums.Category;
+import seedu.duke.TransactionManager;
+import ui.Ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BudgetModeTest {
+    @Test
+    public void testModify_categoryWithBudget_rejected() {
+        BudgetList budgets = new BudgetList();
+        budgets.add(new Budget("Food", 50.0, LocalDate.of(2024, 1, 31), Category.FOOD));
+        budgets.add(new Budget("Bus", 20.0, LocalDate.of(2024, 1, 31), Category.TRANSPORT));
+        TransactionManager transactions = new TransactionManager();
+        transactions.setBudgetList(budgets);
+        Ui ui = new Ui(new ByteArrayInputStream("modify i/2 n/Meals c/food\nexit\n"
+                .getBytes(StandardCharsets.UTF_8)));
+
+        BudgetMode.enter(ui, budgets, transactions, null);
+
+        assertEquals(2, budgets.size());
+        assertEquals("Bus", budgets.get(1).getName());
+        assertEquals(Category.TRANSPORT, budgets.get(1).getCategory());
+        assertEquals(budgets.get(0), budgets.findByCategory(Category.FOOD));
+    }
+}
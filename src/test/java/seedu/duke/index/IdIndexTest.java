@@ -0,0 +1,58 @@
+package seedu.duke.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IdIndexTest {
+    private IdIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new IdIndex();
+    }
+
+    @Test
+    public void testPutAndGet() {
+        assertTrue(index.putIfAbsent(42, 0));
+        assertTrue(index.putIfAbsent(-7, 1));
+
+        assertEquals(0, index.get(42));
+        assertEquals(1, index.get(-7));
+        assertEquals(-1, index.get(5));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    public void testPutIfAbsent_keepsFirstSlot() {
+        index.putIfAbsent(3, 0);
+        assertFalse(index.putIfAbsent(3, 9));
+        assertEquals(0, index.get(3));
+    }
+
+    @Test
+    public void testRemove_keepsOtherKeysReachableAcrossResizes() {
+        for (int id = 1; id <= 10_000; id++) {
+            index.putIfAbsent(id, id - 1);
+        }
+        for (int id = 1; id <= 10_000; id += 2) {
+            assertTrue(index.remove(id));
+        }
+
+        assertEquals(5_000, index.size());
+        for (int id = 1; id <= 10_000; id++) {
+            assertEquals(id % 2 == 0 ? id - 1 : -1, index.get(id));
+        }
+    }
+
+    @Test
+    public void testClear() {
+        index.putIfAbsent(1, 0);
+        index.clear();
+        assertEquals(0, index.size());
+        assertFalse(index.contains(1));
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.duke.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TrigramIndexTest {
+    private TrigramIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new TrigramIndex();
+        for (String word : new String[]{"starbucks", "starbuck", "latte", "grabfood", "dinner", "taxi"}) {
+            index.add(word);
+        }
+    }
+
+    private Map<String, Integer> search(String query, int maxDistance) {
+        Map<String, Integer> matches = new TreeMap<>();
+        index.search(query, maxDistance, matches::put);
+        return matches;
+    }
+
+    @Test
+    public void testDistance() {
+        assertEquals(0, TrigramIndex.distance("latte", "latte"));
+        assertEquals(1, TrigramIndex.distance("starbuks", "starbucks"));
+        assertEquals(3, TrigramIndex.distance("kitten", "sitting"));
+        assertEquals(4, TrigramIndex.distance("", "taxi"));
+    }
+
+    @Test
+    public void testSearch_returnsWordsWithinDistance() {
+        assertEquals(Map.of("starbucks", 1, "starbuck", 2), search("starbuks", 2));
+        assertEquals(Map.of("starbucks", 1), search("starbuks", 1));
+        assertEquals(Map.of("grabfood", 1), search("grabfod", 1));
+        assertTrue(search("xyz", 1).isEmpty());
+    }
+
+    @Test
+    public void testSearch_shortQueryFallsBackToScan() {
+        assertEquals(Map.of("taxi", 1), search("tax", 1));
+    }
+
+    @Test
+    public void testAdd_ignoresDuplicatesAndClears() {
+        assertFalse(index.add("latte"));
+        assertEquals(6, index.size());
+
+        index.clear();
+        assertEquals(0, index.size());
+        assertTrue(search("latte", 0).isEmpty());
+        assertTrue(index.add("latte"));
+    }
+}
@@ -0,0 +1,45 @@
+package ui;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class OutputSinkTest {
+    @AfterEach
+    public void tearDown() {
+        OutputSink.uninstall();
+    }
+
+    @Test
+    public void testInstall_buffersUntilFlush() {
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        OutputSink.install(target);
+
+        System.out.println("first");
+        ConsoleFormatter.printCenteredLine("second");
+        assertEquals(0, target.size());
+
+        OutputSink.flush();
+        String[] lines = target.toString().split(System.lineSeparator());
+        assertEquals("first", lines[0]);
+        assertEquals(121, lines[1].length());
+    }
+
+    @Test
+    public void testUninstall_flushesAndRestoresOriginalStream() {
+        PrintStream originalOut = System.out;
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        OutputSink.install(target);
+        System.out.print("pending");
+
+        OutputSink.uninstall();
+
+        assertEquals("pending", target.toString());
+        assertSame(originalOut, System.out);
+    }
+}